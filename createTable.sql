@@ -66,6 +66,19 @@ CREATE TABLE `trip_locations` (
                                   FOREIGN KEY (`trip_date_id`) REFERENCES `trip_dates` (`id`) ON DELETE CASCADE
 );
 
+-- ID Generators Table (trip_dates, trip_locations의 ID를 50개씩 미리 할당)
+CREATE TABLE `id_generators` (
+                                 `name` VARCHAR(50) NOT NULL,
+                                 `next_val` BIGINT NOT NULL,
+                                 PRIMARY KEY (`name`)
+);
+
+-- 기존 데이터가 있으면 가장 큰 ID 다음 값부터 할당 (ddl-auto로 만든 DB는 서버 시작 시 TripCopyRepository가 맞춤)
+INSERT INTO `id_generators` (`name`, `next_val`)
+SELECT 'trip_dates', COALESCE(MAX(`id`), 0) + 1 FROM `trip_dates`
+UNION ALL
+SELECT 'trip_locations', COALESCE(MAX(`id`), 0) + 1 FROM `trip_locations`;
+
 -- Chat Rooms Table
 CREATE TABLE `chat_rooms` (
                               `id` BIGINT NOT NULL AUTO_INCREMENT,
@@ -104,10 +117,24 @@ CREATE TABLE `chat_messages` (
                                  `created_at` TIMESTAMP NOT NULL,
                                  `user_nickname` VARCHAR(50) NOT NULL,
                                  PRIMARY KEY (`id`),
+                                 INDEX `idx_chat_messages_room_id` (`chat_room_id`, `id`),
                                  FOREIGN KEY (`user_id`) REFERENCES `users` (`id`) ON DELETE CASCADE,
                                  FOREIGN KEY (`chat_room_id`) REFERENCES `chat_rooms` (`id`) ON DELETE CASCADE
 );
 
+-- Chat Read Cursors Table
+CREATE TABLE `chat_read_cursors` (
+                                     `id` BIGINT NOT NULL AUTO_INCREMENT,
+                                     `user_id` BIGINT NOT NULL,
+                                     `chat_room_id` BIGINT NOT NULL,
+                                     `last_read_message_id` BIGINT NOT NULL,
+                                     `updated_at` TIMESTAMP NOT NULL,
+                                     PRIMARY KEY (`id`),
+                                     UNIQUE KEY `uk_chat_read_cursors_user_room` (`user_id`, `chat_room_id`),
+                                     FOREIGN KEY (`user_id`) REFERENCES `users` (`id`) ON DELETE CASCADE,
+                                     FOREIGN KEY (`chat_room_id`) REFERENCES `chat_rooms` (`id`) ON DELETE CASCADE
+);
+
 -- Review Posts Table
 CREATE TABLE `review_posts` (
                                 `id` BIGINT NOT NULL AUTO_INCREMENT,
@@ -1,15 +1,18 @@
 package com.example.omg_project.domain.chat.config;
 
+import com.example.omg_project.domain.chat.dto.ChatEnvelope;
+import com.example.omg_project.domain.chat.kafka.ChatEnvelopeDeserializer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -18,39 +21,57 @@ import java.util.Map;
 @Configuration
 public class KafkaConsumerConfig {
 
+    // Kafka 서버 주소 (기본값: localhost:9092)
+    @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    // 리스너 컨테이너의 컨슈머 스레드 수 (기본값: 토픽 파티션 수, 파티션보다 많으면 남는 스레드는 유휴 상태)
+    @Value("${chat.kafka.listener-concurrency:${chat.kafka.partitions:6}}")
+    private int concurrency;
+
+    // 배치 리스너가 한 번의 poll로 가져오는 최대 레코드 수
+    @Value("${chat.kafka.max-poll-records:500}")
+    private int maxPollRecords;
+
     /**
      * Kafka 소비자 팩토리 빈을 정의합니다.
      *
-     * @return ConsumerFactory<String, String> Kafka 소비자 팩토리 인스턴스
+     * @return ConsumerFactory<String, ChatEnvelope> Kafka 소비자 팩토리 인스턴스
      */
     @Bean
-    public ConsumerFactory<String, String> consumerFactory() {
+    public ConsumerFactory<String, ChatEnvelope> consumerFactory() {
 
         Map<String, Object> config = new HashMap<>();   // Kafka 설정을 담을 맵 생성
 
-        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092");  // Kafka 서버 주소 설정
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);  // Kafka 서버 주소 설정
         config.put(ConsumerConfig.GROUP_ID_CONFIG, "chat-room-listener");   // Kafka 소비자 그룹 ID 설정
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);    // 오프셋은 배치 저장이 끝난 뒤 컨테이너가 커밋
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
 
         // 키와 값의 디시리얼라이저 설정
         config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
-        config.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName());
-        config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+        config.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, ChatEnvelopeDeserializer.class.getName());
 
         return new DefaultKafkaConsumerFactory<>(config);
     }
 
     /**
      * Kafka 리스너 컨테이너 팩토리 빈을 정의합니다.
+     * 파티션별로 컨슈머 스레드를 나누어, 같은 채팅방의 메시지 순서는 유지하면서 서로 다른 채팅방은 병렬로 처리합니다.
+     * 배치 리스너 모드로 poll 단위의 레코드를 한 번에 전달하고, 리스너가 정상 종료된 뒤에만 오프셋을 커밋합니다.
      *
-     * @return ConcurrentKafkaListenerContainerFactory<String, String> Kafka 리스너 컨테이너 팩토리 인스턴스
+     * @return ConcurrentKafkaListenerContainerFactory<String, ChatEnvelope> Kafka 리스너 컨테이너 팩토리 인스턴스
      */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, ChatEnvelope> kafkaListenerContainerFactory() {
 
-        ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();  // Kafka 리스너 컨테이너 팩토리 인스턴스 생성
+        ConcurrentKafkaListenerContainerFactory<String, ChatEnvelope> factory = new ConcurrentKafkaListenerContainerFactory<>();  // Kafka 리스너 컨테이너 팩토리 인스턴스 생성
 
         factory.setConsumerFactory(consumerFactory());  // 소비자 팩토리 설정
+        factory.setConcurrency(concurrency);    // 파티션 수만큼 컨슈머 스레드 실행
+        factory.setBatchListener(true); // poll 단위 배치 수신
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);   // 배치 처리 완료 후 오프셋 커밋
 
         return factory;
     }
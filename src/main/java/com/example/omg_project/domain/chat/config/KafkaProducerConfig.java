@@ -1,14 +1,16 @@
 package com.example.omg_project.domain.chat.config;
 
+import com.example.omg_project.domain.chat.dto.ChatEnvelope;
+import com.example.omg_project.domain.chat.kafka.ChatEnvelopeSerializer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -17,20 +19,24 @@ import java.util.Map;
 @Configuration
 public class KafkaProducerConfig {
 
+    // Kafka 서버 주소 (기본값: localhost:9092)
+    @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
     /**
      * Kafka 생산자 팩토리 빈을 정의합니다.
      *
-     * @return ProducerFactory<String, String> Kafka 생산자 팩토리 인스턴스
+     * @return ProducerFactory<String, ChatEnvelope> Kafka 생산자 팩토리 인스턴스
      */
     @Bean
-    public ProducerFactory<String, String> producerFactory() {
+    public ProducerFactory<String, ChatEnvelope> producerFactory() {
         Map<String, Object> config = new HashMap<>();   // Kafka 설정을 담을 맵 생성
 
-        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092");  // Kafka 서버 주소 설정
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);  // Kafka 서버 주소 설정
 
         // 키와 값의 시리얼라이저 설정
         config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ChatEnvelopeSerializer.class);
 
         return new DefaultKafkaProducerFactory<>(config);
     }
@@ -38,10 +44,10 @@ public class KafkaProducerConfig {
     /**
      * Kafka 템플릿 빈을 정의합니다.
      *
-     * @return KafkaTemplate<String, String> Kafka 템플릿 인스턴스
+     * @return KafkaTemplate<String, ChatEnvelope> Kafka 템플릿 인스턴스
      */
     @Bean
-    public KafkaTemplate<String, String> kafkaTemplate() {
+    public KafkaTemplate<String, ChatEnvelope> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
 }
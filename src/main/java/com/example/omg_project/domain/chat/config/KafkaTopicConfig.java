@@ -0,0 +1,34 @@
+package com.example.omg_project.domain.chat.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+public class KafkaTopicConfig {
+
+    public static final String CHAT_TOPIC = "chatTopic";  // 채팅 메시지 토픽 이름
+
+    @Value("${chat.kafka.partitions:6}")
+    private int partitions;
+
+    @Value("${chat.kafka.replicas:1}")
+    private int replicas;
+
+    /**
+     * 채팅 토픽 빈을 정의합니다.
+     * 메시지는 roomId를 키로 파티션에 분배되므로, 파티션 수가 곧 병렬로 처리할 수 있는 채팅방 그룹의 수가 됩니다.
+     * 이미 존재하는 토픽의 파티션 수가 더 적으면 KafkaAdmin이 파티션을 늘립니다.
+     *
+     * @return NewTopic 채팅 토픽 정의
+     */
+    @Bean
+    public NewTopic chatTopic() {
+        return TopicBuilder.name(CHAT_TOPIC)
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.omg_project.domain.chat.controller;
+
+import com.example.omg_project.domain.chat.dto.BadWordRequest;
+import com.example.omg_project.domain.chat.entity.BadWord;
+import com.example.omg_project.domain.chat.service.BadWordService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 관리자용 비속어 사전 관리 API 컨트롤러
+ * 사전이 변경되면 채팅 필터가 즉시 새 사전으로 교체됩니다.
+ */
+@RestController
+@RequestMapping("/admin/bad-words")
+@RequiredArgsConstructor
+public class BadWordApiController {
+
+    private final BadWordService badWordService;
+
+    /**
+     * 등록된 비속어 목록 조회
+     *
+     * @return 비속어 목록
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping
+    public ResponseEntity<List<BadWord>> getBadWords() {
+        return ResponseEntity.ok(badWordService.findAll());
+    }
+
+    /**
+     * 비속어 등록
+     *
+     * @param request 등록할 비속어
+     * @return 저장된 비속어
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping
+    public ResponseEntity<BadWord> addBadWord(@RequestBody BadWordRequest request) {
+        if (request.getWord() == null || request.getWord().isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(badWordService.addBadWord(request.getWord()));
+    }
+
+    /**
+     * 비속어 삭제
+     *
+     * @param id 삭제할 비속어 ID
+     * @return 응답
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteBadWord(@PathVariable("id") Long id) {
+        badWordService.deleteBadWord(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * DB의 비속어 사전을 다시 읽어 필터에 반영
+     *
+     * @return 응답
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/reload")
+    public ResponseEntity<Void> reload() {
+        badWordService.reload();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -2,14 +2,25 @@ package com.example.omg_project.domain.chat.controller;
 
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.PutObjectRequest;
-import com.example.omg_project.domain.chat.dto.ChatMessageDTO;
+import com.example.omg_project.domain.chat.dto.ChatHistoryMessage;
+import com.example.omg_project.domain.chat.dto.ChatOnlineMember;
+import com.example.omg_project.domain.chat.dto.ChatUnreadDTO;
 import com.example.omg_project.domain.chat.service.ChatService;
+import com.example.omg_project.global.exception.CustomException;
+import com.example.omg_project.global.exception.ErrorCode;
+import com.example.omg_project.global.jwt.util.JwtTokenizer;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -24,23 +35,92 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ChatApiController {
 
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
 
     private final ChatService chatService;
     private final AmazonS3 amazonS3;
+    private final JwtTokenizer jwtTokenizer;
 
     /**
-     * 특정 채팅방의 메시지를 조회하는 엔드포인트
-     * HTTP GET 요청을 받아 해당 채팅방의 메시지를 조회하고, 메시지 목록을 반환
+     * 특정 채팅방의 메시지를 한 페이지씩 조회하는 엔드포인트
+     * 메시지 ID를 커서로 사용하며, 결과는 중간 문자열 없이 응답 스트림에 바로 JSON 배열로 씁니다.
      *
      * @param roomId 조회할 채팅방의 ID
-     * @return 채팅방의 메시지 목록(ChatMessageDTO 객체의 리스트)
+     * @param before 이 ID보다 이전 메시지를 조회 (선택)
+     * @param after  이 ID 이후 메시지를 조회 (선택)
+     * @param limit  조회할 메시지 수 (기본 50, 최대 200)
+     * @return 메시지 ID 오름차순의 메시지 목록(id, message, createdAt, userNickname)
      */
     @GetMapping("/rooms/{roomId}/messages")
-    public ResponseEntity<List<ChatMessageDTO>> getMessages(@PathVariable("roomId") Long roomId) {
-        List<ChatMessageDTO> messages = chatService.getMessagesByRoomId(roomId);
-        return ResponseEntity.ok(messages);
+    public ResponseEntity<StreamingResponseBody> getMessages(@PathVariable("roomId") Long roomId,
+                                                             @RequestParam(value = "before", required = false) Long before,
+                                                             @RequestParam(value = "after", required = false) Long after,
+                                                             @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        List<ChatHistoryMessage> messages = chatService.getMessageHistory(roomId, before, after, limit);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = JSON_FACTORY.createGenerator(outputStream, JsonEncoding.UTF8)) {
+                generator.writeStartArray();
+                for (ChatHistoryMessage message : messages) {
+                    generator.writeStartObject();
+                    generator.writeNumberField("id", message.id());
+                    generator.writeStringField("message", message.message());
+                    generator.writeStringField("createdAt", message.createdAt().toString());
+                    generator.writeStringField("userNickname", message.userNickname());
+                    generator.writeEndObject();
+                }
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * 특정 채팅방에 접속 중인 멤버를 조회하는 엔드포인트
+     * 접속 상태가 바뀔 때마다 STOMP "/topic/chat/{roomId}/presence"로 접속 중인 사용자 ID 목록도 전송됩니다.
+     *
+     * @param roomId  조회할 채팅방의 ID
+     * @param request 클라이언트의 요청 정보 (accessToken 쿠키)
+     * @return 접속 중인 멤버 목록
+     */
+    @GetMapping("/rooms/{roomId}/online")
+    public ResponseEntity<List<ChatOnlineMember>> getOnlineMembers(@PathVariable("roomId") Long roomId, HttpServletRequest request) {
+        return ResponseEntity.ok(chatService.getOnlineMembers(roomId, getUserId(request)));
+    }
+
+    /**
+     * 로그인한 사용자가 참여한 채팅방별 안 읽은 메시지 수를 조회하는 엔드포인트
+     *
+     * @param request 클라이언트의 요청 정보 (accessToken 쿠키)
+     * @return 채팅방별 안 읽은 메시지 수 목록
+     */
+    @GetMapping("/unread")
+    public ResponseEntity<List<ChatUnreadDTO>> getUnreadCounts(HttpServletRequest request) {
+        return ResponseEntity.ok(chatService.getUnreadCounts(getUserId(request)));
+    }
+
+    /**
+     * 채팅방의 읽음 위치를 이동하는 엔드포인트
+     *
+     * @param roomId        채팅방 ID
+     * @param lastMessageId 마지막으로 읽은 메시지 ID (없으면 채팅방의 모든 메시지를 읽음 처리)
+     * @param request       클라이언트의 요청 정보 (accessToken 쿠키)
+     * @return 빈 응답
+     */
+    @PostMapping("/rooms/{roomId}/read")
+    public ResponseEntity<Void> markRead(@PathVariable("roomId") Long roomId,
+                                         @RequestParam(value = "lastMessageId", required = false) Long lastMessageId,
+                                         HttpServletRequest request) {
+        Long userId = getUserId(request);
+        if (lastMessageId == null) {
+            chatService.markRoomRead(roomId, userId);
+        } else {
+            chatService.markRead(roomId, userId, lastMessageId);
+        }
+        return ResponseEntity.noContent().build();
     }
 
     /**
@@ -64,4 +144,18 @@ public class ChatApiController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("File upload failed");
         }
     }
+
+    /**
+     * 쿠키의 accessToken에서 사용자 ID를 추출
+     *
+     * @param request 클라이언트의 요청 정보
+     * @return 사용자 ID
+     */
+    private Long getUserId(HttpServletRequest request) {
+        String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
+        if (accessToken == null) {
+            throw new CustomException(ErrorCode.TOKEN_NOT_FOUND);
+        }
+        return jwtTokenizer.getUserIdFromToken(accessToken);
+    }
 }
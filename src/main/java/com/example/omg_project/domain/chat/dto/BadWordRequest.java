@@ -0,0 +1,10 @@
+package com.example.omg_project.domain.chat.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class BadWordRequest {
+    private String word;
+}
@@ -0,0 +1,38 @@
+package com.example.omg_project.domain.chat.dto;
+
+/**
+ * Kafka로 전달되는 채팅 메시지 봉투
+ * 구분자 문자열 대신 필드를 가진 타입으로 전달하여, 닉네임이나 메시지에 ':'이 포함되어도 안전하게 처리합니다.
+ *
+ * @param version     봉투 스키마 버전
+ * @param roomId      채팅방 ID
+ * @param senderId    보낸 사용자 ID
+ * @param nickname    보낸 사용자 닉네임
+ * @param type        메시지 유형 (텍스트/이미지)
+ * @param body        메시지 내용 (텍스트 또는 이미지 URL)
+ * @param clientMsgId 클라이언트가 부여한 메시지 ID (선택)
+ * @param timestamp   메시지 수신 시각 (epoch millis)
+ */
+public record ChatEnvelope(int version,
+                           Long roomId,
+                           Long senderId,
+                           String nickname,
+                           MessageType type,
+                           String body,
+                           String clientMsgId,
+                           long timestamp) {
+
+    public static final int CURRENT_VERSION = 1;
+
+    public static ChatEnvelope of(Long roomId, Long senderId, String nickname, MessageType type, String body, String clientMsgId) {
+        return new ChatEnvelope(CURRENT_VERSION, roomId, senderId, nickname, type, body, clientMsgId, System.currentTimeMillis());
+    }
+
+    public ChatEnvelope withBody(String body) {
+        return new ChatEnvelope(version, roomId, senderId, nickname, type, body, clientMsgId, timestamp);
+    }
+
+    public enum MessageType {
+        TEXT, IMAGE
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.omg_project.domain.chat.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 히스토리 조회용 프로젝션
+ * 연관된 User, ChatRoom을 불러오지 않도록 필요한 컬럼만 조회합니다.
+ *
+ * @param id           메시지 ID
+ * @param userNickname 보낸 사용자 닉네임
+ * @param message      메시지 내용
+ * @param createdAt    작성 시각
+ */
+public record ChatHistoryMessage(Long id, String userNickname, String message, LocalDateTime createdAt) {
+}
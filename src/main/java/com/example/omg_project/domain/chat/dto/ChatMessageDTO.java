@@ -10,4 +10,5 @@ public class ChatMessageDTO {
     private String message;
     private String createdAt;
     private String userNickname;
+    private String clientMsgId; // 실시간 전송 시 클라이언트가 보낸 메시지 ID (히스토리 조회 시 null)
 }
@@ -0,0 +1,10 @@
+package com.example.omg_project.domain.chat.dto;
+
+/**
+ * 채팅방에 접속 중인 멤버
+ *
+ * @param userId   사용자 ID
+ * @param nickname 사용자 닉네임
+ */
+public record ChatOnlineMember(Long userId, String nickname) {
+}
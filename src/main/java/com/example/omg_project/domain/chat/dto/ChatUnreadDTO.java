@@ -0,0 +1,11 @@
+package com.example.omg_project.domain.chat.dto;
+
+/**
+ * 채팅방별 안 읽은 메시지 수
+ *
+ * @param roomId      채팅방 ID
+ * @param tripName    채팅방이 속한 여행 이름
+ * @param unreadCount 안 읽은 메시지 수
+ */
+public record ChatUnreadDTO(Long roomId, String tripName, long unreadCount) {
+}
@@ -9,11 +9,15 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "chat_messages")
+@Table(name = "chat_messages", indexes = @Index(name = "idx_chat_messages_room_id", columnList = "chat_room_id, id"))
 @Getter
 @Setter
 @NoArgsConstructor
 public class ChatMessage {
+
+    // message 컬럼 길이 (저장 형식인 JSON 문자열 기준)
+    public static final int MESSAGE_MAX_LENGTH = 500;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -26,7 +30,7 @@ public class ChatMessage {
     @JoinColumn(name = "chat_room_id", nullable = false)
     private ChatRoom chatRoom;
 
-    @Column(nullable = false, length = 500)
+    @Column(nullable = false, length = MESSAGE_MAX_LENGTH)
     private String message;
 
     @Column(name = "created_at", nullable = false)
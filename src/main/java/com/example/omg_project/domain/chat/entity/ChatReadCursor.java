@@ -0,0 +1,36 @@
+package com.example.omg_project.domain.chat.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자가 채팅방에서 마지막으로 읽은 메시지 위치
+ * 채팅 안 읽음 수는 이 위치 이후의 메시지 수로 계산합니다.
+ */
+@Entity
+@Table(name = "chat_read_cursors",
+        uniqueConstraints = @UniqueConstraint(name = "uk_chat_read_cursors_user_room", columnNames = {"user_id", "chat_room_id"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class ChatReadCursor {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "chat_room_id", nullable = false)
+    private Long chatRoomId;
+
+    @Column(name = "last_read_message_id", nullable = false)
+    private Long lastReadMessageId;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,33 @@
+package com.example.omg_project.domain.chat.kafka;
+
+import com.example.omg_project.domain.chat.dto.ChatEnvelope;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+
+/**
+ * JSON 바이트를 ChatEnvelope로 역직렬화하는 Kafka 디시리얼라이저
+ * 이후 버전에서 필드가 추가되어도 읽을 수 있도록 알 수 없는 필드는 무시합니다.
+ */
+public class ChatEnvelopeDeserializer implements Deserializer<ChatEnvelope> {
+
+    private static final ObjectReader READER = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .readerFor(ChatEnvelope.class);
+
+    @Override
+    public ChatEnvelope deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return READER.readValue(data);
+        } catch (IOException e) {
+            throw new SerializationException("Error deserializing chat envelope", e);
+        }
+    }
+}
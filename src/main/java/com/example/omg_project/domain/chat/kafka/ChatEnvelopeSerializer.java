@@ -0,0 +1,28 @@
+package com.example.omg_project.domain.chat.kafka;
+
+import com.example.omg_project.domain.chat.dto.ChatEnvelope;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * ChatEnvelope를 JSON 바이트로 직렬화하는 Kafka 시리얼라이저
+ */
+public class ChatEnvelopeSerializer implements Serializer<ChatEnvelope> {
+
+    private static final ObjectWriter WRITER = new ObjectMapper().writerFor(ChatEnvelope.class);
+
+    @Override
+    public byte[] serialize(String topic, ChatEnvelope envelope) {
+        if (envelope == null) {
+            return null;
+        }
+        try {
+            return WRITER.writeValueAsBytes(envelope);
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("Error serializing chat envelope", e);
+        }
+    }
+}
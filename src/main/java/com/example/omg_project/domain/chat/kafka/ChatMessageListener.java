@@ -1,31 +1,39 @@
 package com.example.omg_project.domain.chat.kafka;
 
+import com.example.omg_project.domain.chat.config.KafkaTopicConfig;
+import com.example.omg_project.domain.chat.dto.ChatEnvelope;
+import com.example.omg_project.domain.chat.dto.ChatHistoryMessage;
 import com.example.omg_project.domain.chat.dto.ChatMessageDTO;
 import com.example.omg_project.domain.chat.entity.ChatMessage;
 import com.example.omg_project.domain.chat.entity.ChatRoom;
-import com.example.omg_project.domain.chat.repository.ChatMessageRepository;
+import com.example.omg_project.domain.chat.repository.ChatMessageBatchRepository;
 import com.example.omg_project.domain.chat.repository.ChatRoomRepository;
 import com.example.omg_project.domain.chat.service.BadWordService;
-import com.example.omg_project.domain.chat.websocket.WebSocketHandler;
-import com.example.omg_project.domain.notification.service.NotificationService;
-import com.example.omg_project.domain.trip.entity.Team;
+import com.example.omg_project.domain.chat.service.redis.ChatPresenceRegistry;
+import com.example.omg_project.domain.chat.service.redis.ChatRecentMessageCache;
+import com.example.omg_project.domain.chat.service.redis.ChatRoomBroadcaster;
+import com.example.omg_project.domain.chat.service.redis.ChatUnreadCounter;
+import com.example.omg_project.domain.notification.entity.Notification;
+import com.example.omg_project.domain.notification.service.NotificationCoalescer;
 import com.example.omg_project.domain.trip.repository.TeamRepository;
-import com.example.omg_project.domain.user.entity.User;
 import com.example.omg_project.domain.user.repository.UserRepository;
 import com.example.omg_project.global.exception.CustomException;
 import com.example.omg_project.global.exception.ErrorCode;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Service;
-import org.springframework.web.socket.TextMessage;
-import org.springframework.web.socket.WebSocketSession;
 
 import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -37,132 +45,252 @@ import java.util.logging.Logger;
 @RequiredArgsConstructor
 public class ChatMessageListener {
 
-    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageBatchRepository chatMessageBatchRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final UserRepository userRepository;
     private final BadWordService badWordService;
-    private final NotificationService notificationService;
+    private final NotificationCoalescer notificationCoalescer;
     private final TeamRepository teamRepository;
+    private final ChatRoomBroadcaster chatRoomBroadcaster;
+    private final ChatRecentMessageCache chatRecentMessageCache;
+    private final ChatPresenceRegistry chatPresenceRegistry;
+    private final ChatUnreadCounter chatUnreadCounter;
 
     private static final Logger logger = Logger.getLogger(ChatMessageListener.class.getName());
 
+    // 저장용 메시지 JSON과 브로드캐스트용 DTO JSON을 만드는 공유 라이터
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectWriter DTO_WRITER = OBJECT_MAPPER.writerFor(ChatMessageDTO.class);
+
     /**
-     * Kafka 메시지를 수신하는 리스너 메서드
+     * Kafka 메시지를 배치로 수신하는 리스너 메서드
+     * 한 번의 poll로 받은 메시지들의 사용자와 채팅방을 각각 한 번의 쿼리로 조회하고, 하나의 JDBC 배치로 저장합니다.
+     * 배치 저장이 실패하면 한 건씩 다시 저장하여, 데이터 오류가 있는 메시지만 건너뛰고 나머지는 저장합니다.
+     * 한 건씩 저장하다 데이터 오류가 아닌 예외가 발생하면 그 레코드의 인덱스로 BatchListenerFailedException을 던져,
+     * 앞선 레코드의 오프셋은 커밋하고 실패한 레코드부터 다시 전달받습니다.
      *
-     * @param message 수신된 메시지의 페이로드
-     * @param topic   메시지가 수신된 토픽 이름
-     * @throws Exception 메시지 처리 중 발생한 예외
+     * @param envelopes 수신된 채팅 메시지 봉투 목록 (역직렬화에 실패한 레코드는 null)
      */
-    @KafkaListener(topics = "chatTopic", groupId = "chat-room-listener")
-    public void listen(@Payload String message, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) throws Exception {
+    @KafkaListener(topics = KafkaTopicConfig.CHAT_TOPIC, groupId = "chat-room-listener")
+    public void listen(@Payload List<ChatEnvelope> envelopes) {
+        // 역직렬화에 실패했거나 필수 값이 없는 메시지는 재전달해도 실패하므로 건너뜀
+        List<ChatEnvelope> validEnvelopes = new ArrayList<>(envelopes.size());
+        List<Integer> validIndexes = new ArrayList<>(envelopes.size());
+        for (int i = 0; i < envelopes.size(); i++) {
+            ChatEnvelope envelope = envelopes.get(i);
+            if (envelope == null || envelope.roomId() == null || envelope.senderId() == null
+                    || envelope.type() == null || envelope.body() == null) {
+                logger.log(Level.WARNING, "Skipping malformed message: " + envelope);
+                continue;
+            }
+            validEnvelopes.add(envelope);
+            validIndexes.add(i);
+        }
+        if (validEnvelopes.isEmpty()) {
+            return;
+        }
+
+        // 배치에 포함된 사용자와 채팅방을 각각 한 번의 쿼리로 조회
+        Set<Long> senderIds = new HashSet<>();
+        Set<Long> roomIds = new HashSet<>();
+        for (ChatEnvelope envelope : validEnvelopes) {
+            senderIds.add(envelope.senderId());
+            roomIds.add(envelope.roomId());
+        }
+        Set<Long> existingUserIds = new HashSet<>();
+        for (UserRepository.NicknameView user : userRepository.findByIdIn(senderIds)) {
+            existingUserIds.add(user.getId());
+        }
+        Map<Long, ChatRoom> chatRooms = new HashMap<>();
+        for (ChatRoom chatRoom : chatRoomRepository.findAllById(roomIds)) {
+            chatRooms.put(chatRoom.getId(), chatRoom);
+        }
+
+        // ChatMessage 객체로 변환
+        List<ChatMessage> chatMessages = new ArrayList<>(validEnvelopes.size());
+        List<ChatEnvelope> savedEnvelopes = new ArrayList<>(validEnvelopes.size());
+        List<Integer> recordIndexes = new ArrayList<>(validEnvelopes.size());
+        for (int i = 0; i < validEnvelopes.size(); i++) {
+            ChatEnvelope envelope = validEnvelopes.get(i);
+            ChatRoom chatRoom = chatRooms.get(envelope.roomId());
+            if (!existingUserIds.contains(envelope.senderId()) || chatRoom == null) {
+                logger.log(Level.WARNING, "Skipping message for unknown user or chat room: " + envelope);
+                continue;
+            }
+
+            // 비속어는 메시지 내용에만 적용
+            ChatEnvelope filtered = envelope.withBody(badWordService.filterMessage(envelope.body()));
+
+            // 저장 형식(JSON)으로 바꾼 길이가 컬럼 길이를 넘으면 배치 전체가 실패하므로 미리 건너뜀
+            String storedMessage = toStoredMessage(filtered);
+            if (storedMessage.length() > ChatMessage.MESSAGE_MAX_LENGTH) {
+                logger.log(Level.WARNING, "Skipping message longer than " + ChatMessage.MESSAGE_MAX_LENGTH + " characters: room " + envelope.roomId());
+                continue;
+            }
+
+            ChatMessage chatMessage = new ChatMessage();
+            chatMessage.setMessage(storedMessage);  // 메시지 내용 설정
+            chatMessage.setUser(userRepository.getReferenceById(filtered.senderId()));  // 사용자 정보 설정 (ID만 필요하므로 프록시 참조)
+            chatMessage.setChatRoom(chatRoom);  // 채팅방 정보 설정
+            chatMessage.setUserNickname(filtered.nickname());  // 사용자 닉네임 설정
+            chatMessage.setCreatedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(filtered.timestamp()), ZoneId.systemDefault()));
+            chatMessages.add(chatMessage);
+            savedEnvelopes.add(filtered);
+            recordIndexes.add(validIndexes.get(i));
+        }
+
+        // 변환된 ChatMessage 목록을 하나의 배치로 데이터베이스에 저장 (실패하면 한 건씩 다시 저장)
+        BatchListenerFailedException saveFailure = null;
         try {
-            // 메시지에서 roomId를 추출
-            String roomId = extractRoomIdFromMessage(message);
+            chatMessageBatchRepository.saveAll(chatMessages);
+        } catch (DataAccessException e) {
+            logger.log(Level.WARNING, "Batch insert failed, retrying messages one by one", e);
+            saveFailure = saveOneByOne(chatMessages, savedEnvelopes, recordIndexes);
+        }
 
-            // BadWordService를 이용해 메시지 필터링
-            message = badWordService.filterMessage(message);
+        // 저장된 메시지를 채팅방별 최근 메시지 캐시에 덧붙임 (캐시 오류는 저장 결과에 영향을 주지 않음)
+        Map<Long, List<ChatHistoryMessage>> recentByRoom = new LinkedHashMap<>();
+        for (ChatMessage chatMessage : chatMessages) {
+            recentByRoom.computeIfAbsent(chatMessage.getChatRoom().getId(), id -> new ArrayList<>())
+                    .add(new ChatHistoryMessage(chatMessage.getId(), chatMessage.getUserNickname(),
+                            chatMessage.getMessage(), chatMessage.getCreatedAt()));
+        }
+        try {
+            chatRecentMessageCache.append(recentByRoom);
+        } catch (Exception e) {
+            // 일부만 덧붙은 캐시는 중간이 빈 히스토리를 보여주므로, 해당 채팅방 캐시를 지워 다음 조회 때 DB에서 다시 채움
+            logger.log(Level.WARNING, "Error appending messages to recent message cache, evicting rooms " + recentByRoom.keySet(), e);
+            try {
+                chatRecentMessageCache.evictAll(recentByRoom.keySet());
+            } catch (Exception evictException) {
+                logger.log(Level.SEVERE, "Error evicting recent message cache for rooms " + recentByRoom.keySet(), evictException);
+            }
+        }
 
-            // 메시지를 ChatMessage 객체로 변환
-            ChatMessage chatMessage = parseMessage(message, roomId);
+        // 저장이 끝난 메시지는 재전달 시 중복 저장되므로, 이후 단계의 오류는 로깅만 함
+        Map<Long, List<Long>> membersByRoom = new HashMap<>();
+        Map<Long, Set<Long>> onlineByRoom = new HashMap<>();
+        Map<Long, String> tripNameByRoom = new HashMap<>();
+        Map<Long, Map<Long, List<Long>>> unreadMessageIds = new HashMap<>();
+        List<Notification> notifications = new ArrayList<>();
+        for (int i = 0; i < chatMessages.size(); i++) {
+            ChatMessage chatMessage = chatMessages.get(i);
+            ChatEnvelope envelope = savedEnvelopes.get(i);
+            try {
+                // 해당 채팅방에 연결된 모든 서버의 클라이언트에게 메시지 브로드캐스트
+                broadcastMessage(String.valueOf(envelope.roomId()), chatMessage, envelope);
 
-            // 변환된 ChatMessage 객체를 데이터베이스에 저장
-            chatMessageRepository.save(chatMessage);
-            message = message.split(":")[1] + ": " + parseJsonMessage(message.split(": ")[1]);
+                // 채팅방 멤버와 접속 중인 사용자는 배치 내 같은 채팅방마다 한 번만 조회
+                List<Long> memberIds = membersByRoom.computeIfAbsent(envelope.roomId(), teamRepository::findMemberIdsByChatRoomId);
+                Set<Long> onlineUserIds = onlineByRoom.computeIfAbsent(envelope.roomId(), chatPresenceRegistry::getOnlineUserIds);
+                tripNameByRoom.computeIfAbsent(envelope.roomId(), roomId -> teamRepository.findTripNameByChatRoomId(roomId).orElse("채팅방"));
 
-            // Team을 조회하여 각 사용자에게 알림 생성
-            Team team = teamRepository.findByChatRoomId(Long.parseLong(roomId))
-                    .orElseThrow(() -> new CustomException(ErrorCode.TEAM_NOT_FOUND));
+                // 보낸 사람과 채팅방을 보고 있는 사용자를 제외한 멤버의 안 읽은 메시지 수를 늘리고 알림 전송 (알림은 저장하지 않음)
+                String notificationMessage = envelope.nickname() + ": " + envelope.body();
+                for (Long memberId : memberIds) {
+                    if (!memberId.equals(envelope.senderId()) && !onlineUserIds.contains(memberId)) {
+                        unreadMessageIds.computeIfAbsent(memberId, id -> new HashMap<>())
+                                .computeIfAbsent(envelope.roomId(), id -> new ArrayList<>()).add(chatMessage.getId());
 
-            for (User user : team.getUsers()){
-                if (!user.getUsernick().equals(chatMessage.getUserNickname())){
-                    notificationService.createNotification(user, message, "CHAT", chatMessage.getId());
+                        Notification notification = new Notification();
+                        notification.setUserId(memberId);
+                        notification.setMessage(notificationMessage);
+                        notification.setNotificationType("CHAT");
+                        notification.setCreatedAt(chatMessage.getCreatedAt());
+                        notification.setRelatedEntityId(envelope.roomId());  // 채팅방 단위로 묶어서 전송
+                        notifications.add(notification);
+                    }
                 }
+            } catch (Exception e) {
+                // 메시지 처리 중 오류가 발생하면 로깅
+                logger.log(Level.SEVERE, "Error processing message", e);
             }
+        }
 
-            // 해당 채팅방에 연결된 모든 클라이언트에게 메시지 브로드캐스트
-            broadcastMessage(roomId, chatMessage);
+        // 배치 전체의 안 읽은 메시지 수를 한 번의 파이프라인으로 갱신
+        try {
+            chatUnreadCounter.increment(unreadMessageIds);
         } catch (Exception e) {
-            // 메시지 처리 중 오류가 발생하면 로깅
-            logger.log(Level.SEVERE, "Error processing message", e);
-            throw new CustomException(ErrorCode.INVALID_MESSAGE_FORMAT); // 기본적인 예외 처리로 변경
+            logger.log(Level.SEVERE, "Error incrementing chat unread counters", e);
+        }
+
+        // 채팅 알림은 사용자와 채팅방별로 묶어서 전송 (몰리는 메시지는 "여행 이름에 새 메시지 N개" 요약 하나로 전송)
+        notificationCoalescer.submit(notifications,
+                (last, count) -> tripNameByRoom.getOrDefault(last.getRelatedEntityId(), "채팅방") + "에 새 메시지 " + count + "개");
+
+        // 저장된 메시지의 후처리를 마친 뒤, 저장하지 못한 레코드부터 다시 전달받음
+        if (saveFailure != null) {
+            throw saveFailure;
         }
     }
 
     /**
-     * 메시지에서 roomId를 추출
+     * 배치 저장이 실패했을 때 메시지를 한 건씩 저장
+     * 데이터 오류(길이 초과, 제약 조건 위반 등)로 실패한 메시지는 로깅 후 건너뛰고, 그 밖의 오류가 발생하면 저장을 멈춥니다.
+     * 목록에는 저장에 성공한 메시지만 남깁니다.
      *
-     * @param message 원본 메시지 문자열 (형식: "roomId:userNickname:message")
-     * @return 추출된 roomId
+     * @param chatMessages   저장할 메시지 목록
+     * @param envelopes      메시지별 원본 봉투 목록
+     * @param recordIndexes  메시지별 배치 내 레코드 인덱스 목록
+     * @return 저장을 멈춘 레코드의 예외 (모두 처리했으면 null)
      */
-    private String extractRoomIdFromMessage(String message) {
-        // 메시지를 ':'을 기준으로 분리
-        String[] parts = message.split(":", 3);
-
-        // 메시지 형식이 올바르지 않으면 예외 발생
-        if (parts.length < 3) {
-            throw new CustomException(ErrorCode.INVALID_MESSAGE_FORMAT);
+    private BatchListenerFailedException saveOneByOne(List<ChatMessage> chatMessages, List<ChatEnvelope> envelopes, List<Integer> recordIndexes) {
+        int saved = 0;
+        BatchListenerFailedException failure = null;
+        for (int i = 0; i < chatMessages.size(); i++) {
+            ChatMessage chatMessage = chatMessages.get(i);
+            try {
+                chatMessageBatchRepository.saveAll(List.of(chatMessage));
+            } catch (DataIntegrityViolationException e) {
+                logger.log(Level.WARNING, "Skipping message rejected by the database: room " + chatMessage.getChatRoom().getId(), e);
+                continue;
+            } catch (DataAccessException e) {
+                failure = new BatchListenerFailedException("Failed to save chat message", e, recordIndexes.get(i));
+                break;
+            }
+            chatMessages.set(saved, chatMessage);
+            envelopes.set(saved, envelopes.get(i));
+            recordIndexes.set(saved, recordIndexes.get(i));
+            saved++;
         }
-
-        // roomId 반환
-        return parts[0];
+        chatMessages.subList(saved, chatMessages.size()).clear();
+        envelopes.subList(saved, envelopes.size()).clear();
+        recordIndexes.subList(saved, recordIndexes.size()).clear();
+        return failure;
     }
 
     /**
-     * 메시지 문자열을 ChatMessage 객체로 변환
+     * 메시지 봉투를 DB에 저장되는 메시지 형식으로 변환
+     * 기존 메시지와 동일하게 {"message": ...} 또는 {"imageUrl": ...} JSON 문자열로 저장합니다.
      *
-     * @param message 원본 메시지 문자열 (형식: "roomId:userNickname:message")
-     * @param roomId  메시지가 속한 채팅방 ID
-     * @return 변환된 ChatMessage 객체
+     * @param envelope 메시지 봉투
+     * @return 저장할 메시지 문자열
      */
-    private ChatMessage parseMessage(String message, String roomId) {
-        // 메시지를 ':'을 기준으로 분리
-        String[] parts = message.split(":", 3);
-
-        // 메시지 형식이 올바르지 않으면 예외 발생
-        if (parts.length < 3) {
+    private String toStoredMessage(ChatEnvelope envelope) {
+        String field = envelope.type() == ChatEnvelope.MessageType.IMAGE ? "imageUrl" : "message";
+        try {
+            return OBJECT_MAPPER.writeValueAsString(Map.of(field, envelope.body()));
+        } catch (JsonProcessingException e) {
             throw new CustomException(ErrorCode.INVALID_MESSAGE_FORMAT);
         }
-
-        // ChatMessage 객체 생성 및 속성 설정
-        ChatMessage chatMessage = new ChatMessage();
-        chatMessage.setMessage(parts[2].trim());  // 메시지 내용 설정
-        chatMessage.setUser(userRepository.findByUsernick(parts[1]));  // 사용자 정보 설정
-        Optional<ChatRoom> chatRoom = chatRoomRepository.findById(Long.parseLong(roomId));
-        if (chatRoom.isEmpty()) {
-            throw new CustomException(ErrorCode.CHAT_ROOM_NOT_FOUND);
-        }
-        chatMessage.setChatRoom(chatRoom.get());  // 채팅방 정보 설정
-        chatMessage.setUserNickname(parts[1]);  // 사용자 닉네임 설정
-
-        return chatMessage;
     }
 
     /**
-     * 채팅방에 연결된 모든 세션에 메시지를 전송
+     * 채팅방에 연결된 모든 서버의 세션에 메시지를 전송
+     * 메시지는 한 번만 직렬화하여 채팅방 채널로 발행하고, 각 서버는 받은 바이트를 그대로 세션에 전달합니다.
      *
      * @param roomId      메시지가 전송될 채팅방 ID
      * @param chatMessage 전송할 메시지 객체
-     * @throws IOException 메시지 전송 중 발생한 입출력 예외
+     * @param envelope    원본 메시지 봉투
+     * @throws IOException 메시지 직렬화 중 발생한 입출력 예외
      */
-    private void broadcastMessage(String roomId, ChatMessage chatMessage) throws IOException {
-        // 해당 채팅방에 연결된 WebSocket 세션들을 가져옴
-        Set<WebSocketSession> sessions = WebSocketHandler.getSessions(roomId);
-
-        if (sessions != null) {
-            // ChatMessage 객체를 ChatMessageDTO로 변환
-            ChatMessageDTO chatMessageDto = convertToDto(chatMessage);
-
-            // ChatMessageDTO를 JSON 문자열로 변환
-            ObjectMapper objectMapper = new ObjectMapper();
-            String jsonMessage = objectMapper.writeValueAsString(chatMessageDto);
-
-            // 각 WebSocket 세션에 메시지 전송
-            for (WebSocketSession session : sessions) {
-                if (session.isOpen()) {
-                    session.sendMessage(new TextMessage(jsonMessage));
-                }
-            }
-        }
+    private void broadcastMessage(String roomId, ChatMessage chatMessage, ChatEnvelope envelope) throws IOException {
+        // ChatMessage 객체를 ChatMessageDTO로 변환
+        ChatMessageDTO chatMessageDto = convertToDto(chatMessage);
+        chatMessageDto.setClientMsgId(envelope.clientMsgId());
+
+        // ChatMessageDTO를 JSON 바이트로 한 번만 변환하여 발행
+        chatRoomBroadcaster.publish(roomId, DTO_WRITER.writeValueAsBytes(chatMessageDto));
     }
 
     /**
@@ -181,33 +309,4 @@ public class ChatMessageListener {
 
         return dto;
     }
-
-    /**
-     * JSON 문자열에서 메시지 또는 이미지 URL 필드 값 추출
-     *
-     * @param jsonString JSON 문자열 (예: '{"message" : "안녕"}' 또는 '{"imageUrl" : "http://example.com/image.jpg"}')
-     * @return 추출된 메시지 내용 또는 이미지 URL
-     */
-    private String parseJsonMessage(String jsonString) {
-        try {
-            // ObjectMapper 인스턴스 생성
-            ObjectMapper objectMapper = new ObjectMapper();
-
-            // JSON 문자열을 JsonNode로 변환
-            JsonNode jsonNode = objectMapper.readTree(jsonString);
-
-            // "message" 또는 "imageUrl" 필드에서 값 추출
-            if (jsonNode.has("message")) {
-                return jsonNode.get("message").asText();
-            } else if (jsonNode.has("imageUrl")) {
-                return jsonNode.get("imageUrl").asText();
-            } else {
-                throw new CustomException(ErrorCode.INVALID_MESSAGE_FORMAT); // 필드가 없는 경우 사용자 정의 예외 발생
-            }
-        } catch (IOException e) {
-            logger.log(Level.SEVERE, "Error parsing JSON message", e);
-            throw new CustomException(ErrorCode.INVALID_MESSAGE_FORMAT); // JSON 파싱 오류를 사용자 정의 예외로 처리
-        }
-    }
-
 }
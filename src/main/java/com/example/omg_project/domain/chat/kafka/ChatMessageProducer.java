@@ -1,5 +1,7 @@
 package com.example.omg_project.domain.chat.kafka;
 
+import com.example.omg_project.domain.chat.config.KafkaTopicConfig;
+import com.example.omg_project.domain.chat.dto.ChatEnvelope;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -10,23 +12,20 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ChatMessageProducer {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaTemplate<String, ChatEnvelope> kafkaTemplate;
 
     /**
-     * 주어진 채팅방 ID와 메시지를 받아서 해당 Kafka 토픽으로 메시지를 전송하는 메서드
+     * 채팅 메시지 봉투를 Kafka 토픽으로 전송하는 메서드
+     * roomId를 레코드 키로 사용하여 같은 채팅방의 메시지는 항상 같은 파티션으로 전송되고 순서가 보장됩니다.
      *
-     * @param roomId  메시지가 전송될 채팅방 ID
-     * @param message 전송할 메시지 내용
+     * @param envelope 전송할 채팅 메시지 봉투
      */
-    public void sendMessage(String roomId, String message) {
-        String topicName = "chatTopic"; // 채팅 메시지를 전송할 Kafka 토픽 이름 설정
+    public void sendMessage(ChatEnvelope envelope) {
+        String topicName = KafkaTopicConfig.CHAT_TOPIC; // 채팅 메시지를 전송할 Kafka 토픽 이름 설정
 
-        log.info("채팅방 ID: " + roomId + ", 토픽: " + topicName + ", 메시지: " + message);
+        log.debug("채팅방 ID: {}, 토픽: {}, 보낸 사람: {}", envelope.roomId(), topicName, envelope.nickname());
 
-        // roomId와 메시지를 결합하여 최종 메시지 형식을 생성
-        message = roomId + ":" + message;
-
-        // KafkaTemplate을 사용해 메시지를 해당 토픽으로 전송
-        kafkaTemplate.send(topicName, message);
+        // KafkaTemplate을 사용해 roomId를 키로 메시지를 해당 토픽으로 전송
+        kafkaTemplate.send(topicName, String.valueOf(envelope.roomId()), envelope);
     }
 }
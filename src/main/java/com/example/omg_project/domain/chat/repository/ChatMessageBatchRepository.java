@@ -0,0 +1,63 @@
+package com.example.omg_project.domain.chat.repository;
+
+import com.example.omg_project.domain.chat.entity.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 채팅 메시지를 JDBC 배치로 한 번에 저장하는 저장소
+ * ChatMessage는 IDENTITY 전략을 사용하므로 Hibernate가 INSERT를 배치로 묶지 못해, 대량 저장은 JDBC로 직접 처리합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO chat_messages (user_id, chat_room_id, message, created_at, user_nickname) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 채팅 메시지 목록을 하나의 JDBC 배치로 저장하고, 생성된 ID를 각 메시지에 설정
+     *
+     * @param chatMessages 저장할 채팅 메시지 목록 (user, chatRoom이 설정되어 있어야 함)
+     */
+    @Transactional
+    public void saveAll(List<ChatMessage> chatMessages) {
+        if (chatMessages.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (ChatMessage chatMessage : chatMessages) {
+                    ps.setLong(1, chatMessage.getUser().getId());
+                    ps.setLong(2, chatMessage.getChatRoom().getId());
+                    ps.setString(3, chatMessage.getMessage());
+                    ps.setTimestamp(4, Timestamp.valueOf(chatMessage.getCreatedAt()));
+                    ps.setString(5, chatMessage.getUserNickname());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                // 배치로 생성된 ID를 저장 순서대로 메시지에 설정
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    int index = 0;
+                    while (keys.next() && index < chatMessages.size()) {
+                        chatMessages.get(index++).setId(keys.getLong(1));
+                    }
+                }
+            }
+            return null;
+        });
+    }
+}
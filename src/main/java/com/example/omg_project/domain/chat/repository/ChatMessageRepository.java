@@ -1,11 +1,52 @@
 package com.example.omg_project.domain.chat.repository;
 
+import com.example.omg_project.domain.chat.dto.ChatHistoryMessage;
 import com.example.omg_project.domain.chat.entity.ChatMessage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
-    List<ChatMessage> findByChatRoomId(Long chatRoomId);
-}
 
+    // 가장 최근 메시지부터 (chat_room_id, id) 인덱스 역순 조회
+    @Query("SELECT new com.example.omg_project.domain.chat.dto.ChatHistoryMessage(m.id, m.userNickname, m.message, m.createdAt) " +
+            "FROM ChatMessage m WHERE m.chatRoom.id = :roomId ORDER BY m.id DESC")
+    List<ChatHistoryMessage> findLatestHistory(@Param("roomId") Long roomId, Pageable pageable);
+
+    // 지정한 메시지보다 이전 메시지를 최근 것부터 조회
+    @Query("SELECT new com.example.omg_project.domain.chat.dto.ChatHistoryMessage(m.id, m.userNickname, m.message, m.createdAt) " +
+            "FROM ChatMessage m WHERE m.chatRoom.id = :roomId AND m.id < :before ORDER BY m.id DESC")
+    List<ChatHistoryMessage> findHistoryBefore(@Param("roomId") Long roomId, @Param("before") Long before, Pageable pageable);
+
+    // 지정한 메시지 이후 메시지를 오래된 것부터 조회
+    @Query("SELECT new com.example.omg_project.domain.chat.dto.ChatHistoryMessage(m.id, m.userNickname, m.message, m.createdAt) " +
+            "FROM ChatMessage m WHERE m.chatRoom.id = :roomId AND m.id > :after ORDER BY m.id ASC")
+    List<ChatHistoryMessage> findHistoryAfter(@Param("roomId") Long roomId, @Param("after") Long after, Pageable pageable);
+
+    // 채팅방의 마지막 메시지 ID
+    @Query("SELECT MAX(m.id) FROM ChatMessage m WHERE m.chatRoom.id = :roomId")
+    Long findLastMessageId(@Param("roomId") Long roomId);
+
+    // 지정한 메시지 이후 다른 사용자가 보낸 메시지 수와 그중 마지막 메시지 ID (안 읽은 메시지가 없으면 빈 값)
+    @Query("SELECT m.chatRoom.id AS chatRoomId, COUNT(m) AS unreadCount, MAX(m.id) AS lastMessageId FROM ChatMessage m " +
+            "WHERE m.chatRoom.id = :roomId AND m.id > :afterId AND m.user.id <> :userId GROUP BY m.chatRoom.id")
+    Optional<UnreadCountView> countUnread(@Param("roomId") Long roomId, @Param("afterId") Long afterId, @Param("userId") Long userId);
+
+    // 여러 채팅방의 안 읽은 메시지 수를 사용자의 읽음 위치로부터 한 번에 조회 (안 읽은 메시지가 없는 채팅방은 빠짐)
+    @Query("SELECT m.chatRoom.id AS chatRoomId, COUNT(m) AS unreadCount, MAX(m.id) AS lastMessageId FROM ChatMessage m " +
+            "LEFT JOIN ChatReadCursor c ON c.userId = :userId AND c.chatRoomId = m.chatRoom.id " +
+            "WHERE m.chatRoom.id IN :roomIds AND m.id > COALESCE(c.lastReadMessageId, 0) AND m.user.id <> :userId " +
+            "GROUP BY m.chatRoom.id")
+    List<UnreadCountView> countUnreadByRoomIds(@Param("userId") Long userId, @Param("roomIds") Collection<Long> roomIds);
+
+    interface UnreadCountView {
+        Long getChatRoomId();
+        Long getUnreadCount();
+        Long getLastMessageId();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.omg_project.domain.chat.repository;
+
+import com.example.omg_project.domain.chat.entity.ChatReadCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface ChatReadCursorRepository extends JpaRepository<ChatReadCursor, Long> {
+
+    Optional<ChatReadCursor> findByUserIdAndChatRoomId(Long userId, Long chatRoomId);
+
+    // 읽음 위치를 저장 (이미 있으면 더 뒤의 위치로만 이동)
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO chat_read_cursors (user_id, chat_room_id, last_read_message_id, updated_at) " +
+            "VALUES (:userId, :chatRoomId, :messageId, NOW()) " +
+            "ON DUPLICATE KEY UPDATE last_read_message_id = GREATEST(last_read_message_id, VALUES(last_read_message_id)), updated_at = NOW()",
+            nativeQuery = true)
+    int advance(@Param("userId") Long userId, @Param("chatRoomId") Long chatRoomId, @Param("messageId") Long messageId);
+}
@@ -1,5 +1,13 @@
 package com.example.omg_project.domain.chat.service;
 
+import com.example.omg_project.domain.chat.entity.BadWord;
+
+import java.util.List;
+
 public interface BadWordService {
     String filterMessage(String message);
+    List<BadWord> findAll();
+    BadWord addBadWord(String word);
+    void deleteBadWord(Long id);
+    void reload();
 }
@@ -1,6 +1,9 @@
 package com.example.omg_project.domain.chat.service;
 
+import com.example.omg_project.domain.chat.dto.ChatHistoryMessage;
 import com.example.omg_project.domain.chat.dto.ChatMessageDTO;
+import com.example.omg_project.domain.chat.dto.ChatOnlineMember;
+import com.example.omg_project.domain.chat.dto.ChatUnreadDTO;
 import com.example.omg_project.domain.chat.entity.ChatMessage;
 import com.example.omg_project.domain.chat.entity.ChatRoom;
 import com.example.omg_project.domain.user.entity.User;
@@ -9,7 +12,12 @@ import java.util.List;
 
 public interface ChatService {
     boolean existsById(Long roomId);
-    List<ChatMessageDTO> getMessagesByRoomId(Long roomId);
+    List<ChatHistoryMessage> getMessageHistory(Long roomId, Long before, Long after, int limit);
+    List<ChatHistoryMessage> getMessagesAfter(Long roomId, Long lastMessageId, int max);
+    List<ChatOnlineMember> getOnlineMembers(Long roomId, Long userId);
+    List<ChatUnreadDTO> getUnreadCounts(Long userId);
+    void markRead(Long roomId, Long userId, Long lastReadMessageId);
+    void markRoomRead(Long roomId, Long userId);
     ChatMessageDTO convertToDTO(ChatMessage chatMessage);
     void validateUserInChatRoom(Long roomId, User user);
     String findTripName(Long roomId);
@@ -0,0 +1,181 @@
+package com.example.omg_project.domain.chat.service.filter;
+
+import java.util.*;
+
+/**
+ * 비속어 사전으로 만든 Aho-Corasick 오토마톤
+ * 메시지를 한 번만 순회하면서 모든 비속어 위치를 찾고 가립니다.
+ * 단어는 정규식이 아닌 문자열 그대로 비교하며, 생성 후에는 변경되지 않으므로 여러 스레드에서 동시에 사용할 수 있습니다.
+ */
+public final class BadWordMatcher {
+
+    public static final BadWordMatcher EMPTY = of(List.of());
+
+    private final char[][] keys;        // 상태별 전이 문자 (정렬됨)
+    private final int[][] targets;      // 상태별 전이 대상 상태
+    private final int[] fail;           // 실패 링크
+    private final int[] matchLength;    // 이 상태에서 끝나는 가장 긴 단어 길이 (없으면 0)
+    private final int wordCount;
+
+    private BadWordMatcher(char[][] keys, int[][] targets, int[] fail, int[] matchLength, int wordCount) {
+        this.keys = keys;
+        this.targets = targets;
+        this.fail = fail;
+        this.matchLength = matchLength;
+        this.wordCount = wordCount;
+    }
+
+    /**
+     * 단어 목록으로 매처를 생성
+     *
+     * @param words 비속어 목록 (빈 문자열과 중복은 무시)
+     * @return 생성된 매처
+     */
+    public static BadWordMatcher of(Collection<String> words) {
+        // 1. 트라이 구성
+        List<Map<Character, Integer>> gotos = new ArrayList<>();
+        List<Integer> lengths = new ArrayList<>();
+        gotos.add(new HashMap<>());
+        lengths.add(0);
+
+        Set<String> uniqueWords = new HashSet<>();
+        for (String word : words) {
+            if (word == null || word.isEmpty() || !uniqueWords.add(word)) {
+                continue;
+            }
+            int state = 0;
+            for (int i = 0; i < word.length(); i++) {
+                char c = word.charAt(i);
+                Integer next = gotos.get(state).get(c);
+                if (next == null) {
+                    next = gotos.size();
+                    gotos.add(new HashMap<>());
+                    lengths.add(0);
+                    gotos.get(state).put(c, next);
+                }
+                state = next;
+            }
+            lengths.set(state, word.length());
+        }
+
+        // 2. 전이를 정렬된 배열로 고정
+        int size = gotos.size();
+        char[][] keys = new char[size][];
+        int[][] targets = new int[size][];
+        for (int state = 0; state < size; state++) {
+            List<Map.Entry<Character, Integer>> entries = new ArrayList<>(gotos.get(state).entrySet());
+            entries.sort(Map.Entry.comparingByKey());
+            keys[state] = new char[entries.size()];
+            targets[state] = new int[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                keys[state][i] = entries.get(i).getKey();
+                targets[state][i] = entries.get(i).getValue();
+            }
+        }
+
+        // 3. BFS로 실패 링크와 출력 길이 계산
+        int[] fail = new int[size];
+        int[] matchLength = new int[size];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[0]) {
+            queue.add(child);
+            matchLength[child] = lengths.get(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < keys[state].length; i++) {
+                char c = keys[state][i];
+                int child = targets[state][i];
+
+                int f = fail[state];
+                int next;
+                while ((next = step(keys, targets, f, c)) < 0 && f != 0) {
+                    f = fail[f];
+                }
+                fail[child] = next < 0 ? 0 : next;
+                matchLength[child] = Math.max(lengths.get(child), matchLength[fail[child]]);
+                queue.add(child);
+            }
+        }
+
+        return new BadWordMatcher(keys, targets, fail, matchLength, uniqueWords.size());
+    }
+
+    /**
+     * 메시지에 포함된 모든 비속어를 대체 문자열로 가림
+     * 겹치는 비속어는 하나의 구간으로 합쳐서 한 번만 대체합니다.
+     *
+     * @param text        검사할 메시지
+     * @param replacement 비속어 대신 넣을 문자열
+     * @return 비속어가 가려진 메시지 (비속어가 없으면 원본 그대로)
+     */
+    public String mask(String text, String replacement) {
+        if (text == null || wordCount == 0) {
+            return text;
+        }
+
+        // 가릴 구간 [start, end) 목록 (시작 위치 순으로 정렬, 서로 겹치지 않음)
+        int[] starts = null;
+        int[] ends = null;
+        int count = 0;
+
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int next;
+            while ((next = step(keys, targets, state, c)) < 0 && state != 0) {
+                state = fail[state];
+            }
+            state = next < 0 ? 0 : next;
+
+            int length = matchLength[state];
+            if (length == 0) {
+                continue;
+            }
+
+            int start = i - length + 1;
+            int end = i + 1;
+            if (starts == null) {
+                starts = new int[4];
+                ends = new int[4];
+            }
+            // 새 구간과 겹치는 이전 구간을 합침
+            while (count > 0 && ends[count - 1] > start) {
+                count--;
+                start = Math.min(start, starts[count]);
+            }
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+                ends = Arrays.copyOf(ends, count * 2);
+            }
+            starts[count] = start;
+            ends[count] = end;
+            count++;
+        }
+
+        if (count == 0) {
+            return text;
+        }
+
+        StringBuilder sb = new StringBuilder(text.length() + count * replacement.length());
+        int last = 0;
+        for (int i = 0; i < count; i++) {
+            sb.append(text, last, starts[i]).append(replacement);
+            last = ends[i];
+        }
+        sb.append(text, last, text.length());
+        return sb.toString();
+    }
+
+    /**
+     * 사전에 등록된 단어 수
+     */
+    public int size() {
+        return wordCount;
+    }
+
+    private static int step(char[][] keys, int[][] targets, int state, char c) {
+        int index = Arrays.binarySearch(keys[state], c);
+        return index < 0 ? -1 : targets[state][index];
+    }
+}
@@ -3,32 +3,97 @@ package com.example.omg_project.domain.chat.service.impl;
 import com.example.omg_project.domain.chat.entity.BadWord;
 import com.example.omg_project.domain.chat.repository.BadWordRepository;
 import com.example.omg_project.domain.chat.service.BadWordService;
+import com.example.omg_project.domain.chat.service.filter.BadWordMatcher;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BadWordServiceImpl implements BadWordService {
 
+    private static final String REPLACEMENT = "삐약삐약";
+
     private final BadWordRepository badWordRepository;
 
+    // 현재 사용 중인 비속어 매처 (교체는 원자적으로 이루어짐)
+    private final AtomicReference<BadWordMatcher> matcher = new AtomicReference<>(BadWordMatcher.EMPTY);
+
+    /**
+     * 애플리케이션 시작 시 비속어 사전을 메모리에 적재
+     */
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+
     /**
      * 주어진 메시지에서 비속어를 필터링하여 반환
+     * 메모리에 적재된 매처로 메시지를 한 번만 순회하며, DB 조회는 하지 않습니다.
      *
      * @param message 필터링할 메시지
      * @return 비속어가 필터링된 메시지
      */
     @Override
     public String filterMessage(String message) {
-        List<BadWord> badWords = badWordRepository.findAll();  // 비속어 목록 조회
-
-        for (BadWord badWord : badWords) {
-            if(message.contains(badWord.getWord())) {
-                message = message.replaceAll(badWord.getWord(), "삐약삐약");
-            }
-        }
-        return message;  // 필터링된 메시지 반환
+        return matcher.get().mask(message, REPLACEMENT);  // 필터링된 메시지 반환
+    }
+
+    /**
+     * 등록된 비속어 목록 조회
+     *
+     * @return 비속어 목록
+     */
+    @Override
+    public List<BadWord> findAll() {
+        return badWordRepository.findAll();
+    }
+
+    /**
+     * 비속어를 등록하고 매처를 다시 생성
+     *
+     * @param word 등록할 비속어
+     * @return 저장된 비속어
+     */
+    @Override
+    public BadWord addBadWord(String word) {
+        BadWord badWord = new BadWord();
+        badWord.setWord(word.trim());
+        BadWord savedBadWord = badWordRepository.save(badWord);
+        reload();
+        return savedBadWord;
+    }
+
+    /**
+     * 비속어를 삭제하고 매처를 다시 생성
+     *
+     * @param id 삭제할 비속어 ID
+     */
+    @Override
+    public void deleteBadWord(Long id) {
+        badWordRepository.deleteById(id);
+        reload();
+    }
+
+    /**
+     * DB의 비속어 사전으로 매처를 새로 만들어 교체
+     * 다른 서버에서 변경된 사전은 주기적으로 다시 읽어 반영합니다.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${chat.bad-word.refresh-interval-ms:60000}",
+            initialDelayString = "${chat.bad-word.refresh-interval-ms:60000}")
+    public void reload() {
+        List<String> words = badWordRepository.findAll().stream()
+                .map(BadWord::getWord)
+                .toList();
+        BadWordMatcher newMatcher = BadWordMatcher.of(words);
+        matcher.set(newMatcher);
+        log.debug("비속어 사전 갱신 완료 :: {}개", newMatcher.size());
     }
 }
@@ -1,23 +1,40 @@
 package com.example.omg_project.domain.chat.service.impl;
 
+import com.example.omg_project.domain.chat.dto.ChatHistoryMessage;
 import com.example.omg_project.domain.chat.dto.ChatMessageDTO;
+import com.example.omg_project.domain.chat.dto.ChatOnlineMember;
+import com.example.omg_project.domain.chat.dto.ChatUnreadDTO;
 import com.example.omg_project.domain.chat.entity.ChatMessage;
+import com.example.omg_project.domain.chat.entity.ChatReadCursor;
 import com.example.omg_project.domain.chat.entity.ChatRoom;
 import com.example.omg_project.domain.chat.repository.ChatMessageRepository;
+import com.example.omg_project.domain.chat.repository.ChatReadCursorRepository;
 import com.example.omg_project.domain.chat.repository.ChatRoomRepository;
 import com.example.omg_project.domain.chat.service.ChatService;
+import com.example.omg_project.domain.chat.service.redis.ChatPresenceRegistry;
+import com.example.omg_project.domain.chat.service.redis.ChatRecentMessageCache;
+import com.example.omg_project.domain.chat.service.redis.ChatUnreadCounter;
 import com.example.omg_project.domain.trip.entity.Team;
+import com.example.omg_project.domain.trip.repository.TeamRepository;
 import com.example.omg_project.domain.trip.service.TeamService;
 import com.example.omg_project.domain.user.entity.User;
+import com.example.omg_project.domain.user.repository.UserRepository;
 import com.example.omg_project.domain.user.service.UserService;
 import com.example.omg_project.global.exception.CustomException;
 import com.example.omg_project.global.exception.ErrorCode;
 import com.example.omg_project.global.jwt.util.JwtTokenizer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * 채팅 서비스 클래스
@@ -26,9 +43,21 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ChatServiceImpl implements ChatService {
 
+    // 한 번에 조회할 수 있는 최대 히스토리 메시지 수
+    private static final int MAX_HISTORY_LIMIT = 200;
+
+    // 읽음 처리 중 새 메시지와 겹쳤을 때 안 읽은 메시지 수를 다시 계산하는 최대 횟수
+    private static final int MARK_READ_ATTEMPTS = 3;
+
     private final ChatMessageRepository chatMessageRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final TeamService teamService;
+    private final ChatRecentMessageCache chatRecentMessageCache;
+    private final ChatPresenceRegistry chatPresenceRegistry;
+    private final UserRepository userRepository;
+    private final TeamRepository teamRepository;
+    private final ChatReadCursorRepository chatReadCursorRepository;
+    private final ChatUnreadCounter chatUnreadCounter;
 
     /**
      * 채팅방의 존재 여부를 확인하는 메서드
@@ -42,24 +71,197 @@ public class ChatServiceImpl implements ChatService {
     }
 
     /**
-     * 해당 채팅방의 모든 메시지를 ChatMessageDTO로 변환하여 반환하는 메서드
+     * 채팅방 메시지를 메시지 ID 기준 커서로 한 페이지씩 조회하는 메서드
+     * before, after가 모두 없으면 가장 최근 페이지를 조회하며, 이 경우 최근 메시지 캐시에서 먼저 찾습니다.
      *
      * @param roomId 채팅방 ID
-     * @return 채팅방에 속한 메시지 목록을 DTO로 변환하여 반환
+     * @param before 이 ID보다 이전 메시지를 조회 (선택)
+     * @param after  이 ID 이후 메시지를 조회 (선택)
+     * @param limit  조회할 메시지 수 (1 ~ 200)
+     * @return 메시지 ID 오름차순으로 정렬된 메시지 목록
      */
     @Override
-    public List<ChatMessageDTO> getMessagesByRoomId(Long roomId) {
+    public List<ChatHistoryMessage> getMessageHistory(Long roomId, Long before, Long after, int limit) {
         // 채팅방이 존재하는지 확인
         if (!existsById(roomId)) {
             throw new CustomException(ErrorCode.CHAT_ROOM_NOT_FOUND);
         }
-        // 채팅방 ID에 해당하는 메시지를 가져옴
-        List<ChatMessage> chatMessages = chatMessageRepository.findByChatRoomId(roomId);
+        if (before != null && after != null) {
+            throw new CustomException(ErrorCode.INVALID_HISTORY_CURSOR);
+        }
+        Pageable page = PageRequest.ofSize(Math.max(1, Math.min(limit, MAX_HISTORY_LIMIT)));
+
+        // after 조회는 이미 오름차순이므로 그대로 반환
+        if (after != null) {
+            return chatMessageRepository.findHistoryAfter(roomId, after, page);
+        }
+
+        if (before != null) {
+            // 최근 것부터 조회한 결과를 화면 표시 순서(오름차순)로 뒤집음
+            List<ChatHistoryMessage> messages = new ArrayList<>(chatMessageRepository.findHistoryBefore(roomId, before, page));
+            Collections.reverse(messages);
+            return messages;
+        }
+
+        // 캐시 용량을 넘는 페이지는 캐시로 채울 수 없으므로 DB에서 조회
+        int capacity = chatRecentMessageCache.getCapacity();
+        if (page.getPageSize() > capacity) {
+            List<ChatHistoryMessage> messages = new ArrayList<>(chatMessageRepository.findLatestHistory(roomId, page));
+            Collections.reverse(messages);
+            return messages;
+        }
+
+        List<ChatHistoryMessage> cached = chatRecentMessageCache.getLatest(roomId, page.getPageSize());
+        if (cached != null) {
+            return cached;
+        }
+
+        // 캐시가 없으면 캐시 용량만큼 DB에서 읽어 채움
+        List<ChatHistoryMessage> recent = new ArrayList<>(chatMessageRepository.findLatestHistory(roomId, PageRequest.ofSize(capacity)));
+        Collections.reverse(recent);
+        if (!recent.isEmpty()) {
+            chatRecentMessageCache.warm(roomId, recent);
+
+            // DB 조회와 캐시 적재 사이에 저장된 메시지는 덧붙이기가 건너뛰었을 수 있으므로 한 번 더 채움
+            Long lastId = recent.get(recent.size() - 1).id();
+            List<ChatHistoryMessage> missed = chatMessageRepository.findHistoryAfter(roomId, lastId, PageRequest.ofSize(capacity));
+            if (!missed.isEmpty()) {
+                chatRecentMessageCache.append(Map.of(roomId, missed));
+            }
+        }
+        return recent.subList(Math.max(0, recent.size() - page.getPageSize()), recent.size());
+    }
 
-        // 메시지 엔티티를 DTO로 변환하여 반환
-        return chatMessages.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    /**
+     * 재접속한 클라이언트가 놓친 메시지를 조회하는 메서드
+     * 최근 메시지 캐시가 마지막으로 받은 메시지까지 포함하고 있으면 캐시에서, 아니면 DB에서 페이지 단위로 조회합니다.
+     *
+     * @param roomId        채팅방 ID
+     * @param lastMessageId 클라이언트가 마지막으로 받은 메시지 ID
+     * @param max           조회할 최대 메시지 수 (이를 넘으면 max보다 많은 목록을 반환하여 초과를 알림)
+     * @return 메시지 ID 오름차순의 놓친 메시지 목록
+     */
+    @Override
+    public List<ChatHistoryMessage> getMessagesAfter(Long roomId, Long lastMessageId, int max) {
+        // 캐시는 채팅방의 최근 메시지를 빈틈없이 담고 있으므로, 가장 오래된 항목이 마지막 메시지 이하이면 캐시만으로 충분
+        List<ChatHistoryMessage> cached = chatRecentMessageCache.getLatest(roomId, chatRecentMessageCache.getCapacity());
+        if (cached != null && !cached.isEmpty() && cached.get(0).id() <= lastMessageId) {
+            return cached.stream()
+                    .filter(message -> message.id() > lastMessageId)
+                    .toList();
+        }
+
+        List<ChatHistoryMessage> messages = new ArrayList<>();
+        Long cursor = lastMessageId;
+        while (messages.size() <= max) {
+            List<ChatHistoryMessage> page = chatMessageRepository.findHistoryAfter(roomId, cursor, PageRequest.ofSize(MAX_HISTORY_LIMIT));
+            messages.addAll(page);
+            if (page.size() < MAX_HISTORY_LIMIT) {
+                break;
+            }
+            cursor = page.get(page.size() - 1).id();
+        }
+        return messages;
+    }
+
+    /**
+     * 채팅방에 접속 중인 멤버 목록을 조회하는 메서드
+     * 접속자는 접속 상태 저장소에서, 닉네임은 한 번의 프로젝션 쿼리로 조회합니다.
+     * 채팅방에 연결된 팀의 멤버만 조회할 수 있습니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param userId 조회하는 사용자 ID
+     * @return 접속 중인 멤버 목록
+     */
+    @Override
+    public List<ChatOnlineMember> getOnlineMembers(Long roomId, Long userId) {
+        if (!existsById(roomId)) {
+            throw new CustomException(ErrorCode.CHAT_ROOM_NOT_FOUND);
+        }
+        if (!teamRepository.existsByChatRoomIdAndUsersId(roomId, userId)) {
+            throw new CustomException(ErrorCode.USER_NOT_IN_CHAT_ROOM);
+        }
+        Set<Long> onlineUserIds = chatPresenceRegistry.getOnlineUserIds(roomId);
+        if (onlineUserIds.isEmpty()) {
+            return List.of();
+        }
+        return userRepository.findByIdIn(onlineUserIds).stream()
+                .map(user -> new ChatOnlineMember(user.getId(), user.getUsernick()))
+                .toList();
+    }
+
+    /**
+     * 사용자가 참여한 채팅방별 안 읽은 메시지 수를 조회하는 메서드
+     * Redis 카운터에서 조회하며, 카운터가 없으면 읽음 위치 이후의 메시지 수를 DB에서 한 번에 계산하여 채웁니다.
+     *
+     * @param userId 사용자 ID
+     * @return 채팅방별 안 읽은 메시지 수 목록
+     */
+    @Override
+    public List<ChatUnreadDTO> getUnreadCounts(Long userId) {
+        List<TeamRepository.ChatRoomView> rooms = teamRepository.findChatRoomsByUserId(userId);
+        Map<Long, Long> counts = chatUnreadCounter.get(userId);
+        if (counts == null) {
+            counts = new HashMap<>();
+            Map<Long, Long> lastMessageIds = new HashMap<>();
+            if (!rooms.isEmpty()) {
+                List<Long> roomIds = rooms.stream().map(TeamRepository.ChatRoomView::getChatRoomId).toList();
+                for (ChatMessageRepository.UnreadCountView view : chatMessageRepository.countUnreadByRoomIds(userId, roomIds)) {
+                    counts.put(view.getChatRoomId(), view.getUnreadCount());
+                    lastMessageIds.put(view.getChatRoomId(), view.getLastMessageId());
+                }
+            }
+            chatUnreadCounter.load(userId, counts, lastMessageIds);
+        }
+
+        List<ChatUnreadDTO> unreadCounts = new ArrayList<>(rooms.size());
+        for (TeamRepository.ChatRoomView room : rooms) {
+            unreadCounts.add(new ChatUnreadDTO(room.getChatRoomId(), room.getTripName(), counts.getOrDefault(room.getChatRoomId(), 0L)));
+        }
+        return unreadCounts;
+    }
+
+    /**
+     * 채팅방의 읽음 위치를 지정한 메시지까지 이동하는 메서드
+     * 읽음 위치는 뒤로만 이동하며, 이동 후 안 읽은 메시지 수를 다시 계산하여 카운터에 반영합니다.
+     * 계산하는 동안 새 메시지가 카운터에 먼저 반영되면 다시 계산하고, 계속 겹치면 카운터를 지워 다음 조회 때 DB에서 채웁니다.
+     *
+     * @param roomId            채팅방 ID
+     * @param userId            사용자 ID
+     * @param lastReadMessageId 마지막으로 읽은 메시지 ID
+     */
+    @Override
+    public void markRead(Long roomId, Long userId, Long lastReadMessageId) {
+        if (lastReadMessageId == null || lastReadMessageId <= 0) {
+            return;
+        }
+        if (!teamRepository.existsByChatRoomIdAndUsersId(roomId, userId)) {
+            throw new CustomException(ErrorCode.USER_NOT_IN_CHAT_ROOM);
+        }
+        chatReadCursorRepository.advance(userId, roomId, lastReadMessageId);
+        Long cursor = chatReadCursorRepository.findByUserIdAndChatRoomId(userId, roomId)
+                .map(ChatReadCursor::getLastReadMessageId)
+                .orElse(lastReadMessageId);
+        for (int attempt = 0; attempt < MARK_READ_ATTEMPTS; attempt++) {
+            Optional<ChatMessageRepository.UnreadCountView> unread = chatMessageRepository.countUnread(roomId, cursor, userId);
+            long count = unread.map(ChatMessageRepository.UnreadCountView::getUnreadCount).orElse(0L);
+            long lastMessageId = Math.max(cursor, unread.map(ChatMessageRepository.UnreadCountView::getLastMessageId).orElse(0L));
+            if (chatUnreadCounter.set(userId, roomId, count, lastMessageId)) {
+                return;
+            }
+        }
+        chatUnreadCounter.evict(userId);
+    }
+
+    /**
+     * 채팅방의 모든 메시지를 읽음 처리하는 메서드
+     *
+     * @param roomId 채팅방 ID
+     * @param userId 사용자 ID
+     */
+    @Override
+    public void markRoomRead(Long roomId, Long userId) {
+        markRead(roomId, userId, chatMessageRepository.findLastMessageId(roomId));
     }
 
     /**
@@ -0,0 +1,232 @@
+package com.example.omg_project.domain.chat.service.redis;
+
+import com.example.omg_project.domain.chat.websocket.ChatSessionRegistry;
+import com.example.omg_project.domain.chat.websocket.ChatSessionSender;
+import com.example.omg_project.global.websocket.RedisBrokerRelay;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방에 접속 중인 사용자를 모든 서버에 걸쳐 관리하는 저장소
+ * - 채팅방마다 Redis ZSET("chat:presence:{roomId}")에 "사용자ID:세션ID"를 만료 시각 점수로 기록합니다.
+ * - 각 서버는 자신의 세션을 주기적으로 갱신(하트비트)하며, 갱신되지 않은 세션은 만료되어 서버 장애 시에도 남지 않습니다.
+ * - 조회는 서버 로컬 캐시에서 O(1)로 처리하고, 접속 상태가 바뀌면 "chat:presence:events" 채널로 모든 서버의 캐시를 무효화합니다.
+ *   무효화마다 채팅방의 세대(epoch)를 올려, 무효화 전에 시작한 조회 결과가 캐시에 다시 들어가지 않도록 합니다.
+ * - 접속 상태가 바뀐 채팅방의 접속자 목록은 STOMP "/topic/chat/{roomId}/presence"로 전송합니다.
+ */
+@Slf4j
+@Component
+public class ChatPresenceRegistry implements MessageListener {
+
+    public static final String EVENT_CHANNEL = "chat:presence:events";
+
+    private static final String KEY_PREFIX = "chat:presence:";
+    private static final String ROOMS_KEY = "chat:presence:rooms";
+
+    // 만료된 세션을 지우고, 남은 세션이 없으면 채팅방 목록에서 제거 (enter의 ZADD/SADD와 겹쳐도 채팅방이 목록에서 빠지지 않도록 원자적으로 처리)
+    private static final byte[] SWEEP_ROOM = bytes(
+            "local removed = redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1]) " +
+            "if redis.call('ZCARD', KEYS[1]) == 0 then redis.call('SREM', KEYS[2], ARGV[2]) end return removed");
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChatSessionRegistry chatSessionRegistry;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final long ttlMillis;
+
+    // 채팅방별 접속 사용자 캐시 (무효화 이벤트를 놓쳐도 ttl이 지나면 다시 읽음)
+    private final Map<Long, CachedPresence> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 채팅방의 캐시 항목
+     *
+     * @param userIds  접속 중인 사용자 ID 집합 (무효화된 항목이면 null)
+     * @param loadedAt 조회 시각
+     * @param epoch    무효화될 때마다 증가하는 세대
+     */
+    private record CachedPresence(Set<Long> userIds, long loadedAt, long epoch) {
+    }
+
+    public ChatPresenceRegistry(StringRedisTemplate stringRedisTemplate,
+                                ChatSessionRegistry chatSessionRegistry,
+                                SimpMessagingTemplate messagingTemplate,
+                                @Value("${chat.presence.ttl-ms:30000}") long ttlMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.chatSessionRegistry = chatSessionRegistry;
+        this.messagingTemplate = messagingTemplate;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 세션의 채팅방 접속을 기록
+     *
+     * @param roomId    채팅방 ID
+     * @param userId    사용자 ID
+     * @param sessionId 세션 ID
+     */
+    public void enter(Long roomId, Long userId, String sessionId) {
+        byte[] key = key(roomId);
+        byte[] member = member(userId, sessionId);
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zAdd(key, expiresAt, member);
+            connection.keyCommands().pExpire(key, ttlMillis * 2);
+            connection.setCommands().sAdd(bytes(ROOMS_KEY), bytes(String.valueOf(roomId)));
+            connection.publish(bytes(EVENT_CHANNEL), bytes(String.valueOf(roomId)));
+            return null;
+        });
+    }
+
+    /**
+     * 세션의 채팅방 접속 종료를 기록
+     *
+     * @param roomId    채팅방 ID
+     * @param userId    사용자 ID
+     * @param sessionId 세션 ID
+     */
+    public void leave(Long roomId, Long userId, String sessionId) {
+        byte[] key = key(roomId);
+        byte[] member = member(userId, sessionId);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zRem(key, member);
+            connection.publish(bytes(EVENT_CHANNEL), bytes(String.valueOf(roomId)));
+            return null;
+        });
+    }
+
+    /**
+     * 사용자가 채팅방에 접속 중인지 확인 (로컬 캐시에서 O(1) 조회)
+     *
+     * @param roomId 채팅방 ID
+     * @param userId 사용자 ID
+     * @return 접속 중이면 true
+     */
+    public boolean isUserInRoom(Long roomId, Long userId) {
+        return getOnlineUserIds(roomId).contains(userId);
+    }
+
+    /**
+     * 채팅방에 접속 중인 사용자 ID 목록을 조회
+     *
+     * @param roomId 채팅방 ID
+     * @return 접속 중인 사용자 ID 집합 (변경 불가)
+     */
+    public Set<Long> getOnlineUserIds(Long roomId) {
+        long now = System.currentTimeMillis();
+        CachedPresence cached = cache.get(roomId);
+        if (cached != null && cached.userIds() != null && now - cached.loadedAt() <= ttlMillis) {
+            return cached.userIds();
+        }
+
+        long epoch = cached != null ? cached.epoch() : 0L;
+        Set<Long> userIds = load(roomId, now);
+        // 조회하는 동안 무효화되었으면 이전 상태일 수 있는 결과를 캐시에 넣지 않음
+        cache.compute(roomId, (key, current) -> {
+            long currentEpoch = current != null ? current.epoch() : 0L;
+            return currentEpoch == epoch ? new CachedPresence(userIds, now, epoch) : current;
+        });
+        return userIds;
+    }
+
+    /**
+     * 접속 상태 변경 이벤트를 받아 해당 채팅방 캐시를 무효화하고, 구독자에게 새 접속자 목록을 전송
+     * 모든 서버가 모든 채팅방의 이벤트를 받으므로, 이 서버에 채팅방 세션이 없으면 다시 조회하거나 전송하지 않습니다.
+     *
+     * @param message Redis에서 수신한 메시지 (채팅방 ID)
+     * @param pattern 구독 패턴 (사용되지 않음)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            Long roomId = Long.valueOf(body);
+            cache.compute(roomId, (key, current) -> new CachedPresence(null, 0L, current != null ? current.epoch() + 1 : 1L));
+            if (!chatSessionRegistry.hasSessions(body)) {
+                return;
+            }
+            messagingTemplate.convertAndSend("/topic/chat/" + roomId + "/presence", getOnlineUserIds(roomId), RedisBrokerRelay.NODE_LOCAL);
+        } catch (Exception e) {
+            log.warn("접속 상태 변경 이벤트 처리 실패", e);
+        }
+    }
+
+    /**
+     * 이 서버에 연결된 세션의 만료 시각을 갱신 (하트비트)
+     */
+    @Scheduled(fixedDelayString = "${chat.presence.heartbeat-interval-ms:10000}")
+    public void heartbeat() {
+        Set<String> roomIds = chatSessionRegistry.getRoomIds();
+        if (roomIds.isEmpty()) {
+            return;
+        }
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String roomId : roomIds) {
+                byte[] key = key(roomId);
+                for (ChatSessionSender sender : chatSessionRegistry.getSenders(roomId)) {
+                    Long userId = (Long) sender.getSession().getAttributes().get("userId");
+                    connection.zSetCommands().zAdd(key, expiresAt, member(userId, sender.getSession().getId()));
+                }
+                connection.keyCommands().pExpire(key, ttlMillis * 2);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 하트비트가 끊긴 세션을 제거하고, 변경된 채팅방의 캐시를 무효화
+     * 여러 서버에서 동시에 실행되어도 결과는 같습니다.
+     */
+    @Scheduled(fixedDelayString = "${chat.presence.sweep-interval-ms:15000}")
+    public void sweepExpired() {
+        Set<String> roomIds = stringRedisTemplate.opsForSet().members(ROOMS_KEY);
+        if (roomIds == null) {
+            return;
+        }
+        byte[] now = bytes(String.valueOf(System.currentTimeMillis()));
+        for (String roomId : roomIds) {
+            Long removed = stringRedisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands().eval(
+                    SWEEP_ROOM, ReturnType.INTEGER, 2, key(roomId), bytes(ROOMS_KEY), now, bytes(roomId)));
+            if (removed != null && removed > 0) {
+                stringRedisTemplate.convertAndSend(EVENT_CHANNEL, roomId);
+            }
+        }
+    }
+
+    // 만료되지 않은 세션의 사용자 ID를 조회
+    private Set<Long> load(Long roomId, long now) {
+        Set<String> members = stringRedisTemplate.opsForZSet().rangeByScore(KEY_PREFIX + roomId, now, Double.POSITIVE_INFINITY);
+        Set<Long> userIds = new HashSet<>();
+        if (members != null) {
+            for (String member : members) {
+                userIds.add(Long.valueOf(member.substring(0, member.indexOf(':'))));
+            }
+        }
+        return Set.copyOf(userIds);
+    }
+
+    private static byte[] key(Object roomId) {
+        return bytes(KEY_PREFIX + roomId);
+    }
+
+    private static byte[] member(Long userId, String sessionId) {
+        return bytes(userId + ":" + sessionId);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
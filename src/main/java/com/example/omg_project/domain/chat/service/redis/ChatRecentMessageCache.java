@@ -0,0 +1,257 @@
+package com.example.omg_project.domain.chat.service.redis;
+
+import com.example.omg_project.domain.chat.dto.ChatHistoryMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅방별 최근 메시지 캐시
+ * - 채팅방마다 Redis 리스트("chat:recent:{roomId}")에 최근 메시지를 최대 capacity개까지 보관합니다.
+ * - 캐시된 채팅방은 마지막 조회 시각을 점수로 하는 ZSET에 기록하고, 최대 채팅방 수를 넘으면 가장 오래 조회되지 않은 채팅방부터 제거합니다(LRU).
+ * - 저장된 메시지는 이미 캐시가 있는 채팅방에만 덧붙이고, 캐시가 없으면 첫 조회 시 DB에서 채웁니다.
+ */
+@Slf4j
+@Component
+public class ChatRecentMessageCache {
+
+    private static final String KEY_PREFIX = "chat:recent:";
+    private static final String ROOMS_KEY = "chat:recent:rooms";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private static final ObjectWriter ENTRY_WRITER = OBJECT_MAPPER.writerFor(ChatHistoryMessage.class);
+    private static final ObjectReader ENTRY_READER = OBJECT_MAPPER.readerFor(ChatHistoryMessage.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final int capacity;
+    private final int maxRooms;
+    private final long ttlSeconds;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final AtomicLong cachedRooms = new AtomicLong();
+    private final AtomicLong memoryBytes = new AtomicLong();
+
+    public ChatRecentMessageCache(StringRedisTemplate stringRedisTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${chat.recent.capacity:100}") int capacity,
+                                  @Value("${chat.recent.max-rooms:1000}") int maxRooms,
+                                  @Value("${chat.recent.ttl-seconds:86400}") long ttlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.capacity = capacity;
+        this.maxRooms = maxRooms;
+        this.ttlSeconds = ttlSeconds;
+
+        this.hits = Counter.builder("chat.recent.cache").tag("result", "hit")
+                .description("최근 메시지 캐시 조회 결과").register(meterRegistry);
+        this.misses = Counter.builder("chat.recent.cache").tag("result", "miss")
+                .description("최근 메시지 캐시 조회 결과").register(meterRegistry);
+        Gauge.builder("chat.recent.cache.rooms", cachedRooms, AtomicLong::get)
+                .description("최근 메시지가 캐시된 채팅방 수").register(meterRegistry);
+        Gauge.builder("chat.recent.cache.memory", memoryBytes, AtomicLong::get)
+                .baseUnit("bytes")
+                .description("최근 메시지 캐시가 사용하는 Redis 메모리").register(meterRegistry);
+    }
+
+    /**
+     * 캐시에 담을 수 있는 채팅방별 최대 메시지 수
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 채팅방의 최근 메시지를 캐시에서 조회
+     *
+     * @param roomId 채팅방 ID
+     * @param limit  조회할 메시지 수 (capacity 이하)
+     * @return 메시지 ID 오름차순의 최근 메시지 목록, 캐시가 없으면 null
+     */
+    public List<ChatHistoryMessage> getLatest(Long roomId, int limit) {
+        String key = KEY_PREFIX + roomId;
+        List<String> entries = stringRedisTemplate.opsForList().range(key, 0, -1);
+        if (entries == null || entries.isEmpty()) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        touch(roomId);
+
+        // 적재와 덧붙이기가 겹치면 순서가 바뀌거나 중복될 수 있으므로 ID로 정렬하고 중복을 제거
+        List<ChatHistoryMessage> messages = new ArrayList<>(entries.size());
+        for (String entry : entries) {
+            try {
+                messages.add(ENTRY_READER.readValue(entry));
+            } catch (JsonProcessingException e) {
+                log.warn("최근 메시지 캐시 항목 파싱 실패 :: 채팅방 {}", roomId, e);
+            }
+        }
+        messages.sort(Comparator.comparing(ChatHistoryMessage::id));
+        List<ChatHistoryMessage> distinct = new ArrayList<>(messages.size());
+        for (ChatHistoryMessage message : messages) {
+            if (distinct.isEmpty() || !distinct.get(distinct.size() - 1).id().equals(message.id())) {
+                distinct.add(message);
+            }
+        }
+        return distinct.subList(Math.max(0, distinct.size() - limit), distinct.size());
+    }
+
+    /**
+     * DB에서 읽은 최근 메시지로 채팅방 캐시를 채움
+     *
+     * @param roomId   채팅방 ID
+     * @param messages 메시지 ID 오름차순의 최근 메시지 목록
+     */
+    public void warm(Long roomId, List<ChatHistoryMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        byte[] key = key(roomId);
+        byte[][] values = serialize(messages);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.keyCommands().del(key);
+            connection.listCommands().rPush(key, values);
+            connection.listCommands().lTrim(key, -capacity, -1);
+            touch(connection, roomId);
+            return null;
+        });
+    }
+
+    /**
+     * 새로 저장된 메시지를 채팅방 캐시에 덧붙임
+     * 캐시가 없는 채팅방은 일부만 담긴 캐시가 생기지 않도록 건너뜁니다.
+     *
+     * @param messagesByRoom 채팅방 ID별로 묶은 메시지 ID 오름차순의 메시지 목록
+     */
+    public void append(Map<Long, List<ChatHistoryMessage>> messagesByRoom) {
+        if (messagesByRoom.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Map.Entry<Long, List<ChatHistoryMessage>> entry : messagesByRoom.entrySet()) {
+                byte[] key = key(entry.getKey());
+                for (byte[] value : serialize(entry.getValue())) {
+                    connection.listCommands().rPushX(key, value);
+                }
+                connection.listCommands().lTrim(key, -capacity, -1);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 채팅방 캐시를 제거
+     *
+     * @param roomId 채팅방 ID
+     */
+    public void evict(Long roomId) {
+        stringRedisTemplate.delete(KEY_PREFIX + roomId);
+        stringRedisTemplate.opsForZSet().remove(ROOMS_KEY, String.valueOf(roomId));
+    }
+
+    /**
+     * 여러 채팅방의 캐시를 한 번에 제거
+     * 덧붙이기에 실패해 메시지가 빠졌을 수 있는 캐시를 지워, 다음 조회 때 DB에서 다시 채우도록 합니다.
+     *
+     * @param roomIds 채팅방 ID 목록
+     */
+    public void evictAll(Collection<Long> roomIds) {
+        if (roomIds.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.delete(roomIds.stream().map(roomId -> KEY_PREFIX + roomId).toList());
+        stringRedisTemplate.opsForZSet().remove(ROOMS_KEY, roomIds.stream().map(String::valueOf).toArray());
+    }
+
+    /**
+     * 최대 채팅방 수를 넘는 캐시를 가장 오래 조회되지 않은 채팅방부터 제거하고, 지표를 갱신
+     */
+    @Scheduled(fixedDelayString = "${chat.recent.eviction-interval-ms:60000}")
+    public void evictLeastRecentlyUsed() {
+        Long size = stringRedisTemplate.opsForZSet().zCard(ROOMS_KEY);
+        if (size != null && size > maxRooms) {
+            Set<String> evicted = stringRedisTemplate.opsForZSet().range(ROOMS_KEY, 0, size - maxRooms - 1);
+            if (evicted != null && !evicted.isEmpty()) {
+                stringRedisTemplate.delete(evicted.stream().map(roomId -> KEY_PREFIX + roomId).toList());
+                stringRedisTemplate.opsForZSet().remove(ROOMS_KEY, evicted.toArray());
+                log.debug("최근 메시지 캐시 제거 :: {}개 채팅방", evicted.size());
+            }
+        }
+        updateMetrics();
+    }
+
+    private void updateMetrics() {
+        Set<String> roomIds = stringRedisTemplate.opsForZSet().range(ROOMS_KEY, 0, -1);
+        if (roomIds == null) {
+            return;
+        }
+        cachedRooms.set(roomIds.size());
+        List<Object> usages = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String roomId : roomIds) {
+                connection.execute("MEMORY", "USAGE".getBytes(StandardCharsets.UTF_8), key(roomId));
+            }
+            return null;
+        });
+        long total = 0;
+        for (Object usage : usages) {
+            if (usage instanceof Number bytes) {
+                total += bytes.longValue();
+            }
+        }
+        memoryBytes.set(total);
+    }
+
+    // 채팅방의 마지막 조회 시각과 만료 시간을 갱신
+    private void touch(Long roomId) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            touch(connection, roomId);
+            return null;
+        });
+    }
+
+    private void touch(RedisConnection connection, Long roomId) {
+        connection.zSetCommands().zAdd(ROOMS_KEY.getBytes(StandardCharsets.UTF_8), System.currentTimeMillis(),
+                String.valueOf(roomId).getBytes(StandardCharsets.UTF_8));
+        connection.keyCommands().expire(key(roomId), ttlSeconds);
+    }
+
+    private static byte[] key(Object roomId) {
+        return (KEY_PREFIX + roomId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[][] serialize(List<ChatHistoryMessage> messages) {
+        byte[][] values = new byte[messages.size()][];
+        for (int i = 0; i < messages.size(); i++) {
+            try {
+                values[i] = ENTRY_WRITER.writeValueAsBytes(messages.get(i));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("최근 메시지 캐시 항목 직렬화 실패", e);
+            }
+        }
+        return values;
+    }
+}
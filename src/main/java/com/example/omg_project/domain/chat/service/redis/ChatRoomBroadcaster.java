@@ -0,0 +1,123 @@
+package com.example.omg_project.domain.chat.service.redis;
+
+import com.example.omg_project.domain.chat.websocket.ChatSessionRegistry;
+import com.example.omg_project.domain.chat.websocket.ChatSessionSender;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 채팅 메시지를 모든 서버의 채팅방 세션으로 전달하는 컴포넌트
+ * - 메시지는 채팅방별 Redis 채널("chat:room:{roomId}")로 발행됩니다.
+ * - 각 서버는 자신에게 세션이 있는 채팅방의 채널만 구독하므로, 세션이 없는 채팅방의 메시지는 받지 않습니다.
+ * - 저장은 Kafka 컨슈머 그룹 하나가 담당하고, 전달만 이 채널을 통해 서버 전체로 퍼집니다.
+ * - 한 채팅방의 메시지는 Kafka 파티션 하나에서 순서대로 발행되고, 리스너 컨테이너가 한 스레드에서 받은 순서대로 전달하므로
+ *   세션의 송신 큐까지 순서가 유지됩니다. (RedisListenerConfig 참고)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomBroadcaster implements MessageListener {
+
+    private static final String CHANNEL_PREFIX = "chat:room:";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ChatSessionRegistry chatSessionRegistry;
+
+    /**
+     * 세션 송신자를 채팅방에 등록하고, 이 서버의 첫 세션이면 채팅방 채널을 구독
+     *
+     * @param roomId 채팅방 ID
+     * @param sender 등록할 세션 송신자
+     */
+    public synchronized void join(String roomId, ChatSessionSender sender) {
+        if (chatSessionRegistry.add(roomId, sender)) {
+            redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + roomId));
+            log.debug("채팅방 채널 구독 :: {}", roomId);
+        }
+    }
+
+    /**
+     * 세션을 채팅방에서 제거하고, 이 서버의 마지막 세션이면 채팅방 채널 구독을 해제
+     *
+     * @param roomId  채팅방 ID
+     * @param session 제거할 세션
+     */
+    public synchronized void leave(String roomId, WebSocketSession session) {
+        if (chatSessionRegistry.remove(roomId, session)) {
+            redisMessageListenerContainer.removeMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + roomId));
+            log.debug("채팅방 채널 구독 해제 :: {}", roomId);
+        }
+    }
+
+    /**
+     * 직렬화된 메시지를 채팅방 채널로 발행
+     *
+     * @param roomId  채팅방 ID
+     * @param payload 직렬화된 메시지 (JSON 바이트)
+     */
+    public void publish(String roomId, byte[] payload) {
+        byte[] channel = (CHANNEL_PREFIX + roomId).getBytes(StandardCharsets.UTF_8);
+        stringRedisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channel, payload));
+    }
+
+    /**
+     * 채팅방 채널에서 받은 메시지를 이 서버의 해당 채팅방 세션들의 송신 큐에 넣음
+     * 받은 바이트를 그대로 담은 TextMessage 하나를 모든 세션에 재사용하며, 소켓 쓰기는 기다리지 않습니다.
+     *
+     * @param message Redis에서 수신한 메시지
+     * @param pattern 구독 패턴 (사용되지 않음)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String roomId = channel.substring(CHANNEL_PREFIX.length());
+
+        byte[] payload = message.getBody();
+        ChatSessionSender.OutboundFrame frame = new ChatSessionSender.OutboundFrame(readMessageId(payload), new TextMessage(payload));
+        for (ChatSessionSender sender : chatSessionRegistry.getSenders(roomId)) {
+            sender.offer(frame);
+        }
+    }
+
+    /**
+     * 발행된 메시지 JSON에서 최상위 "id" 필드만 읽음 (중복 전송 방지용)
+     *
+     * @param payload 메시지 JSON 바이트
+     * @return 메시지 ID, 없거나 읽을 수 없으면 0
+     */
+    private static long readMessageId(byte[] payload) {
+        try (JsonParser parser = JSON_FACTORY.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return 0L;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("id".equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+                    return parser.getLongValue();
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            log.debug("채팅 메시지 ID 읽기 실패", e);
+        }
+        return 0L;
+    }
+}
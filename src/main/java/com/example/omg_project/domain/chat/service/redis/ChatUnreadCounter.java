@@ -0,0 +1,182 @@
+package com.example.omg_project.domain.chat.service.redis;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 사용자별 채팅방 안 읽은 메시지 수를 관리하는 Redis 카운터
+ * - 사용자마다 Redis 해시("chat:unread:{userId}")에 채팅방 ID별 안 읽은 메시지 수를 저장합니다.
+ * - 해시는 DB의 읽음 위치로부터 한 번 계산되어 채워지며, 채워진 해시에만 새 메시지 수를 더합니다.
+ * - 해시가 없거나 만료되면 다음 조회 시 DB에서 다시 계산하므로, 카운터는 DB 상태를 벗어나지 않습니다.
+ * - 채팅방마다 카운터에 반영된 마지막 메시지 ID("last:{roomId}")를 함께 저장합니다.
+ *   증가는 이 ID보다 큰 메시지만 세고, DB에서 다시 계산한 값은 그 이후 메시지가 먼저 반영되지 않았을 때만 설정하므로
+ *   읽음 처리와 새 메시지 반영이 겹쳐도 같은 메시지를 두 번 세거나 빠뜨리지 않습니다.
+ */
+@Component
+public class ChatUnreadCounter {
+
+    private static final String KEY_PREFIX = "chat:unread:";
+
+    // 해시가 DB로부터 채워졌음을 표시하는 필드 (채팅방이 없어도 해시가 존재하도록 함)
+    private static final String LOADED_FIELD = "_";
+
+    // 채팅방별 카운터에 반영된 마지막 메시지 ID 필드의 접두사
+    private static final String LAST_PREFIX = "last:";
+
+    // 해시가 채워진 경우에만, 반영된 마지막 메시지 ID보다 큰 메시지 수를 더함 (ARGV[1] 채팅방 ID, ARGV[2..] 메시지 ID)
+    private static final byte[] INCREMENT_IF_LOADED = bytes(
+            "if redis.call('HEXISTS', KEYS[1], '" + LOADED_FIELD + "') == 0 then return 0 end " +
+            "local lastField = '" + LAST_PREFIX + "' .. ARGV[1] " +
+            "local last = tonumber(redis.call('HGET', KEYS[1], lastField) or '0') " +
+            "local added, max = 0, last " +
+            "for i = 2, #ARGV do local id = tonumber(ARGV[i]) " +
+            "if id > last then added = added + 1 if id > max then max = id end end end " +
+            "if added > 0 then redis.call('HINCRBY', KEYS[1], ARGV[1], added) redis.call('HSET', KEYS[1], lastField, max) end " +
+            "return added");
+
+    // 해시가 채워진 경우, 계산 이후의 메시지가 먼저 반영되지 않았을 때만 채팅방의 안 읽은 메시지 수를 설정
+    // (ARGV[1] 채팅방 ID, ARGV[2] 안 읽은 메시지 수, ARGV[3] 계산에 포함된 마지막 메시지 ID)
+    private static final byte[] SET_IF_CURRENT = bytes(
+            "if redis.call('HEXISTS', KEYS[1], '" + LOADED_FIELD + "') == 0 then return 1 end " +
+            "local lastField = '" + LAST_PREFIX + "' .. ARGV[1] " +
+            "if tonumber(redis.call('HGET', KEYS[1], lastField) or '0') > tonumber(ARGV[3]) then return 0 end " +
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2], lastField, ARGV[3]) return 1");
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long ttlSeconds;
+
+    public ChatUnreadCounter(StringRedisTemplate stringRedisTemplate,
+                             @Value("${chat.unread.ttl-seconds:604800}") long ttlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /**
+     * 사용자의 채팅방별 안 읽은 메시지 수를 조회
+     *
+     * @param userId 사용자 ID
+     * @return 채팅방 ID별 안 읽은 메시지 수, 아직 계산되지 않았으면 null
+     */
+    public Map<Long, Long> get(Long userId) {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(key(userId));
+        if (!entries.containsKey(LOADED_FIELD)) {
+            return null;
+        }
+        Map<Long, Long> counts = new HashMap<>(entries.size());
+        entries.forEach((field, value) -> {
+            if (!LOADED_FIELD.equals(field) && !((String) field).startsWith(LAST_PREFIX)) {
+                counts.put(Long.valueOf((String) field), Math.max(0L, Long.parseLong((String) value)));
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * DB에서 계산한 채팅방별 안 읽은 메시지 수로 사용자의 해시를 채움
+     *
+     * @param userId         사용자 ID
+     * @param counts         채팅방 ID별 안 읽은 메시지 수
+     * @param lastMessageIds 채팅방 ID별 계산에 포함된 마지막 메시지 ID
+     */
+    public void load(Long userId, Map<Long, Long> counts, Map<Long, Long> lastMessageIds) {
+        byte[] key = bytes(key(userId));
+        Map<byte[], byte[]> fields = new HashMap<>(counts.size() + lastMessageIds.size() + 1);
+        counts.forEach((roomId, count) -> fields.put(bytes(String.valueOf(roomId)), bytes(String.valueOf(count))));
+        lastMessageIds.forEach((roomId, messageId) -> fields.put(bytes(LAST_PREFIX + roomId), bytes(String.valueOf(messageId))));
+        fields.put(bytes(LOADED_FIELD), bytes("1"));
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.keyCommands().del(key);
+            connection.hashCommands().hMSet(key, fields);
+            connection.keyCommands().expire(key, ttlSeconds);
+            return null;
+        });
+    }
+
+    /**
+     * 여러 사용자의 채팅방별 안 읽은 메시지 수를 한 번의 파이프라인으로 증가
+     * 이미 반영된 메시지는 다시 세지 않습니다.
+     *
+     * @param messageIds 사용자 ID별, 채팅방 ID별 새 메시지 ID 목록
+     */
+    public void increment(Map<Long, Map<Long, List<Long>>> messageIds) {
+        if (messageIds.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            messageIds.forEach((userId, byRoom) -> {
+                byte[] key = bytes(key(userId));
+                byRoom.forEach((roomId, ids) -> {
+                    byte[][] keysAndArgs = new byte[ids.size() + 2][];
+                    keysAndArgs[0] = key;
+                    keysAndArgs[1] = bytes(String.valueOf(roomId));
+                    for (int i = 0; i < ids.size(); i++) {
+                        keysAndArgs[i + 2] = bytes(String.valueOf(ids.get(i)));
+                    }
+                    connection.scriptingCommands().eval(INCREMENT_IF_LOADED, ReturnType.INTEGER, 1, keysAndArgs);
+                });
+            });
+            return null;
+        });
+    }
+
+    /**
+     * DB에서 다시 계산한 채팅방의 안 읽은 메시지 수를 설정 (해시가 채워진 경우에만)
+     * 계산에 포함되지 않은 더 뒤의 메시지가 이미 카운터에 반영되었으면 설정하지 않습니다.
+     *
+     * @param userId        사용자 ID
+     * @param roomId        채팅방 ID
+     * @param count         안 읽은 메시지 수
+     * @param lastMessageId 계산에 포함된 마지막 메시지 ID (안 읽은 메시지가 없으면 읽음 위치)
+     * @return 설정했거나 해시가 없으면 true, 더 뒤의 메시지가 반영되어 있어 다시 계산해야 하면 false
+     */
+    public boolean set(Long userId, Long roomId, long count, long lastMessageId) {
+        Long result = stringRedisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands().eval(SET_IF_CURRENT,
+                ReturnType.INTEGER, 1, bytes(key(userId)), bytes(String.valueOf(roomId)), bytes(String.valueOf(count)),
+                bytes(String.valueOf(lastMessageId))));
+        return result == null || result == 1L;
+    }
+
+    /**
+     * 사용자의 해시를 지워 다음 조회 때 DB에서 다시 계산하도록 함
+     *
+     * @param userId 사용자 ID
+     */
+    public void evict(Long userId) {
+        stringRedisTemplate.delete(key(userId));
+    }
+
+    /**
+     * 삭제된 채팅방의 안 읽은 메시지 수를 사용자들의 해시에서 한 번의 파이프라인으로 제거
+     *
+     * @param roomsByUser 사용자 ID별 삭제된 채팅방 ID 목록
+     */
+    public void remove(Map<Long, ? extends Collection<Long>> roomsByUser) {
+        if (roomsByUser.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            roomsByUser.forEach((userId, roomIds) -> connection.hashCommands().hDel(bytes(key(userId)),
+                    roomIds.stream().flatMap(roomId -> Stream.of(bytes(String.valueOf(roomId)), bytes(LAST_PREFIX + roomId)))
+                            .toArray(byte[][]::new)));
+            return null;
+        });
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.omg_project.domain.chat.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 채팅 세션 송신 큐의 지표를 기록하는 컴포넌트
+ * - chat.outbound.queue.depth: 모든 세션 송신 큐에 대기 중인 메시지 수
+ * - chat.outbound.dropped: 전송되지 못하고 버려진 메시지 수 (reason 태그로 원인 구분)
+ * - chat.outbound.send.latency: 세션 하나에 메시지 하나를 쓰는 데 걸린 시간
+ */
+@Component
+public class ChatOutboundMetrics {
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final MeterRegistry meterRegistry;
+    private final Timer sendLatency;
+    private final Counter slowConsumerClosed;
+
+    public ChatOutboundMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("chat.outbound.queue.depth", queued, AtomicInteger::get)
+                .description("채팅 세션 송신 큐에 대기 중인 메시지 수")
+                .register(meterRegistry);
+        this.sendLatency = Timer.builder("chat.outbound.send.latency")
+                .description("채팅 세션 메시지 전송 시간")
+                .register(meterRegistry);
+        this.slowConsumerClosed = Counter.builder("chat.outbound.slow-consumer.closed")
+                .description("느린 소비자로 판단되어 종료된 채팅 세션 수")
+                .register(meterRegistry);
+    }
+
+    void enqueued() {
+        queued.incrementAndGet();
+    }
+
+    void dequeued(int count) {
+        queued.addAndGet(-count);
+    }
+
+    void dropped(String reason, int count) {
+        meterRegistry.counter("chat.outbound.dropped", "reason", reason).increment(count);
+    }
+
+    void recordSend(long nanos) {
+        sendLatency.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void slowConsumerClosed() {
+        slowConsumerClosed.increment();
+    }
+}
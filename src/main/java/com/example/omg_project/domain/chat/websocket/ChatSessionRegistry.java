@@ -0,0 +1,134 @@
+package com.example.omg_project.domain.chat.websocket;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 서버에 접속한 채팅 WebSocket 세션을 채팅방별로 관리하는 저장소
+ * 각 세션은 자신만의 송신 큐를 가진 ChatSessionSender로 감싸서 보관합니다.
+ */
+@Component
+public class ChatSessionRegistry {
+
+    private final Map<String, Map<String, ChatSessionSender>> roomSessions = new ConcurrentHashMap<>();
+
+    private final ChatOutboundMetrics metrics;
+    private final int queueCapacity;
+    private final long sendTimeLimitMillis;
+    private final ChatSessionSender.OverflowPolicy overflowPolicy;
+
+    public ChatSessionRegistry(ChatOutboundMetrics metrics,
+                               @Value("${chat.websocket.outbound.queue-capacity:256}") int queueCapacity,
+                               @Value("${chat.websocket.outbound.send-time-limit-ms:10000}") long sendTimeLimitMillis,
+                               @Value("${chat.websocket.outbound.overflow-policy:DROP_OLDEST}") ChatSessionSender.OverflowPolicy overflowPolicy) {
+        this.metrics = metrics;
+        this.queueCapacity = queueCapacity;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * 세션의 송신자를 생성
+     *
+     * @param session       감쌀 세션
+     * @param resumeAfterId 클라이언트가 마지막으로 받은 메시지 ID (재접속이 아니면 null)
+     * @return 송신자 (resumeAfterId가 있으면 resume 호출 전까지 실시간 메시지를 보내지 않음)
+     */
+    public ChatSessionSender newSender(WebSocketSession session, Long resumeAfterId) {
+        return new ChatSessionSender(session, resumeAfterId, queueCapacity, sendTimeLimitMillis, overflowPolicy, metrics);
+    }
+
+    /**
+     * 채팅방에 세션 송신자를 추가
+     *
+     * @param roomId 채팅방 ID
+     * @param sender 추가할 세션 송신자
+     * @return 이 서버에서 해당 채팅방의 첫 번째 세션이면 true
+     */
+    public boolean add(String roomId, ChatSessionSender sender) {
+        boolean[] first = {false};
+        roomSessions.compute(roomId, (key, senders) -> {
+            if (senders == null) {
+                senders = new ConcurrentHashMap<>();
+                first[0] = true;
+            }
+            senders.put(sender.getSession().getId(), sender);
+            return senders;
+        });
+        return first[0];
+    }
+
+    /**
+     * 채팅방에서 세션을 제거하고 송신 스레드를 종료
+     *
+     * @param roomId  채팅방 ID
+     * @param session 제거할 세션
+     * @return 이 서버에서 해당 채팅방의 마지막 세션이 제거되었으면 true
+     */
+    public boolean remove(String roomId, WebSocketSession session) {
+        boolean[] last = {false};
+        roomSessions.computeIfPresent(roomId, (key, senders) -> {
+            ChatSessionSender sender = senders.remove(session.getId());
+            if (sender != null) {
+                sender.close();
+            }
+            if (senders.isEmpty()) {
+                last[0] = true;
+                return null;
+            }
+            return senders;
+        });
+        return last[0];
+    }
+
+    /**
+     * 모든 세션의 진행 중인 전송이 제한 시간을 넘겼는지 주기적으로 확인
+     * 송신 스레드가 소켓 쓰기에 막혀 있으면 새 메시지가 없는 동안에는 offer에서 확인할 수 없으므로 여기서 종료합니다.
+     */
+    @Scheduled(fixedDelayString = "${chat.websocket.outbound.watchdog-interval-ms:1000}")
+    public void checkSendTimeLimits() {
+        for (Map<String, ChatSessionSender> senders : roomSessions.values()) {
+            for (ChatSessionSender sender : senders.values()) {
+                sender.checkSendTimeLimit();
+            }
+        }
+    }
+
+    /**
+     * 이 서버에 세션이 있는 채팅방 ID 목록을 반환
+     *
+     * @return 채팅방 ID 집합 (변경 불가 복사본)
+     */
+    public Set<String> getRoomIds() {
+        return Set.copyOf(roomSessions.keySet());
+    }
+
+    /**
+     * 이 서버에 채팅방의 세션이 있는지 확인
+     *
+     * @param roomId 채팅방 ID
+     * @return 세션이 하나라도 있으면 true
+     */
+    public boolean hasSessions(String roomId) {
+        return roomSessions.containsKey(roomId);
+    }
+
+    /**
+     * 지정된 채팅방 ID에 대한 이 서버의 모든 세션 송신자를 반환
+     *
+     * @param roomId 채팅방 ID
+     * @return 세션 송신자 목록 (없으면 빈 목록)
+     */
+    public Collection<ChatSessionSender> getSenders(String roomId) {
+        Map<String, ChatSessionSender> senders = roomSessions.get(roomId);
+        return senders == null ? List.of() : senders.values();
+    }
+}
@@ -0,0 +1,292 @@
+package com.example.omg_project.domain.chat.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 세션 하나의 송신 큐와 송신 스레드
+ * - 메시지를 보내는 쪽은 큐에 넣기만 하고, 소켓 쓰기는 세션마다 하나씩 있는 가상 스레드가 순서대로 처리합니다.
+ * - 한 세션에 대한 쓰기는 항상 송신 스레드 하나에서만 일어나므로 동시 전송 문제가 없습니다.
+ * - 큐가 가득 차거나 전송 하나가 제한 시간을 넘기면 느린 소비자로 보고 정책에 따라 처리합니다.
+ *   전송 제한 시간은 송신 스레드와 ChatSessionRegistry의 주기적인 검사에서 확인하므로, 큐가 비어 있어도 멈춘 전송을 찾아냅니다.
+ * - 전송 중 예상하지 못한 예외가 발생하면 송신 스레드가 멈춘 채로 남지 않도록 세션을 종료합니다.
+ * - 재접속한 세션은 놓친 메시지를 먼저 보낸 뒤 실시간 메시지를 보냅니다.
+ *   클라이언트가 이미 받았거나 놓친 메시지로 보낸 범위의 메시지와 최근에 보낸 메시지만 중복으로 보고 건너뛰며,
+ *   늦게 도착한 더 작은 ID의 메시지는 버리지 않습니다.
+ */
+@Slf4j
+public class ChatSessionSender {
+
+    /**
+     * 큐가 가득 찼을 때의 처리 정책
+     */
+    public enum OverflowPolicy {
+        DROP_OLDEST,  // 가장 오래된 메시지를 버리고 새 메시지를 넣음
+        DROP_NEWEST,  // 새 메시지를 버림
+        CLOSE         // 세션을 종료
+    }
+
+    /**
+     * 송신 큐에 담기는 프레임
+     *
+     * @param messageId 채팅 메시지 ID (채팅 메시지가 아니면 0)
+     * @param message   전송할 메시지
+     */
+    public record OutboundFrame(long messageId, TextMessage message) {
+    }
+
+    // 중복으로 판단할 최근 전송 메시지 ID 수
+    private static final int RECENT_IDS = 256;
+
+    private final WebSocketSession session;
+    private final BlockingQueue<OutboundFrame> queue;
+    private final long sendTimeLimitNanos;
+    private final OverflowPolicy overflowPolicy;
+    private final ChatOutboundMetrics metrics;
+    private final Thread thread;
+
+    // 놓친 메시지 전송이 준비될 때까지 송신 스레드를 대기시키는 래치
+    private final CountDownLatch replayReady;
+    private volatile List<OutboundFrame> replayFrames = List.of();
+
+    // 지금까지 전송한 가장 큰 채팅 메시지 ID (송신 스레드에서만 갱신, 연결 종료 시 읽음 위치로 사용)
+    private volatile long lastSentId;
+
+    // 이 ID 이하는 클라이언트가 이미 받았거나 놓친 메시지로 모두 보낸 범위 (송신 스레드에서만 사용)
+    private long deliveredUpTo;
+
+    // 그 이후에 보낸 최근 메시지 ID (송신 스레드에서만 사용, 오래된 것부터 제거)
+    private final LinkedHashSet<Long> recentIds = new LinkedHashSet<>();
+
+    // 진행 중인 전송의 시작 시각 (전송 중이 아니면 0)
+    private volatile long sendStartedAt;
+    private volatile boolean closed;
+
+    ChatSessionSender(WebSocketSession session, Long resumeAfterId, int queueCapacity, long sendTimeLimitMillis,
+                      OverflowPolicy overflowPolicy, ChatOutboundMetrics metrics) {
+        this.session = session;
+        this.lastSentId = resumeAfterId != null ? resumeAfterId : 0L;
+        this.deliveredUpTo = lastSentId;
+        this.replayReady = new CountDownLatch(resumeAfterId != null ? 1 : 0);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.sendTimeLimitNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeLimitMillis);
+        this.overflowPolicy = overflowPolicy;
+        this.metrics = metrics;
+        this.thread = Thread.ofVirtual().name("chat-sender-" + session.getId()).start(this::drain);
+    }
+
+    public WebSocketSession getSession() {
+        return session;
+    }
+
+    public long getLastSentId() {
+        return lastSentId;
+    }
+
+    /**
+     * 놓친 메시지를 전달하고 실시간 전송을 시작
+     * 재접속 세션은 이 메서드가 호출될 때까지 큐에 쌓인 실시간 메시지를 보내지 않습니다.
+     *
+     * @param frames 메시지 ID 오름차순의 놓친 메시지 (없으면 빈 목록)
+     */
+    public void resume(List<OutboundFrame> frames) {
+        replayFrames = frames;
+        replayReady.countDown();
+    }
+
+    /**
+     * 메시지를 송신 큐에 넣음 (소켓 쓰기를 기다리지 않음)
+     *
+     * @param message 전송할 메시지
+     * @return 큐에 들어갔으면 true, 버려졌으면 false
+     */
+    public boolean offer(OutboundFrame message) {
+        if (closed) {
+            metrics.dropped("closed", 1);
+            return false;
+        }
+
+        // 진행 중인 전송이 제한 시간을 넘겼으면 정책과 관계없이 세션을 종료
+        if (checkSendTimeLimit()) {
+            metrics.dropped("send-time-limit", 1);
+            return false;
+        }
+
+        if (queue.offer(message)) {
+            return enqueued(message);
+        }
+
+        switch (overflowPolicy) {
+            case DROP_OLDEST -> {
+                if (queue.poll() != null) {
+                    metrics.dequeued(1);
+                    metrics.dropped("overflow", 1);
+                }
+                if (queue.offer(message)) {
+                    return enqueued(message);
+                }
+                metrics.dropped("overflow", 1);
+            }
+            case DROP_NEWEST -> metrics.dropped("overflow", 1);
+            case CLOSE -> {
+                closeSlowConsumer("buffer size limit exceeded");
+                metrics.dropped("overflow", 1);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 큐에 넣은 메시지를 기록
+     * 종료와 동시에 들어온 메시지는 종료 시 큐를 비운 뒤에 남을 수 있으므로, 종료됐으면 다시 꺼내서 버립니다.
+     *
+     * @return 전송 대기 중이면 true, 종료되어 버렸으면 false
+     */
+    private boolean enqueued(OutboundFrame message) {
+        metrics.enqueued();
+        if (closed && queue.remove(message)) {
+            metrics.dequeued(1);
+            metrics.dropped("closed", 1);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 진행 중인 전송이 제한 시간을 넘겼는지 확인하고, 넘겼으면 세션을 종료
+     * 송신 스레드가 소켓 쓰기에 막혀 있어도 다른 스레드에서 호출할 수 있습니다.
+     *
+     * @return 제한 시간을 넘겨 세션을 종료했거나 이미 종료된 상태이면 true
+     */
+    public boolean checkSendTimeLimit() {
+        long startedAt = sendStartedAt;
+        if (startedAt != 0 && System.nanoTime() - startedAt > sendTimeLimitNanos) {
+            closeSlowConsumer("send time limit exceeded");
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 송신 스레드를 멈추고 남은 메시지를 버림
+     * 세션이 닫힌 뒤 호출됩니다.
+     */
+    public void close() {
+        closed = true;
+        thread.interrupt();
+        discardQueued("closed");
+    }
+
+    /**
+     * 놓친 메시지를 먼저 보낸 뒤, 큐에서 메시지를 꺼내 순서대로 세션에 전송
+     */
+    private void drain() {
+        try {
+            replayReady.await();
+        } catch (InterruptedException e) {
+            discardQueued("closed");
+            return;
+        }
+        for (OutboundFrame frame : replayFrames) {
+            if (closed) {
+                break;
+            }
+            send(frame);
+        }
+        // 놓친 메시지는 DB에서 구간 전체를 조회한 것이므로, 그 구간의 실시간 메시지는 모두 중복
+        deliveredUpTo = lastSentId;
+        recentIds.clear();
+        replayFrames = List.of();
+
+        while (!closed) {
+            OutboundFrame frame;
+            try {
+                frame = queue.take();
+            } catch (InterruptedException e) {
+                break;
+            }
+            metrics.dequeued(1);
+            send(frame);
+        }
+        discardQueued("closed");
+    }
+
+    private void send(OutboundFrame frame) {
+        // 놓친 메시지로 이미 보냈거나 클라이언트가 이미 받은 메시지, 최근에 보낸 메시지는 건너뜀
+        long messageId = frame.messageId();
+        if (messageId > 0) {
+            if (messageId <= deliveredUpTo || !recentIds.add(messageId)) {
+                return;
+            }
+            if (recentIds.size() > RECENT_IDS) {
+                recentIds.removeFirst();
+            }
+            lastSentId = Math.max(lastSentId, messageId);
+        }
+
+        long startedAt = System.nanoTime();
+        sendStartedAt = startedAt;
+        try {
+            if (session.isOpen()) {
+                session.sendMessage(frame.message());
+            }
+        } catch (IOException e) {
+            log.warn("채팅 메시지 전송 실패 :: 세션 {}", session.getId(), e);
+        } catch (RuntimeException e) {
+            // 세션 상태 오류 등은 다음 전송에서도 반복되므로 세션을 종료
+            log.warn("채팅 메시지 전송 중 예외 :: 세션 {}", session.getId(), e);
+            closeSlowConsumer("send failed");
+            return;
+        } finally {
+            sendStartedAt = 0;
+            metrics.recordSend(System.nanoTime() - startedAt);
+        }
+
+        // 전송은 끝났지만 제한 시간을 넘겼으면 느린 소비자로 보고 세션을 종료
+        if (System.nanoTime() - startedAt > sendTimeLimitNanos) {
+            closeSlowConsumer("send time limit exceeded");
+        }
+    }
+
+    /**
+     * 느린 소비자나 전송에 실패한 세션을 종료
+     * 종료 처리 자체가 소켓에 막힐 수 있으므로 호출한 스레드에서 기다리지 않습니다.
+     */
+    private void closeSlowConsumer(String reason) {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        metrics.slowConsumerClosed();
+        discardQueued("slow-consumer");
+        log.warn("느린 채팅 세션 종료 :: 세션 {} ({})", session.getId(), reason);
+        Thread.ofVirtual().start(() -> {
+            try {
+                session.close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException e) {
+                log.debug("채팅 세션 종료 실패 :: 세션 {}", session.getId(), e);
+            }
+        });
+    }
+
+    private void discardQueued(String reason) {
+        int discarded = 0;
+        while (queue.poll() != null) {
+            discarded++;
+        }
+        if (discarded > 0) {
+            metrics.dequeued(discarded);
+            metrics.dropped(reason, discarded);
+        }
+    }
+}
@@ -1,21 +1,40 @@
 package com.example.omg_project.domain.chat.websocket;
 
+import com.example.omg_project.domain.trip.repository.TeamRepository;
+import com.example.omg_project.domain.user.repository.UserRepository;
+import com.example.omg_project.global.jwt.util.JwtTokenizer;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.http.server.ServletServerHttpRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.server.support.HttpSessionHandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.util.List;
 import java.util.Map;
 
+@Slf4j
 @Component
+@RequiredArgsConstructor
 public class CustomHandshakeInterceptor extends HttpSessionHandshakeInterceptor {
 
+    private static final String CHAT_PATH_PREFIX = "/chat/";
+
+    private final JwtTokenizer jwtTokenizer;
+    private final UserRepository userRepository;
+    private final TeamRepository teamRepository;
+
     /**
      * 핸드쉐이크 전에 호출되어 WebSocket 연결을 설정하는 메서드입니다.
+     * 채팅 연결은 여기서 한 번만 토큰을 검증하고 사용자 ID, 닉네임, 채팅방 참여 여부를 확인하여 세션 속성에 저장합니다.
      *
      * @param request WebSocket 요청 객체
      * @param response WebSocket 응답 객체
@@ -29,22 +48,96 @@ public class CustomHandshakeInterceptor extends HttpSessionHandshakeInterceptor
                                    Map<String, Object> attributes) throws Exception {
 
         // 쿠키에서 accessToken 추출
+        String token = null;
         if (request instanceof ServletServerHttpRequest) {
             HttpServletRequest servletRequest = ((ServletServerHttpRequest) request).getServletRequest();
-            String token = extractTokenFromCookies(servletRequest);
+            token = extractTokenFromCookies(servletRequest);
             if (token != null) {
                 attributes.put("jwtToken", token);  // 추출한 토큰을 핸드쉐이크 속성에 추가
             }
         }
 
-        // URL 경로에서 roomId 추출
         String path = request.getURI().getPath();
+        if (path.startsWith(CHAT_PATH_PREFIX)) {
+            return authorizeChat(path, token, request, response, attributes);
+        }
+
+        // URL 경로에서 roomId 추출
         String roomId = path.split("/")[2];
         attributes.put("roomId", roomId);  // 추출한 roomId를 핸드쉐이크 속성에 추가
 
         return true;  // 핸드쉐이크 성공
     }
 
+    /**
+     * 채팅 WebSocket 연결의 사용자와 채팅방 참여 여부를 확인하는 메서드입니다.
+     * 확인된 사용자 ID, 닉네임, 토큰 만료 시각을 세션 속성에 저장하며, 이후 메시지마다 토큰을 다시 검증하지 않습니다.
+     *
+     * @param path       요청 경로 (/chat/{roomId})
+     * @param token      accessToken (없으면 null)
+     * @param request    WebSocket 요청 객체
+     * @param response   WebSocket 응답 객체
+     * @param attributes 핸드쉐이크 속성
+     * @return boolean 핸드쉐이크 허용 여부
+     */
+    private boolean authorizeChat(String path, String token, ServerHttpRequest request, ServerHttpResponse response,
+                                  Map<String, Object> attributes) {
+        String roomId = path.substring(CHAT_PATH_PREFIX.length());
+        if (!roomId.matches("\\d{1,18}")) {
+            response.setStatusCode(HttpStatus.BAD_REQUEST);
+            return false;
+        }
+
+        // 토큰 서명과 만료를 한 번만 검증
+        if (token == null) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+        Claims claims;
+        Long userId;
+        try {
+            claims = jwtTokenizer.parseAccessToken(token);
+            userId = claims.get("userId", Long.class);  // 타입이 다르면 RequiredTypeException(JwtException)
+        } catch (JwtException | IllegalArgumentException e) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+        // 사용자 ID나 만료 시각이 없는 토큰은 세션 속성을 만들 수 없으므로 거부
+        if (userId == null || claims.getExpiration() == null) {
+            log.warn("채팅 토큰에 필수 클레임 없음 :: 채팅방 {}", roomId);
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+
+        // 닉네임만 필요하므로 프로젝션으로 조회
+        List<UserRepository.NicknameView> users = userRepository.findByIdIn(List.of(userId));
+        if (users.isEmpty()) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+
+        // 채팅방에 연결된 팀의 멤버만 접속 가능
+        if (!teamRepository.existsByChatRoomIdAndUsersId(Long.valueOf(roomId), userId)) {
+            log.warn("채팅방 접근 거부 :: 사용자 {} 채팅방 {}", userId, roomId);
+            response.setStatusCode(HttpStatus.FORBIDDEN);
+            return false;
+        }
+
+        attributes.remove("jwtToken");
+        attributes.put("roomId", roomId);
+        attributes.put("userId", userId);
+        attributes.put("nickname", users.get(0).getUsernick());
+        attributes.put("tokenExpiresAt", claims.getExpiration().getTime());
+
+        // 재접속 시 클라이언트가 마지막으로 받은 메시지 ID (놓친 메시지 재전송용)
+        String lastMessageId = UriComponentsBuilder.fromUri(request.getURI()).build()
+                .getQueryParams().getFirst("lastMessageId");
+        if (lastMessageId != null && lastMessageId.matches("\\d{1,18}")) {
+            attributes.put("lastMessageId", Long.valueOf(lastMessageId));
+        }
+        return true;
+    }
+
     /**
      * 쿠키에서 accessToken을 추출하는 메서드입니다.
      *
@@ -1,31 +1,70 @@
 package com.example.omg_project.domain.chat.websocket;
 
+import com.example.omg_project.domain.chat.dto.ChatEnvelope;
+import com.example.omg_project.domain.chat.dto.ChatHistoryMessage;
+import com.example.omg_project.domain.chat.dto.ChatMessageDTO;
 import com.example.omg_project.domain.chat.kafka.ChatMessageProducer;
-import com.example.omg_project.domain.user.service.UserService;
-import com.example.omg_project.domain.user.entity.User;
-import com.example.omg_project.global.jwt.util.JwtTokenizer;
+import com.example.omg_project.domain.chat.service.ChatService;
+import com.example.omg_project.domain.chat.service.redis.ChatPresenceRegistry;
+import com.example.omg_project.domain.chat.service.redis.ChatRoomBroadcaster;
+import com.example.omg_project.global.exception.CustomException;
+import com.example.omg_project.global.exception.ErrorCode;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class WebSocketHandler extends TextWebSocketHandler {
 
-    // 웹소켓으로 접속한 세션들을 팀별로 관리하기 위한 저장소
-    private static final Map<String, Set<WebSocketSession>> roomSessions = new ConcurrentHashMap<>();
+    // 클라이언트 프레임({"message": ...} 또는 {"imageUrl": ...})을 읽는 공유 리더
+    private static final ObjectReader CLIENT_FRAME_READER = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .readerFor(ClientFrame.class);
+    private static final ObjectWriter DTO_WRITER = new ObjectMapper().writerFor(ChatMessageDTO.class);
+
+    // 놓친 메시지가 너무 많아 재전송 대신 히스토리를 다시 불러오라고 알리는 프레임
+    private static final TextMessage RESYNC_FRAME = new TextMessage("{\"type\":\"RESYNC\"}");
+
+    // 너무 긴 메시지를 보낸 클라이언트에게 알리는 프레임 (세션은 유지)
+    private static final TextMessage MESSAGE_TOO_LONG_FRAME = new TextMessage("{\"type\":\"ERROR\",\"code\":\""
+            + ErrorCode.MESSAGE_TOO_LONG.getCode() + "\",\"message\":\"" + ErrorCode.MESSAGE_TOO_LONG.getMessage() + "\"}");
+
+    // 토큰 만료 시각에 세션을 종료하는 타이머
+    private static final ScheduledExecutorService EXPIRY_SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("chat-session-expiry").daemon().factory());
+    private static final CloseStatus TOKEN_EXPIRED = CloseStatus.POLICY_VIOLATION.withReason("access token expired");
+
+    @Value("${chat.websocket.replay-limit:500}")
+    private int replayLimit;
+
+    // 메시지 내용의 최대 길이 (저장 시 JSON으로 감싸므로 message 컬럼 길이보다 작게 둠)
+    @Value("${chat.message.max-length:400}")
+    private int maxMessageLength;
 
     private final ChatMessageProducer chatMessageProducer;
-    private final UserService userService;
-    private final JwtTokenizer jwtTokenizer;
+    private final ChatRoomBroadcaster chatRoomBroadcaster;
+    private final ChatSessionRegistry chatSessionRegistry;
+    private final ChatService chatService;
+    private final ChatPresenceRegistry chatPresenceRegistry;
 
     /**
      * 웹소켓 연결이 성립된 후 호출됩니다.
@@ -36,9 +75,62 @@ public class WebSocketHandler extends TextWebSocketHandler {
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
         String roomId = (String) session.getAttributes().get("roomId");
-        // 방별로 세션을 관리하여 동기화된 세션 집합을 생성
-        roomSessions.computeIfAbsent(roomId, k -> Collections.synchronizedSet(new HashSet<>())).add(session);
+        Long lastMessageId = (Long) session.getAttributes().get("lastMessageId");
+
+        // 토큰이 만료되는 시각에 세션을 종료하도록 예약 (메시지마다 토큰을 검증하지 않음)
+        long expiresIn = (Long) session.getAttributes().get("tokenExpiresAt") - System.currentTimeMillis();
+        ScheduledFuture<?> expiryTask = EXPIRY_SCHEDULER.schedule(
+                () -> Thread.ofVirtual().start(() -> closeExpiredSession(session)), Math.max(0, expiresIn), TimeUnit.MILLISECONDS);
+        session.getAttributes().put("expiryTask", expiryTask);
+
+        // 방별로 세션을 먼저 등록하여 실시간 메시지를 놓치지 않도록 하고, 이 서버의 첫 세션이면 채팅방 채널을 구독
+        ChatSessionSender sender = chatSessionRegistry.newSender(session, lastMessageId);
+        chatRoomBroadcaster.join(roomId, sender);
+        session.getAttributes().put("sender", sender);
         log.info("세션 연결 성공 :: " + session.getId() + " 채팅방 ID: " + roomId);
+
+        // 접속 중인 사용자에게는 채팅 알림을 보내지 않도록 접속 상태를 기록
+        Long userId = (Long) session.getAttributes().get("userId");
+        chatPresenceRegistry.enter(Long.valueOf(roomId), userId, session.getId());
+
+        // 채팅방에 들어오면 지금까지의 메시지를 읽음 처리
+        markRead(() -> chatService.markRoomRead(Long.valueOf(roomId), userId), roomId);
+
+        // 재접속이면 놓친 메시지를 보낸 뒤 실시간 전송으로 전환
+        if (lastMessageId != null) {
+            sender.resume(buildReplayFrames(Long.valueOf(roomId), lastMessageId));
+        }
+    }
+
+    /**
+     * 재접속한 클라이언트가 놓친 메시지 프레임을 생성
+     * 놓친 메시지가 replayLimit을 넘거나 조회에 실패하면 히스토리를 다시 불러오라는 프레임 하나를 보냅니다.
+     *
+     * @param roomId        채팅방 ID
+     * @param lastMessageId 클라이언트가 마지막으로 받은 메시지 ID
+     * @return 메시지 ID 오름차순의 전송할 프레임 목록
+     */
+    private List<ChatSessionSender.OutboundFrame> buildReplayFrames(Long roomId, Long lastMessageId) {
+        try {
+            List<ChatHistoryMessage> missed = chatService.getMessagesAfter(roomId, lastMessageId, replayLimit);
+            if (missed.size() > replayLimit) {
+                return List.of(new ChatSessionSender.OutboundFrame(0L, RESYNC_FRAME));
+            }
+
+            List<ChatSessionSender.OutboundFrame> frames = new ArrayList<>(missed.size());
+            for (ChatHistoryMessage message : missed) {
+                ChatMessageDTO dto = new ChatMessageDTO();
+                dto.setId(message.id());
+                dto.setMessage(message.message());
+                dto.setUserNickname(message.userNickname());
+                dto.setCreatedAt(message.createdAt().toString());
+                frames.add(new ChatSessionSender.OutboundFrame(message.id(), new TextMessage(DTO_WRITER.writeValueAsBytes(dto))));
+            }
+            return frames;
+        } catch (Exception e) {
+            log.warn("놓친 메시지 조회 실패 :: 채팅방 {}", roomId, e);
+            return List.of(new ChatSessionSender.OutboundFrame(0L, RESYNC_FRAME));
+        }
     }
 
     /**
@@ -51,9 +143,49 @@ public class WebSocketHandler extends TextWebSocketHandler {
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
         String roomId = (String) session.getAttributes().get("roomId");
-        Set<WebSocketSession> sessions = roomSessions.get(roomId);
-        if (sessions != null) {
-            sessions.remove(session);  // 세션을 방에서 제거
+        chatRoomBroadcaster.leave(roomId, session);  // 세션을 방에서 제거
+        Long userId = (Long) session.getAttributes().get("userId");
+        chatPresenceRegistry.leave(Long.valueOf(roomId), userId, session.getId());
+
+        // 마지막으로 전달된 메시지까지 읽음 위치를 이동
+        ChatSessionSender sender = (ChatSessionSender) session.getAttributes().get("sender");
+        if (sender != null) {
+            markRead(() -> chatService.markRead(Long.valueOf(roomId), userId, sender.getLastSentId()), roomId);
+        }
+
+        ScheduledFuture<?> expiryTask = (ScheduledFuture<?>) session.getAttributes().get("expiryTask");
+        if (expiryTask != null) {
+            expiryTask.cancel(false);
+        }
+    }
+
+    /**
+     * 읽음 처리를 실행합니다. 읽음 처리 실패는 채팅 연결에 영향을 주지 않도록 로깅만 합니다.
+     *
+     * @param action 읽음 처리 작업
+     * @param roomId 채팅방 ID
+     */
+    private void markRead(Runnable action, String roomId) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            log.warn("읽음 위치 갱신 실패 :: 채팅방 {}", roomId, e);
+        }
+    }
+
+    /**
+     * 토큰이 만료된 세션을 종료합니다.
+     *
+     * @param session 웹소켓 세션
+     */
+    private void closeExpiredSession(WebSocketSession session) {
+        try {
+            if (session.isOpen()) {
+                log.info("토큰 만료로 세션 종료 :: " + session.getId());
+                session.close(TOKEN_EXPIRED);
+            }
+        } catch (IOException e) {
+            log.warn("세션 종료 실패 :: " + session.getId(), e);
         }
     }
 
@@ -66,33 +198,45 @@ public class WebSocketHandler extends TextWebSocketHandler {
      */
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
-        String payload = message.getPayload();
-
-        // JWT 토큰에서 사용자 정보를 추출
-        String token = (String) session.getAttributes().get("jwtToken");
-        String username = "Unknown user";
-        String nickname = "Unknown user";
-
-        if (token != null && !jwtTokenizer.isAccessTokenExpired(token)) {
-            username = jwtTokenizer.getUsernameFromToken(token);
-            Optional<User> userOptional = userService.findByUsername(username);
-            User user = userOptional.orElseThrow();
-            nickname = user.getUsernick();
+        // 클라이언트 프레임을 한 번만 파싱하여 메시지 유형과 내용을 결정
+        ClientFrame frame = CLIENT_FRAME_READER.readValue(message.getPayload());
+        ChatEnvelope.MessageType type;
+        String body;
+        if (frame.imageUrl() != null) {
+            type = ChatEnvelope.MessageType.IMAGE;
+            body = frame.imageUrl();
+        } else if (frame.message() != null) {
+            type = ChatEnvelope.MessageType.TEXT;
+            body = frame.message();
+        } else {
+            throw new CustomException(ErrorCode.INVALID_MESSAGE_FORMAT);
+        }
+        // 너무 긴 메시지는 저장 배치 전체를 실패시키므로 Kafka로 보내기 전에 거부
+        // 예외로 처리하면 세션이 종료되므로, 보낸 사람에게 오류 프레임만 보내고 연결은 유지
+        if (body.length() > maxMessageLength) {
+            ChatSessionSender sender = (ChatSessionSender) session.getAttributes().get("sender");
+            if (sender != null) {
+                sender.offer(new ChatSessionSender.OutboundFrame(0L, MESSAGE_TOO_LONG_FRAME));
+            }
+            return;
         }
 
-        String roomId = (String) session.getAttributes().get("roomId");
+        // 핸드쉐이크에서 확인한 사용자 정보를 사용
+        Long userId = (Long) session.getAttributes().get("userId");
+        String nickname = (String) session.getAttributes().get("nickname");
+        Long roomId = Long.valueOf((String) session.getAttributes().get("roomId"));
 
         // 채팅 메시지를 Kafka를 통해 전송
-        chatMessageProducer.sendMessage(roomId, nickname + ": " + payload);
+        chatMessageProducer.sendMessage(ChatEnvelope.of(roomId, userId, nickname, type, body, frame.clientMsgId()));
     }
 
     /**
-     * 지정된 채팅방 ID에 대한 모든 웹소켓 세션을 반환합니다.
+     * 클라이언트가 WebSocket으로 보내는 채팅 프레임
      *
-     * @param roomId 채팅방 ID
-     * @return 웹소켓 세션 집합
+     * @param message     텍스트 메시지
+     * @param imageUrl    이미지 URL
+     * @param clientMsgId 클라이언트가 부여한 메시지 ID (선택)
      */
-    public static Set<WebSocketSession> getSessions(String roomId) {
-        return roomSessions.get(roomId);
+    private record ClientFrame(String message, String imageUrl, String clientMsgId) {
     }
 }
@@ -50,8 +50,8 @@ public class JoinPostDto {
         private String usernick;
         private ReadTripDTO trip;
 
-        // 엔티티 -> DTO
-        public static Response fromEntity(JoinPost joinPost) {
+        // 엔티티 -> DTO (여행 일정은 TripReadService로 조회한 DTO를 사용)
+        public static Response fromEntity(JoinPost joinPost, ReadTripDTO trip) {
             return Response.builder()
                     .id(joinPost.getId())
                     .title(joinPost.getTitle())
@@ -61,7 +61,7 @@ public class JoinPostDto {
                     .userId(joinPost.getUser().getId())
                     .usernick(joinPost.getUser().getUsernick())
                     .username(joinPost.getUser().getUsername())
-                    .trip(ReadTripDTO.fromEntity(joinPost.getTrip()))
+                    .trip(trip)
                     .build();
         }
 
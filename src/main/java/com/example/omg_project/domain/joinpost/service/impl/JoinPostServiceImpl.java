@@ -4,8 +4,10 @@ import com.example.omg_project.domain.joinpost.dto.JoinPostDto;
 import com.example.omg_project.domain.joinpost.entity.JoinPost;
 import com.example.omg_project.domain.joinpost.repository.JoinPostRepository;
 import com.example.omg_project.domain.joinpost.service.JoinPostService;
+import com.example.omg_project.domain.trip.dto.ReadTripDTO;
 import com.example.omg_project.domain.trip.entity.Trip;
 import com.example.omg_project.domain.trip.repository.TripRepository;
+import com.example.omg_project.domain.trip.service.TripReadService;
 import com.example.omg_project.domain.user.entity.User;
 import com.example.omg_project.domain.user.repository.UserRepository;
 import com.example.omg_project.global.exception.CustomException;
@@ -16,6 +18,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,6 +27,7 @@ public class JoinPostServiceImpl implements JoinPostService {
     private final JoinPostRepository joinPostRepository;
     private final UserRepository userRepository;
     private final TripRepository tripRepository;
+    private final TripReadService tripReadService;
 
     /**
      * 게시글 작성
@@ -44,7 +48,7 @@ public class JoinPostServiceImpl implements JoinPostService {
         joinPostRepository.save(joinPost);
 
         // 저장된 엔티티를 DTO로 변환하여 반환
-        return JoinPostDto.Response.fromEntity(joinPost);
+        return toResponse(joinPost);
     }
 
     /**
@@ -58,10 +62,7 @@ public class JoinPostServiceImpl implements JoinPostService {
             sorting = Sort.by(Sort.Direction.DESC, "views"); // 인기순 정렬
         }
 
-        return joinPostRepository.findAll(sorting)
-                .stream()
-                .map(JoinPostDto.Response::fromEntity)
-                .collect(Collectors.toList());
+        return toResponses(joinPostRepository.findAll(sorting));
     }
 
     /**
@@ -71,7 +72,7 @@ public class JoinPostServiceImpl implements JoinPostService {
     @Transactional(readOnly = true)
     public List<JoinPostDto.Response> findJoinPostsByUserId(Long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND_EXCEPTION));
-        return joinPostRepository.findJoinPostByUserId(user.getId()).stream().map(JoinPostDto.Response::fromEntity).collect(Collectors.toList());
+        return toResponses(joinPostRepository.findJoinPostByUserId(user.getId()));
     }
 
     /**
@@ -85,10 +86,7 @@ public class JoinPostServiceImpl implements JoinPostService {
             sorting = Sort.by(Sort.Direction.DESC, "views"); // 인기순 정렬
         }
 
-        return joinPostRepository.findByTrip_CityId(cityId, sorting)
-                .stream()
-                .map(JoinPostDto.Response::fromEntity)
-                .collect(Collectors.toList());
+        return toResponses(joinPostRepository.findByTrip_CityId(cityId, sorting));
     }
 
     /**
@@ -114,7 +112,7 @@ public class JoinPostServiceImpl implements JoinPostService {
                 throw new CustomException(ErrorCode.INVALID_SEARCH_OPTION_EXCEPTION);
         }
 
-        return results.stream().map(JoinPostDto.Response::fromEntity).collect(Collectors.toList());
+        return toResponses(results);
     }
 
     /**
@@ -124,7 +122,7 @@ public class JoinPostServiceImpl implements JoinPostService {
     @Transactional(readOnly = true)
     public JoinPostDto.Response findJoinPostById(Long id) {
         JoinPost joinPost = joinPostRepository.findById(id).orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND_EXCEPTION));
-        return JoinPostDto.Response.fromEntity(joinPost);
+        return toResponse(joinPost);
     }
 
     /**
@@ -138,7 +136,7 @@ public class JoinPostServiceImpl implements JoinPostService {
         // 엔티티 메서드를 통해 업데이트
         originPost.updateContent(joinPostRequest.getTitle(), joinPostRequest.getContent());
 
-        return JoinPostDto.Response.fromEntity(originPost);
+        return toResponse(originPost);
     }
 
     /**
@@ -170,4 +168,20 @@ public class JoinPostServiceImpl implements JoinPostService {
         joinPostRepository.save(joinPost);
     }
 
+    /**
+     * 게시글을 응답 DTO로 변환
+     */
+    private JoinPostDto.Response toResponse(JoinPost joinPost) {
+        return JoinPostDto.Response.fromEntity(joinPost, tripReadService.getTrip(joinPost.getTrip().getId()));
+    }
+
+    /**
+     * 게시글 목록을 응답 DTO로 변환 (여행 일정은 한 번에 조회)
+     */
+    private List<JoinPostDto.Response> toResponses(List<JoinPost> joinPosts) {
+        Map<Long, ReadTripDTO> trips = tripReadService.getTripsById(joinPosts.stream().map(joinPost -> joinPost.getTrip().getId()).toList());
+        return joinPosts.stream()
+                .map(joinPost -> JoinPostDto.Response.fromEntity(joinPost, trips.get(joinPost.getTrip().getId())))
+                .collect(Collectors.toList());
+    }
 }
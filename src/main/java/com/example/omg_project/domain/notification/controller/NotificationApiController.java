@@ -1,13 +1,23 @@
 package com.example.omg_project.domain.notification.controller;
 
+import com.example.omg_project.domain.notification.entity.Notification;
 import com.example.omg_project.domain.notification.service.NotificationService;
+import com.example.omg_project.domain.notification.service.NotificationSseHub;
+import com.example.omg_project.global.jwt.util.JwtTokenizer;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
 
 /**
  * 알림 관련 API를 제공하는 컨트롤러 클래스.
@@ -19,6 +29,42 @@ import org.springframework.web.bind.annotation.RestController;
 public class NotificationApiController {
 
     private final NotificationService notificationService;
+    private final NotificationSseHub notificationSseHub;
+    private final JwtTokenizer jwtTokenizer;
+
+    /**
+     * 로그인한 사용자의 읽지 않은 알림을 한 페이지씩 조회하는 API 엔드포인트.
+     * 알림 ID를 커서로 사용하며, 다음 페이지는 마지막으로 받은 알림 ID를 before로 전달하여 조회합니다.
+     *
+     * @param before  이 ID보다 이전 알림을 조회 (선택)
+     * @param type    조회할 알림 유형 (선택)
+     * @param limit   조회할 알림 수 (기본 50, 최대 200)
+     * @param request HTTP 요청 객체, 쿠키에서 JWT 토큰을 추출하는 데 사용됩니다.
+     * @return 최신순으로 정렬된 읽지 않은 알림 목록
+     */
+    @GetMapping
+    public ResponseEntity<List<Notification>> getUnreadNotifications(@RequestParam(value = "before", required = false) Long before,
+                                                                     @RequestParam(value = "type", required = false) String type,
+                                                                     @RequestParam(value = "limit", defaultValue = "50") int limit,
+                                                                     HttpServletRequest request) {
+        Long userId = jwtTokenizer.getUserIdFromToken(jwtTokenizer.getAccessTokenFromCookies(request));
+        return ResponseEntity.ok(notificationService.getUnreadNotifications(userId, before, type, limit));
+    }
+
+    /**
+     * 로그인한 사용자의 실시간 알림을 SSE(Server-Sent Events)로 전송하는 API 엔드포인트.
+     * 이벤트 ID는 사용자 알림 스트림의 ID이며, 재연결 시 Last-Event-ID 헤더로 놓친 알림을 다시 받습니다.
+     *
+     * @param lastEventId 마지막으로 받은 이벤트 ID (브라우저 EventSource가 재연결 시 자동으로 전달)
+     * @param request     HTTP 요청 객체, 쿠키에서 JWT 토큰을 추출하는 데 사용됩니다.
+     * @return SSE 연결
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotifications(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                          HttpServletRequest request) {
+        Long userId = jwtTokenizer.getUserIdFromToken(jwtTokenizer.getAccessTokenFromCookies(request));
+        return notificationSseHub.connect(userId, lastEventId);
+    }
 
     /**
      * 사용자의 읽지 않은 알림 개수를 조회하는 API 엔드포인트.
@@ -37,4 +83,19 @@ public class NotificationApiController {
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
+
+    /**
+     * 여러 사용자의 읽지 않은 알림 개수를 한 번에 조회하는 관리자용 API 엔드포인트.
+     *
+     * @param userIds 읽지 않은 알림 개수를 조회할 사용자 ID 목록
+     * @return 사용자 ID별 읽지 않은 알림 개수
+     */
+    @GetMapping("/counts")
+    public ResponseEntity<Map<Long, Long>> getUnreadNotificationCounts(@RequestParam("userIds") List<Long> userIds) {
+        try {
+            return new ResponseEntity<>(notificationService.getUnreadNotificationCounts(userIds), HttpStatus.OK);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
 }
@@ -55,15 +55,33 @@ public class NotificationController {
 
     /**
      * 특정 알림을 읽음 상태로 변경하는 메서드.
-     * - 알림 ID를 기반으로 알림을 조회하고, 읽음 상태로 업데이트합니다.
+     * - 로그인한 사용자의 알림인 경우에만 한 번의 UPDATE로 읽음 상태로 변경합니다.
      *
-     * @param id 읽음 상태로 변경할 알림의 ID
+     * @param id      읽음 상태로 변경할 알림의 ID
+     * @param request HTTP 요청 객체, 쿠키에서 JWT 토큰을 추출하는 데 사용됩니다.
      * @return HTTP 상태 코드 200 OK를 반환합니다.
      */
     @PostMapping("/{id}/read")
     @ResponseBody
-    public ResponseEntity<Void> markAsRead(@PathVariable Long id) {
-        notificationService.markAsRead(id);
+    public ResponseEntity<Void> markAsRead(@PathVariable Long id, HttpServletRequest request) {
+        String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
+        notificationService.markAsRead(id, jwtTokenizer.getUserIdFromToken(accessToken));
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 로그인한 사용자의 읽지 않은 알림을 한 번에 읽음 상태로 변경하는 메서드.
+     *
+     * @param upToId  이 ID 이하의 알림만 읽음 처리 (없으면 모든 알림)
+     * @param request HTTP 요청 객체, 쿠키에서 JWT 토큰을 추출하는 데 사용됩니다.
+     * @return HTTP 상태 코드 200 OK를 반환합니다.
+     */
+    @PostMapping("/read-all")
+    @ResponseBody
+    public ResponseEntity<Void> markAllAsRead(@RequestParam(value = "upToId", required = false) Long upToId,
+                                              HttpServletRequest request) {
+        String accessToken = jwtTokenizer.getAccessTokenFromCookies(request);
+        notificationService.markAllAsRead(jwtTokenizer.getUserIdFromToken(accessToken), upToId);
         return ResponseEntity.ok().build();
     }
 }
@@ -0,0 +1,20 @@
+package com.example.omg_project.domain.notification.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 같은 내용의 알림을 여러 사용자에게 한 번에 전달하기 위한 Redis 발행 메시지
+ *
+ * @param notificationType 알림 유형
+ * @param message          알림 메시지
+ * @param relatedEntityId  관련된 엔티티 ID
+ * @param createdAt        알림 생성 시간
+ * @param recipients       수신자 ID별 저장된 알림 ID
+ */
+public record NotificationMulticast(String notificationType,
+                                    String message,
+                                    Long relatedEntityId,
+                                    LocalDateTime createdAt,
+                                    Map<Long, Long> recipients) {
+}
@@ -9,7 +9,10 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 @Entity
-@Table(name = "notification")
+@Table(name = "notification", indexes = {
+        @Index(name = "idx_notification_user_read_id", columnList = "user_id, is_read, id"),
+        @Index(name = "idx_notification_created_at", columnList = "created_at")
+})
 @Getter
 @Setter
 public class Notification {
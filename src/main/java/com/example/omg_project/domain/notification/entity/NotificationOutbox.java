@@ -0,0 +1,44 @@
+package com.example.omg_project.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아직 저장 또는 실시간 전송이 끝나지 않은 알림
+ * - 알림을 만든 쪽의 트랜잭션 안에서 알림 내용과 함께 기록되므로, 서버가 죽어도 커밋된 알림은 사라지지 않습니다.
+ * - 처리하는 서버는 claimed_at을 기록하여 행을 선점하고, 알림이 저장되면 notification_id를, 전송이 끝나면 행을 삭제합니다.
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = @Index(name = "idx_notification_outbox_created_at", columnList = "created_at"))
+@Getter
+@Setter
+public class NotificationOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 저장된 알림 ID (아직 저장되지 않았으면 null)
+    @Column(name = "notification_id", unique = true)
+    private Long notificationId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    private String message;
+
+    @Column(name = "notification_type")
+    private String notificationType;
+
+    @Column(name = "related_entity_id")
+    private Long relatedEntityId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 마지막으로 선점한 시각 (선점한 서버가 retry-after-ms 안에 처리하지 못하면 다른 서버가 다시 선점)
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+}
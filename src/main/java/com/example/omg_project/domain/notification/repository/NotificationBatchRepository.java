@@ -0,0 +1,84 @@
+package com.example.omg_project.domain.notification.repository;
+
+import com.example.omg_project.domain.notification.entity.Notification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림을 JDBC 배치로 한 번에 저장하는 저장소
+ * Notification은 IDENTITY 전략을 사용하므로 Hibernate가 INSERT를 배치로 묶지 못해, 대량 저장은 JDBC로 직접 처리합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notification (user_id, message, is_read, created_at, notification_type, related_entity_id) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String DELETE_READ_SQL =
+            "DELETE FROM notification WHERE is_read = TRUE AND created_at < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 알림 목록을 하나의 JDBC 배치로 저장하고, 생성된 ID를 각 알림에 설정
+     *
+     * @param notifications 저장할 알림 목록
+     */
+    @Transactional
+    public void saveAll(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Notification notification : notifications) {
+                    ps.setLong(1, notification.getUserId());
+                    ps.setString(2, notification.getMessage());
+                    ps.setBoolean(3, notification.isRead());
+                    ps.setTimestamp(4, Timestamp.valueOf(notification.getCreatedAt()));
+                    ps.setString(5, notification.getNotificationType());
+                    if (notification.getRelatedEntityId() != null) {
+                        ps.setLong(6, notification.getRelatedEntityId());
+                    } else {
+                        ps.setNull(6, Types.BIGINT);
+                    }
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                // 배치로 생성된 ID를 저장 순서대로 알림에 설정
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    int index = 0;
+                    while (keys.next() && index < notifications.size()) {
+                        notifications.get(index++).setId(keys.getLong(1));
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 지정한 시각 이전에 생성된 읽은 알림을 최대 limit건 삭제
+     *
+     * @param before 이 시각 이전에 생성된 알림만 삭제
+     * @param limit  한 번에 삭제할 최대 건수
+     * @return 삭제된 건수
+     */
+    public int deleteReadBefore(LocalDateTime before, int limit) {
+        return jdbcTemplate.update(DELETE_READ_SQL, Timestamp.valueOf(before), limit);
+    }
+}
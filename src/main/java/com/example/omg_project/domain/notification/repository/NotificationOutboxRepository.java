@@ -0,0 +1,213 @@
+package com.example.omg_project.domain.notification.repository;
+
+import com.example.omg_project.domain.notification.entity.Notification;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 저장 또는 실시간 전송을 기다리는 알림(outbox)을 JDBC로 관리하는 저장소
+ * 행을 처리하기 전에 SELECT ... FOR UPDATE SKIP LOCKED로 잠그고 claimed_at을 기록하여, 여러 서버가 같은 행을 동시에 처리하지 않도록 합니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class NotificationOutboxRepository {
+
+    /**
+     * 선점한 outbox 행
+     *
+     * @param outboxId     outbox 행 ID
+     * @param notification 알림 (아직 저장되지 않았으면 ID가 null)
+     */
+    public record PendingNotification(long outboxId, Notification notification) {
+
+        /**
+         * 알림이 이미 저장되어 전송만 남았는지 여부
+         */
+        public boolean isStored() {
+            return notification.getId() != null;
+        }
+    }
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notification_outbox (user_id, message, notification_type, related_entity_id, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String SELECT_COLUMNS =
+            "SELECT id, notification_id, user_id, message, notification_type, related_entity_id, created_at FROM notification_outbox ";
+
+    private static final String CLAIM_SQL =
+            "UPDATE notification_outbox SET claimed_at = ? WHERE id = ?";
+
+    private static final String MARK_STORED_SQL =
+            "UPDATE notification_outbox SET notification_id = ? WHERE id = ?";
+
+    private static final String DELETE_SQL =
+            "DELETE FROM notification_outbox WHERE id = ?";
+
+    private static final RowMapper<PendingNotification> PENDING_ROW_MAPPER = (rs, rowNum) -> {
+        Notification notification = new Notification();
+        long notificationId = rs.getLong("notification_id");
+        notification.setId(rs.wasNull() ? null : notificationId);
+        notification.setUserId(rs.getLong("user_id"));
+        notification.setMessage(rs.getString("message"));
+        notification.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+        notification.setNotificationType(rs.getString("notification_type"));
+        long relatedEntityId = rs.getLong("related_entity_id");
+        notification.setRelatedEntityId(rs.wasNull() ? null : relatedEntityId);
+        return new PendingNotification(rs.getLong("id"), notification);
+    };
+
+    // 이전 구조에서 NOT NULL로 만들어진 notification_id 컬럼 (ddl-auto=update는 NOT NULL 제약을 풀지 않음)
+    private static final String LEGACY_COLUMN_SQL =
+            "SELECT COUNT(*) FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = DATABASE() " +
+            "AND TABLE_NAME = 'notification_outbox' AND COLUMN_NAME = 'notification_id' AND IS_NULLABLE = 'NO'";
+
+    private static final String RELAX_LEGACY_COLUMN_SQL =
+            "ALTER TABLE notification_outbox MODIFY notification_id BIGINT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이전 구조의 outbox 테이블이 있으면 notification_id를 NULL 허용으로 변경
+     * 새 구조에서는 알림이 저장되기 전에 outbox 행이 먼저 기록되므로 notification_id가 비어 있을 수 있습니다.
+     * 테이블이 아직 없으면 ddl-auto가 새 구조로 만들기 때문에 아무것도 하지 않습니다.
+     */
+    @PostConstruct
+    void relaxLegacyNotificationIdColumn() {
+        try {
+            Integer legacy = jdbcTemplate.queryForObject(LEGACY_COLUMN_SQL, Integer.class);
+            if (legacy != null && legacy > 0) {
+                jdbcTemplate.execute(RELAX_LEGACY_COLUMN_SQL);
+                log.info("notification_outbox.notification_id 컬럼을 NULL 허용으로 변경");
+            }
+        } catch (Exception e) {
+            log.warn("notification_outbox 구조 확인 실패", e);
+        }
+    }
+
+    /**
+     * 알림들을 outbox에 기록하고, 생성된 outbox ID를 반환
+     * 호출한 쪽의 트랜잭션에 참여하므로, 트랜잭션이 롤백되면 기록도 함께 사라집니다.
+     *
+     * @param notifications 기록할 알림 목록
+     * @return 알림 순서대로의 outbox ID 목록
+     */
+    public List<Long> insertAll(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Notification notification : notifications) {
+                    ps.setLong(1, notification.getUserId());
+                    ps.setString(2, notification.getMessage());
+                    ps.setString(3, notification.getNotificationType());
+                    if (notification.getRelatedEntityId() != null) {
+                        ps.setLong(4, notification.getRelatedEntityId());
+                    } else {
+                        ps.setNull(4, Types.BIGINT);
+                    }
+                    ps.setTimestamp(5, Timestamp.valueOf(notification.getCreatedAt()));
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                // 배치로 생성된 ID를 기록 순서대로 반환
+                List<Long> ids = new ArrayList<>(notifications.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                return ids;
+            }
+        });
+    }
+
+    /**
+     * 지정한 outbox 행 중 다른 서버가 처리 중이지 않은 행을 잠그고 선점 (트랜잭션 안에서 호출)
+     *
+     * @param ids         선점할 outbox ID 목록
+     * @param claimedAt   선점 시각
+     * @param staleBefore 이 시각 이전에 선점된 행은 처리가 중단된 것으로 보고 다시 선점
+     * @return 선점한 행 목록
+     */
+    public List<PendingNotification> claim(List<Long> ids, LocalDateTime claimedAt, LocalDateTime staleBefore) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        List<Object> args = new ArrayList<>(ids);
+        args.add(Timestamp.valueOf(staleBefore));
+        List<PendingNotification> claimed = jdbcTemplate.query(SELECT_COLUMNS +
+                        "WHERE id IN (" + placeholders + ") AND (claimed_at IS NULL OR claimed_at < ?) " +
+                        "ORDER BY id FOR UPDATE SKIP LOCKED",
+                PENDING_ROW_MAPPER, args.toArray());
+        markClaimed(claimed, claimedAt);
+        return claimed;
+    }
+
+    /**
+     * createdBefore 이전에 기록되었고 처리 중인 서버가 없는 outbox 행을 최대 limit건 잠그고 선점 (트랜잭션 안에서 호출)
+     *
+     * @param createdBefore 이 시각 이전에 기록된 행만 선점
+     * @param claimedAt     선점 시각
+     * @param staleBefore   이 시각 이전에 선점된 행은 처리가 중단된 것으로 보고 다시 선점
+     * @param limit         최대 선점 수
+     * @return 선점한 행 목록
+     */
+    public List<PendingNotification> claimPending(LocalDateTime createdBefore, LocalDateTime claimedAt,
+                                                  LocalDateTime staleBefore, int limit) {
+        List<PendingNotification> claimed = jdbcTemplate.query(SELECT_COLUMNS +
+                        "WHERE created_at < ? AND (claimed_at IS NULL OR claimed_at < ?) " +
+                        "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED",
+                PENDING_ROW_MAPPER, Timestamp.valueOf(createdBefore), Timestamp.valueOf(staleBefore), limit);
+        markClaimed(claimed, claimedAt);
+        return claimed;
+    }
+
+    /**
+     * 저장된 알림의 ID를 outbox 행에 기록 (알림 저장과 같은 트랜잭션에서 호출)
+     *
+     * @param pending 알림 ID가 설정된 선점 행 목록
+     */
+    public void markStored(List<PendingNotification> pending) {
+        jdbcTemplate.batchUpdate(MARK_STORED_SQL, pending, pending.size(), (ps, row) -> {
+            ps.setLong(1, row.notification().getId());
+            ps.setLong(2, row.outboxId());
+        });
+    }
+
+    /**
+     * 전송이 끝난 outbox 행을 삭제
+     *
+     * @param pending 전송된 선점 행 목록
+     */
+    public void deleteAll(List<PendingNotification> pending) {
+        jdbcTemplate.batchUpdate(DELETE_SQL, pending, pending.size(),
+                (ps, row) -> ps.setLong(1, row.outboxId()));
+    }
+
+    private void markClaimed(List<PendingNotification> claimed, LocalDateTime claimedAt) {
+        Timestamp timestamp = Timestamp.valueOf(claimedAt);
+        jdbcTemplate.batchUpdate(CLAIM_SQL, claimed, claimed.size(), (ps, row) -> {
+            ps.setTimestamp(1, timestamp);
+            ps.setLong(2, row.outboxId());
+        });
+    }
+}
@@ -2,17 +2,48 @@ package com.example.omg_project.domain.notification.repository;
 
 import com.example.omg_project.domain.notification.entity.Notification;
 import com.example.omg_project.domain.user.entity.User;
-import io.lettuce.core.dynamic.annotation.Param;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
-    List<Notification> findByUserIdAndIsReadFalse(Long userId);
+    // 사용자의 읽지 않은 알림을 최신순으로 한 페이지 조회 (before 이전 ID, type이 없으면 모든 유형)
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId AND n.isRead = false AND n.id < :before " +
+            "AND (:type IS NULL OR n.notificationType = :type) ORDER BY n.id DESC")
+    List<Notification> findUnreadPage(@Param("userId") Long userId, @Param("before") Long before,
+                                      @Param("type") String type, Pageable pageable);
 
     @Query("SELECT COUNT(n) FROM Notification n WHERE n.userId = :userId AND n.isRead = false")
     long countUnreadNotifications(@Param("userId") Long userId);
+
+    // 여러 사용자의 읽지 않은 알림 수를 한 번에 조회
+    @Query("SELECT n.userId AS userId, COUNT(n) AS unreadCount FROM Notification n WHERE n.userId IN :userIds AND n.isRead = false GROUP BY n.userId")
+    List<UnreadCountView> countUnreadNotificationsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // 읽지 않은 알림만 읽음 처리 (변경된 행 수 반환)
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.id = :id AND n.userId = :userId AND n.isRead = false")
+    int markAsRead(@Param("id") Long id, @Param("userId") Long userId);
+
+    // 사용자의 읽지 않은 알림을 모두 읽음 처리
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.userId = :userId AND n.isRead = false")
+    int markAllAsRead(@Param("userId") Long userId);
+
+    // 사용자의 지정한 ID 이하의 읽지 않은 알림을 모두 읽음 처리
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.userId = :userId AND n.isRead = false AND n.id <= :upToId")
+    int markAsReadUpTo(@Param("userId") Long userId, @Param("upToId") Long upToId);
+
+    interface UnreadCountView {
+        Long getUserId();
+        Long getUnreadCount();
+    }
 }
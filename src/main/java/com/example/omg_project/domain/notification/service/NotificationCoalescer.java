@@ -0,0 +1,119 @@
+package com.example.omg_project.domain.notification.service;
+
+import com.example.omg_project.domain.notification.entity.Notification;
+import com.example.omg_project.domain.notification.service.redis.NotificationPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * 짧은 시간에 몰리는 실시간 알림을 (사용자, 유형, 관련 엔티티)별로 묶어서 전송하는 컴포넌트
+ * - 묶음의 첫 알림은 바로 전송하고, window-ms 동안 들어온 같은 묶음의 알림은 보관합니다.
+ * - 시간이 지나면 보관한 알림을 요약 알림 하나로 전송합니다 (예: "제주 여행에 새 메시지 12개").
+ * - 알림을 저장하지 않는 실시간 전송에만 사용하며, 안 읽은 수는 별도의 카운터로 관리되므로 영향을 받지 않습니다.
+ */
+@Slf4j
+@Component
+public class NotificationCoalescer {
+
+    private final NotificationPublisher notificationPublisher;
+    private final long windowMillis;
+    private final Map<Key, Window> windows = new ConcurrentHashMap<>();
+    private final Counter suppressedCounter;
+
+    private record Key(Long userId, String notificationType, Long relatedEntityId) {
+    }
+
+    // 묶음의 전송 시각과 보관 중인 알림 (ConcurrentHashMap의 키 단위 원자 연산 안에서만 변경)
+    private static final class Window {
+        private final long flushAt;
+        private int held;
+        private Notification last;
+        private BiFunction<Notification, Integer, String> summarizer;
+
+        private Window(long flushAt) {
+            this.flushAt = flushAt;
+        }
+    }
+
+    public NotificationCoalescer(NotificationPublisher notificationPublisher,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${notification.coalesce.window-ms:3000}") long windowMillis) {
+        this.notificationPublisher = notificationPublisher;
+        this.windowMillis = windowMillis;
+        this.suppressedCounter = meterRegistry.counter("notification.coalesce.suppressed");
+        meterRegistry.gaugeMapSize("notification.coalesce.windows", Tags.empty(), windows);
+    }
+
+    /**
+     * 알림을 묶음 단위로 전송
+     * 새 묶음의 알림은 한 번의 발행으로 바로 전송하고, 이미 열린 묶음의 알림은 요약 전송을 위해 보관합니다.
+     *
+     * @param notifications 전송할 알림 목록
+     * @param summarizer    묶음의 마지막 알림과 보관된 알림 수로 요약 메시지를 만드는 함수
+     */
+    public void submit(List<Notification> notifications, BiFunction<Notification, Integer, String> summarizer) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        List<Notification> immediate = new ArrayList<>();
+        for (Notification notification : notifications) {
+            Key key = new Key(notification.getUserId(), notification.getNotificationType(), notification.getRelatedEntityId());
+            windows.compute(key, (k, window) -> {
+                if (window == null) {
+                    immediate.add(notification);
+                    return new Window(now + windowMillis);
+                }
+                window.held++;
+                window.last = notification;
+                window.summarizer = summarizer;
+                return window;
+            });
+        }
+        publish(immediate);
+    }
+
+    /**
+     * 시간이 지난 묶음을 닫고, 보관된 알림이 있으면 요약 알림을 한 번의 발행으로 전송
+     */
+    @Scheduled(fixedDelayString = "${notification.coalesce.tick-ms:250}")
+    public void flushExpired() {
+        long now = System.currentTimeMillis();
+        List<Notification> summaries = new ArrayList<>();
+        for (Map.Entry<Key, Window> entry : windows.entrySet()) {
+            Window window = entry.getValue();
+            if (window.flushAt > now || !windows.remove(entry.getKey(), window) || window.held == 0) {
+                continue;
+            }
+            Notification last = window.last;
+            Notification summary = new Notification();
+            summary.setUserId(last.getUserId());
+            summary.setNotificationType(last.getNotificationType());
+            summary.setRelatedEntityId(last.getRelatedEntityId());
+            summary.setCreatedAt(last.getCreatedAt());
+            summary.setMessage(window.held == 1 ? last.getMessage() : window.summarizer.apply(last, window.held));
+            summaries.add(summary);
+            suppressedCounter.increment(window.held - 1);
+        }
+        publish(summaries);
+    }
+
+    private void publish(List<Notification> notifications) {
+        try {
+            notificationPublisher.publish(notifications);
+        } catch (Exception e) {
+            log.warn("실시간 알림 {}건 전송 실패", notifications.size(), e);
+        }
+    }
+}
@@ -5,13 +5,22 @@ import com.example.omg_project.domain.user.entity.User;
 import com.fasterxml.jackson.core.JsonProcessingException;
 
 import java.util.List;
+import java.util.Map;
 
 public interface NotificationService {
     void createNotification(User user, String message, String notificationType, Long relatedEntityId) throws JsonProcessingException;
 
+    void createNotifications(List<Notification> notifications);
+
     List<Notification> getUserNotifications(User user);
 
-    void markAsRead(Long id);
+    List<Notification> getUnreadNotifications(Long userId, Long before, String notificationType, int limit);
+
+    void markAsRead(Long id, Long userId);
+
+    void markAllAsRead(Long userId, Long upToId);
 
     long getUnreadNotificationCount(Long userId);
+
+    Map<Long, Long> getUnreadNotificationCounts(List<Long> userIds);
 }
@@ -0,0 +1,187 @@
+package com.example.omg_project.domain.notification.service;
+
+import com.example.omg_project.domain.notification.service.redis.NotificationRouteRegistry;
+import com.example.omg_project.domain.notification.service.redis.NotificationStream;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * SSE(Server-Sent Events)로 실시간 알림을 전송하는 허브
+ * - 연결은 비동기 서블릿(SseEmitter)으로 유지되어, 대기 중인 연결이 요청 스레드를 점유하지 않습니다.
+ * - 알림이 오면 연결마다 마지막으로 보낸 스트림 ID 이후의 알림을 NotificationStream에서 읽어 가상 스레드에서 전송합니다.
+ * - 재연결 시 Last-Event-ID 이후의 알림을 다시 보내고, heartbeat-interval-ms마다 주석 이벤트를 보내 연결을 유지합니다.
+ * - 연결된 사용자는 알림 스트림에 SSE 사용자로 표시하여, 이 사용자들의 알림만 스트림에 쌓이도록 합니다.
+ */
+@Slf4j
+@Component
+public class NotificationSseHub {
+
+    private static final Pattern STREAM_ID = Pattern.compile("^\\d+-\\d+$");
+
+    private final NotificationStream notificationStream;
+    private final NotificationRouteRegistry notificationRouteRegistry;
+    private final long timeoutMillis;
+    private final int replayLimit;
+
+    private final Map<Long, Set<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("notification-sse-", 0).factory());
+
+    /**
+     * 사용자의 SSE 연결과 마지막으로 보낸 스트림 ID
+     * 전송은 연결마다 한 번에 하나의 가상 스레드에서만 실행됩니다.
+     */
+    private final class Connection {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final AtomicBoolean pending = new AtomicBoolean();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile String lastEventId;
+
+        private Connection(Long userId, SseEmitter emitter, String lastEventId) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.lastEventId = lastEventId;
+        }
+
+        private void signal() {
+            pending.set(true);
+            if (draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                while (pending.getAndSet(false)) {
+                    List<NotificationStream.Entry> entries;
+                    do {
+                        entries = notificationStream.readAfter(userId, lastEventId, replayLimit);
+                        for (NotificationStream.Entry entry : entries) {
+                            emitter.send(SseEmitter.event().id(entry.id()).name(entry.type()).data(entry.payload(), MediaType.APPLICATION_JSON));
+                            lastEventId = entry.id();
+                        }
+                    } while (entries.size() == replayLimit);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊음
+                emitter.completeWithError(e);
+            } catch (Exception e) {
+                log.warn("SSE 알림 전송 실패 :: userId = {}", userId, e);
+            } finally {
+                draining.set(false);
+            }
+            if (pending.get() && draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+    }
+
+    public NotificationSseHub(NotificationStream notificationStream,
+                              NotificationRouteRegistry notificationRouteRegistry,
+                              MeterRegistry meterRegistry,
+                              @Value("${notification.sse.timeout-ms:1800000}") long timeoutMillis,
+                              @Value("${notification.sse.replay-limit:200}") int replayLimit) {
+        this.notificationStream = notificationStream;
+        this.notificationRouteRegistry = notificationRouteRegistry;
+        this.timeoutMillis = timeoutMillis;
+        this.replayLimit = replayLimit;
+        meterRegistry.gauge("notification.sse.connections", connectionCount);
+    }
+
+    /**
+     * 사용자의 SSE 연결을 생성
+     * Last-Event-ID가 있으면 그 이후의 알림을 바로 다시 보내고, 없으면 연결한 뒤에 오는 알림부터 보냅니다.
+     *
+     * @param userId      사용자 ID
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID (선택)
+     * @return SSE 연결
+     */
+    public SseEmitter connect(Long userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        // 마지막 ID를 읽기 전에 표시하여, 그 뒤에 발행되는 알림은 모두 스트림에 쌓이도록 함
+        notificationStream.markActive(List.of(userId));
+        boolean resume = lastEventId != null && STREAM_ID.matcher(lastEventId).matches();
+        Connection connection = new Connection(userId, emitter, resume ? lastEventId : notificationStream.latestId(userId));
+
+        AtomicBoolean closed = new AtomicBoolean();
+        Runnable close = () -> {
+            if (closed.compareAndSet(false, true)) {
+                remove(connection);
+            }
+        };
+        emitter.onCompletion(close);
+        emitter.onTimeout(close);
+        emitter.onError(e -> close.run());
+
+        connections.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(connection);
+        connectionCount.incrementAndGet();
+        notificationRouteRegistry.acquire(userId);
+
+        // 등록 전에 추가된 알림이 있을 수 있으므로 한 번 읽어서 전송
+        connection.signal();
+        return emitter;
+    }
+
+    /**
+     * 사용자에게 새 알림이 있음을 알림 (이 서버에 SSE 연결이 있으면 스트림에서 읽어 전송)
+     *
+     * @param userId 사용자 ID
+     */
+    public void signal(Long userId) {
+        Set<Connection> userConnections = connections.get(userId);
+        if (userConnections != null) {
+            userConnections.forEach(Connection::signal);
+        }
+    }
+
+    /**
+     * 모든 연결에 주석 이벤트를 보내 프록시나 브라우저가 유휴 연결을 끊지 않도록 함
+     */
+    @Scheduled(fixedDelayString = "${notification.sse.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        notificationStream.markActive(List.copyOf(connections.keySet()));
+        connections.values().forEach(userConnections -> userConnections.forEach(connection -> executor.execute(() -> {
+            try {
+                connection.emitter.send(SseEmitter.event().comment("ping"));
+            } catch (IOException | IllegalStateException e) {
+                connection.emitter.completeWithError(e);
+            }
+        })));
+    }
+
+    private void remove(Connection connection) {
+        connections.computeIfPresent(connection.userId, (id, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+        connectionCount.decrementAndGet();
+        notificationRouteRegistry.release(connection.userId);
+    }
+
+    /**
+     * 종료 시 모든 연결을 닫음 (클라이언트는 Last-Event-ID로 다른 서버에 다시 연결)
+     */
+    @PreDestroy
+    public void shutdown() {
+        connections.values().forEach(userConnections -> userConnections.forEach(connection -> connection.emitter.complete()));
+        executor.shutdown();
+    }
+}
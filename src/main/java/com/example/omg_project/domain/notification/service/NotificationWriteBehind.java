@@ -0,0 +1,273 @@
+package com.example.omg_project.domain.notification.service;
+
+import com.example.omg_project.domain.notification.entity.Notification;
+import com.example.omg_project.domain.notification.repository.NotificationBatchRepository;
+import com.example.omg_project.domain.notification.repository.NotificationOutboxRepository;
+import com.example.omg_project.domain.notification.repository.NotificationOutboxRepository.PendingNotification;
+import com.example.omg_project.domain.notification.service.redis.NotificationPublisher;
+import com.example.omg_project.domain.notification.service.redis.NotificationUnreadCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * 알림을 모아서 저장하고 전송하는 write-behind 파이프라인 (transactional outbox)
+ * - 호출한 쪽은 자신의 트랜잭션 안에서 알림 내용을 outbox에 기록하고, 커밋된 뒤 outbox ID를 메모리 큐에 넣기만 합니다.
+ * - 백그라운드 스레드가 flush-interval-ms마다 또는 batch-size개가 모이면 outbox 행을 선점하고, 알림을 한 트랜잭션으로 배치 저장합니다.
+ * - 커밋 후 수신자의 읽지 않은 알림 수를 늘리고 Redis로 전송한 뒤 outbox를 지웁니다 (최소 한 번 전송).
+ * - 큐가 가득 차면 호출한 스레드는 아무것도 하지 않고, 이미 기록된 outbox 행을 백그라운드 스레드가 큐를 비운 뒤 DB에서 직접 가져갑니다.
+ * - 서버가 죽어 큐에 남은 알림이나 전송하지 못한 알림은 어느 서버든 retry-after-ms 뒤에 선점하여 다시 처리합니다.
+ */
+@Slf4j
+@Component
+public class NotificationWriteBehind {
+
+    private final NotificationBatchRepository notificationBatchRepository;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationPublisher notificationPublisher;
+    private final NotificationUnreadCounter notificationUnreadCounter;
+    private final TransactionTemplate transactionTemplate;
+
+    private final BlockingQueue<Long> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long retryAfterMillis;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    // 큐가 넘쳐 outbox에만 기록된 알림이 있는지 여부
+    private final AtomicBoolean backlog = new AtomicBoolean();
+
+    private final Counter overflowCounter;
+    private final Counter failedCounter;
+
+    public NotificationWriteBehind(NotificationBatchRepository notificationBatchRepository,
+                                   NotificationOutboxRepository notificationOutboxRepository,
+                                   NotificationPublisher notificationPublisher,
+                                   NotificationUnreadCounter notificationUnreadCounter,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${notification.write-behind.queue-capacity:10000}") int queueCapacity,
+                                   @Value("${notification.write-behind.batch-size:500}") int batchSize,
+                                   @Value("${notification.write-behind.flush-interval-ms:200}") long flushIntervalMillis,
+                                   @Value("${notification.outbox.retry-after-ms:30000}") long retryAfterMillis) {
+        this.notificationBatchRepository = notificationBatchRepository;
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.notificationPublisher = notificationPublisher;
+        this.notificationUnreadCounter = notificationUnreadCounter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.retryAfterMillis = retryAfterMillis;
+
+        meterRegistry.gauge("notification.write-behind.queue.depth", queue, BlockingQueue::size);
+        this.overflowCounter = meterRegistry.counter("notification.write-behind.overflow");
+        this.failedCounter = meterRegistry.counter("notification.write-behind.failed");
+
+        this.writer = Thread.ofPlatform().name("notification-writer").daemon().start(this::run);
+    }
+
+    /**
+     * 알림을 outbox에 기록하고 저장 큐에 추가
+     * 트랜잭션 안에서 호출되면 outbox 기록은 그 트랜잭션에 포함되고, 커밋된 뒤에 큐에 추가합니다. 롤백되면 함께 사라집니다.
+     *
+     * @param notifications 저장할 알림 목록
+     */
+    public void enqueue(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        List<Long> outboxIds = notificationOutboxRepository.insertAll(notifications);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(outboxIds);
+                }
+            });
+        } else {
+            offer(outboxIds);
+        }
+    }
+
+    private void offer(List<Long> outboxIds) {
+        for (Long outboxId : outboxIds) {
+            if (!running || !queue.offer(outboxId)) {
+                // 큐가 가득 찼거나 종료 중이면 호출한 스레드에서 저장하지 않고, outbox에 남은 행을 백그라운드 스레드에 맡김
+                overflowCounter.increment();
+                backlog.set(true);
+            }
+        }
+    }
+
+    /**
+     * 큐에서 outbox ID를 꺼내 flush-interval-ms마다 또는 batch-size개씩 처리
+     * 큐가 넘쳤던 적이 있으면 큐를 비운 뒤 outbox에만 남은 행을 DB에서 가져와 처리합니다.
+     */
+    private void run() {
+        List<Long> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                // 큐가 비면 넘쳐서 outbox에만 남은 알림을 먼저 처리
+                if (queue.isEmpty() && backlog.getAndSet(false)) {
+                    drainBacklog();
+                }
+                Long first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    Long next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 중단되면 남은 알림을 모두 처리한 뒤 끝냄
+                running = false;
+                queue.drainTo(batch);
+            }
+            if (!batch.isEmpty()) {
+                List<Long> outboxIds = new ArrayList<>(batch);
+                batch.clear();
+                process(now -> notificationOutboxRepository.claim(outboxIds, now, staleBefore(now)));
+            }
+        }
+    }
+
+    /**
+     * 큐가 넘쳐 outbox에만 기록된 알림을 batch-size개씩 가져와 처리
+     */
+    private void drainBacklog() {
+        int processed;
+        do {
+            processed = process(now -> notificationOutboxRepository.claimPending(now, now, staleBefore(now), batchSize));
+        } while (processed == batchSize && running);
+    }
+
+    /**
+     * outbox 행을 선점하여 저장되지 않은 알림을 배치로 저장한 뒤, 커밋 후 실시간 전송
+     *
+     * @param claimer 현재 시각을 받아 outbox 행을 잠그고 선점하는 함수 (트랜잭션 안에서 호출됨)
+     * @return 선점한 행 수
+     */
+    private int process(Function<LocalDateTime, List<PendingNotification>> claimer) {
+        List<PendingNotification> claimed;
+        List<Notification> stored = new ArrayList<>();
+        try {
+            claimed = transactionTemplate.execute(status -> {
+                List<PendingNotification> rows = claimer.apply(LocalDateTime.now());
+                List<PendingNotification> toStore = rows.stream().filter(row -> !row.isStored()).toList();
+                if (!toStore.isEmpty()) {
+                    List<Notification> notifications = toStore.stream().map(PendingNotification::notification).toList();
+                    notificationBatchRepository.saveAll(notifications);
+                    notificationOutboxRepository.markStored(toStore);
+                    stored.addAll(notifications);
+                }
+                return rows;
+            });
+        } catch (Exception e) {
+            // 선점도 함께 롤백되므로 outbox 행은 retry-after-ms 뒤에 다시 처리됨
+            failedCounter.increment();
+            log.error("알림 outbox 처리 실패", e);
+            return 0;
+        }
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+        incrementUnreadCounts(stored);
+        publish(claimed);
+        return claimed.size();
+    }
+
+    /**
+     * 새로 저장된 알림 수만큼 수신자의 읽지 않은 알림 수를 증가 (실패해도 주기적인 보정으로 맞춰짐)
+     *
+     * @param notifications 이번에 저장된 알림 목록
+     */
+    private void incrementUnreadCounts(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        try {
+            Map<Long, Long> deltas = new HashMap<>();
+            for (Notification notification : notifications) {
+                deltas.merge(notification.getUserId(), 1L, Long::sum);
+            }
+            notificationUnreadCounter.increment(deltas);
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 수 증가 실패", e);
+        }
+    }
+
+    /**
+     * 저장된 알림을 전송하고 outbox에서 제거 (전송에 실패하면 선점이 만료된 뒤 다시 전송됨)
+     *
+     * @param claimed 선점한 outbox 행 목록
+     */
+    private void publish(List<PendingNotification> claimed) {
+        try {
+            notificationPublisher.publish(claimed.stream().map(PendingNotification::notification).toList());
+            notificationOutboxRepository.deleteAll(claimed);
+        } catch (Exception e) {
+            log.warn("알림 {}건 전송 실패, 다시 전송 예정", claimed.size(), e);
+        }
+    }
+
+    /**
+     * retry-after-ms가 지나도록 처리되지 않은 outbox 알림을 선점하여 다시 처리
+     * 큐에 남은 채 서버가 죽은 알림과 전송에 실패한 알림을 어느 서버든 한 번만 가져가도록 행을 잠그고 선점합니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.outbox.sweep-interval-ms:10000}")
+    public void republishPending() {
+        int processed;
+        do {
+            processed = process(now -> notificationOutboxRepository.claimPending(staleBefore(now), now, staleBefore(now), batchSize));
+            if (processed > 0) {
+                log.info("처리되지 않은 알림 {}건 다시 처리", processed);
+            }
+        } while (processed == batchSize);
+    }
+
+    private LocalDateTime staleBefore(LocalDateTime now) {
+        return now.minus(Duration.ofMillis(retryAfterMillis));
+    }
+
+    /**
+     * 종료 시 큐에 남은 알림을 모두 처리 (처리하지 못한 알림은 outbox에 남아 다른 서버가 처리)
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+}
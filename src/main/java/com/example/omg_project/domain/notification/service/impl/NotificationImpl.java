@@ -1,31 +1,54 @@
 package com.example.omg_project.domain.notification.service.impl;
 
 import com.example.omg_project.domain.notification.entity.Notification;
+import com.example.omg_project.domain.notification.repository.NotificationBatchRepository;
 import com.example.omg_project.domain.notification.repository.NotificationRepository;
 import com.example.omg_project.domain.notification.service.NotificationService;
+import com.example.omg_project.domain.notification.service.NotificationWriteBehind;
+import com.example.omg_project.domain.notification.service.redis.NotificationUnreadCounter;
 import com.example.omg_project.domain.user.entity.User;
 import com.example.omg_project.global.exception.CustomException;
 import com.example.omg_project.global.exception.ErrorCode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 알림 서비스의 구현체로, 알림 생성, 조회, 읽기 처리 및 알림 개수 조회를 담당합니다.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationImpl implements NotificationService {
 
+    // 알림 목록 한 페이지의 기본/최대 크기
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
+    @Value("${notification.retention.days:30}")
+    private int retentionDays;
+
+    @Value("${notification.retention.batch-size:1000}")
+    private int retentionBatchSize;
+
     private final NotificationRepository notificationRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final NotificationBatchRepository notificationBatchRepository;
+    private final NotificationWriteBehind notificationWriteBehind;
+    private final NotificationUnreadCounter notificationUnreadCounter;
 
     /**
-     * 사용자를 위한 새로운 알림을 생성하고 Redis를 통해 실시간으로 전송합니다.
+     * 사용자를 위한 새로운 알림을 생성합니다.
+     * 알림 내용은 호출한 트랜잭션 안에서 outbox에 기록되고, 커밋된 뒤 배치로 저장되어 Redis를 통해 실시간으로 전송됩니다.
      *
      * @param user               알림을 받을 사용자
      * @param message            알림 메시지
@@ -34,61 +57,141 @@ public class NotificationImpl implements NotificationService {
      */
     @Override
     public void createNotification(User user, String message, String notificationType, Long relatedEntityId) {
-        try {
-            // 알림 객체 생성
-            Notification notification = new Notification();
-            notification.setUserId(user.getId()); // 사용자 ID 설정
-            notification.setMessage(message); // 알림 메시지 설정
-            notification.setNotificationType(notificationType); // 알림 유형 설정
-            notification.setCreatedAt(LocalDateTime.now()); // 알림 생성 시간 설정
-            notification.setRelatedEntityId(relatedEntityId); // 관련된 엔티티 ID 설정
-
-            notificationRepository.save(notification);
-
-            // Redis를 통해 실시간 알림 전송
-            redisTemplate.convertAndSend("notification", notification);
-        } catch (Exception e) {
-            throw new CustomException(ErrorCode.NOTIFICATION_CREATION_ERROR);
-        }
+        // 알림 객체 생성
+        Notification notification = new Notification();
+        notification.setUserId(user.getId()); // 사용자 ID 설정
+        notification.setMessage(message); // 알림 메시지 설정
+        notification.setNotificationType(notificationType); // 알림 유형 설정
+        notification.setCreatedAt(LocalDateTime.now()); // 알림 생성 시간 설정
+        notification.setRelatedEntityId(relatedEntityId); // 관련된 엔티티 ID 설정
+
+        notificationWriteBehind.enqueue(List.of(notification));
+    }
+
+    /**
+     * 여러 알림을 한 번의 JDBC 배치로 outbox에 기록합니다. 알림은 배치로 저장된 뒤 한 번의 Redis 발행으로 실시간 전송됩니다.
+     *
+     * @param notifications 저장할 알림 목록 (userId, message, notificationType, createdAt이 설정되어 있어야 함)
+     */
+    @Override
+    public void createNotifications(List<Notification> notifications) {
+        notificationWriteBehind.enqueue(notifications);
     }
 
     /**
-     * 사용자의 읽지 않은 알림 목록을 조회합니다.
+     * 사용자의 읽지 않은 알림 중 최신 한 페이지를 조회합니다.
+     * 이후 페이지는 getUnreadNotifications로 조회합니다.
      *
      * @param user 사용자의 정보
-     * @return 읽지 않은 알림 목록
+     * @return 최신순으로 정렬된 읽지 않은 알림 목록 (최대 DEFAULT_PAGE_SIZE건)
      */
     @Override
     public List<Notification> getUserNotifications(User user) {
+        return getUnreadNotifications(user.getId(), null, null, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * 사용자의 읽지 않은 알림을 알림 ID 기준 커서로 한 페이지씩 조회합니다.
+     *
+     * @param userId           사용자의 ID
+     * @param before           이 ID보다 이전 알림을 조회 (없으면 가장 최근부터)
+     * @param notificationType 조회할 알림 유형 (없으면 모든 유형)
+     * @param limit            조회할 알림 수 (1 ~ MAX_PAGE_SIZE)
+     * @return 최신순으로 정렬된 읽지 않은 알림 목록
+     */
+    @Override
+    public List<Notification> getUnreadNotifications(Long userId, Long before, String notificationType, int limit) {
         try {
-            // 사용자 ID를 기준으로 읽지 않은 알림 목록 조회
-            return notificationRepository.findByUserIdAndIsReadFalse(user.getId());
+            int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+            return notificationRepository.findUnreadPage(userId, before != null ? before : Long.MAX_VALUE,
+                    notificationType, PageRequest.of(0, pageSize));
         } catch (Exception e) {
             throw new CustomException(ErrorCode.NOTIFICATION_RETRIEVAL_ERROR);
         }
     }
 
     /**
-     * 특정 알림을 읽음 상태로 변경합니다.
+     * 사용자의 알림 하나를 한 번의 UPDATE로 읽음 상태로 변경합니다.
+     * 읽지 않은 알림이 실제로 변경된 경우에만, 커밋된 뒤 읽지 않은 알림 수를 줄입니다.
      *
      * @param notificationId 읽음 상태로 변경할 알림 ID
+     * @param userId         알림을 받은 사용자의 ID
      */
     @Override
-    public void markAsRead(Long notificationId) {
+    @Transactional
+    public void markAsRead(Long notificationId, Long userId) {
         try {
-            Notification notification = notificationRepository.findById(notificationId)
-                    .orElseThrow(() -> new CustomException(ErrorCode.NOTIFICATION_NOT_FOUND));
-
-            notification.setRead(true);
+            if (notificationRepository.markAsRead(notificationId, userId) > 0) {
+                afterCommit(() -> notificationUnreadCounter.decrement(userId));
+            }
+        } catch (Exception e) {
+            throw new CustomException(ErrorCode.NOTIFICATION_UPDATE_ERROR);
+        }
+    }
 
-            notificationRepository.save(notification);
+    /**
+     * 사용자의 읽지 않은 알림을 한 번의 UPDATE로 읽음 상태로 변경하고, 커밋된 뒤 읽지 않은 알림 수를 갱신합니다.
+     *
+     * @param userId 사용자의 ID
+     * @param upToId 이 ID 이하의 알림만 읽음 처리 (없으면 모든 알림)
+     */
+    @Override
+    @Transactional
+    public void markAllAsRead(Long userId, Long upToId) {
+        try {
+            if (upToId == null) {
+                notificationRepository.markAllAsRead(userId);
+                afterCommit(() -> notificationUnreadCounter.reset(userId));
+                return;
+            }
+            int updated = notificationRepository.markAsReadUpTo(userId, upToId);
+            if (updated > 0) {
+                afterCommit(() -> notificationUnreadCounter.increment(Map.of(userId, (long) -updated)));
+            }
         } catch (Exception e) {
             throw new CustomException(ErrorCode.NOTIFICATION_UPDATE_ERROR);
         }
     }
 
     /**
-     * 특정 사용자의 읽지 않은 알림 개수를 조회합니다.
+     * 읽지 않은 알림 수 갱신을 트랜잭션이 커밋된 뒤에 실행합니다.
+     * 롤백되면 실행하지 않으며, 갱신 실패는 주기적인 보정으로 맞춰지므로 로깅만 합니다.
+     *
+     * @param action 읽지 않은 알림 수 갱신 작업
+     */
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    action.run();
+                } catch (Exception e) {
+                    log.warn("읽지 않은 알림 수 갱신 실패", e);
+                }
+            }
+        });
+    }
+
+    /**
+     * 보관 기간이 지난 읽은 알림을 retention-batch-size건씩 나누어 삭제합니다.
+     * 한 번에 많은 행을 잠그지 않도록 배치마다 별도의 DELETE로 실행합니다.
+     */
+    @Scheduled(cron = "${notification.retention.cron:0 30 4 * * *}")
+    public void purgeReadNotifications() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        long deleted = 0;
+        int batch;
+        do {
+            batch = notificationBatchRepository.deleteReadBefore(before, retentionBatchSize);
+            deleted += batch;
+        } while (batch == retentionBatchSize);
+        if (deleted > 0) {
+            log.info("보관 기간이 지난 읽은 알림 {}건 삭제", deleted);
+        }
+    }
+
+    /**
+     * 특정 사용자의 읽지 않은 알림 개수를 Redis 카운터에서 조회합니다.
      *
      * @param userId 사용자의 ID
      * @return 읽지 않은 알림의 개수
@@ -96,7 +199,22 @@ public class NotificationImpl implements NotificationService {
     @Override
     public long getUnreadNotificationCount(Long userId) {
         try {
-            return notificationRepository.countUnreadNotifications(userId);
+            return notificationUnreadCounter.get(userId);
+        } catch (Exception e) {
+            throw new CustomException(ErrorCode.NOTIFICATION_COUNT_ERROR);
+        }
+    }
+
+    /**
+     * 여러 사용자의 읽지 않은 알림 개수를 한 번에 조회합니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID별 읽지 않은 알림의 개수
+     */
+    @Override
+    public Map<Long, Long> getUnreadNotificationCounts(List<Long> userIds) {
+        try {
+            return notificationUnreadCounter.getAll(userIds);
         } catch (Exception e) {
             throw new CustomException(ErrorCode.NOTIFICATION_COUNT_ERROR);
         }
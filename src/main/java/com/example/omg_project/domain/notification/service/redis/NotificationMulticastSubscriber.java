@@ -0,0 +1,94 @@
+package com.example.omg_project.domain.notification.service.redis;
+
+import com.example.omg_project.domain.notification.dto.NotificationMulticast;
+import com.example.omg_project.domain.notification.entity.Notification;
+import com.example.omg_project.domain.notification.service.NotificationSseHub;
+import com.example.omg_project.global.websocket.RedisBrokerRelay;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis에서 수신한 다중 수신자 알림을 수신자별 WebSocket 알림으로 전송하는 컴포넌트.
+ * - 하나의 메시지에 여러 알림이 담겨 있으며, 수신자마다 기존과 같은 형태의 Notification을 전송합니다.
+ * - 수신자의 SSE 연결이 이 서버에 있으면 NotificationSseHub가 알림 스트림에서 읽어 전송합니다.
+ * - 이 서버에 알림 구독이 없는 수신자는 건너뛰고 "notification.routing.discarded" 지표로 집계합니다.
+ */
+@Slf4j
+@Component
+public class NotificationMulticastSubscriber implements MessageListener {
+
+    public static final String CHANNEL = "notification:multicast";
+
+    private static final TypeReference<List<NotificationMulticast>> PAYLOAD_TYPE = new TypeReference<>() {
+    };
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final NotificationRouteRegistry notificationRouteRegistry;
+    private final NotificationSseHub notificationSseHub;
+    private final Counter deliveredCounter;
+    private final Counter discardedCounter;
+
+    public NotificationMulticastSubscriber(SimpMessagingTemplate messagingTemplate,
+                                           ObjectMapper objectMapper,
+                                           NotificationRouteRegistry notificationRouteRegistry,
+                                           NotificationSseHub notificationSseHub,
+                                           MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.notificationRouteRegistry = notificationRouteRegistry;
+        this.notificationSseHub = notificationSseHub;
+        this.deliveredCounter = meterRegistry.counter("notification.routing.delivered", "node", notificationRouteRegistry.getNodeId());
+        this.discardedCounter = meterRegistry.counter("notification.routing.discarded", "node", notificationRouteRegistry.getNodeId());
+    }
+
+    /**
+     * Redis로부터 수신한 다중 수신자 알림을 처리하는 메서드.
+     *
+     * @param message Redis에서 수신한 메시지 객체
+     * @param pattern Redis 채널 패턴 (사용되지 않음)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        List<NotificationMulticast> multicasts;
+        try {
+            multicasts = objectMapper.readValue(message.getBody(), PAYLOAD_TYPE);
+        } catch (IOException e) {
+            log.warn("다중 수신자 알림 변환 실패", e);
+            return;
+        }
+
+        for (NotificationMulticast multicast : multicasts) {
+            for (Map.Entry<Long, Long> recipient : multicast.recipients().entrySet()) {
+                if (!notificationRouteRegistry.isLocal(recipient.getKey())) {
+                    discardedCounter.increment();
+                    continue;
+                }
+                deliveredCounter.increment();
+
+                Notification notification = new Notification();
+                notification.setId(recipient.getValue());
+                notification.setUserId(recipient.getKey());
+                notification.setMessage(multicast.message());
+                notification.setCreatedAt(multicast.createdAt());
+                notification.setNotificationType(multicast.notificationType());
+                notification.setRelatedEntityId(multicast.relatedEntityId());
+
+                messagingTemplate.convertAndSend("/topic/notifications/" + multicast.notificationType() + "/" + recipient.getKey(), notification,
+                        RedisBrokerRelay.NODE_LOCAL);
+                notificationSseHub.signal(recipient.getKey());
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.omg_project.domain.notification.service.redis;
+
+import com.example.omg_project.domain.notification.dto.NotificationMulticast;
+import com.example.omg_project.domain.notification.entity.Notification;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 알림을 Redis로 발행하는 컴포넌트
+ * - 같은 유형, 메시지, 관련 엔티티의 알림은 수신자 목록 하나로 묶어 발행합니다.
+ * - targeted 모드(기본)에서는 수신자의 알림 구독이 있는 서버의 채널("notification:node:{nodeId}")로만 발행하며,
+ *   연결된 서버가 없는 수신자의 알림은 발행하지 않습니다.
+ * - broadcast 모드에서는 모든 서버가 구독하는 "notification:multicast" 채널로 발행합니다.
+ * - SSE로 연결 중이거나 최근에 연결이 끊긴 수신자의 알림은 발행 전에 알림 스트림(NotificationStream)에 추가하여,
+ *   SSE 재연결 시 놓친 알림을 받을 수 있도록 합니다.
+ */
+@Component
+public class NotificationPublisher {
+
+    private static final byte[] BROADCAST_CHANNEL = NotificationMulticastSubscriber.CHANNEL.getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final NotificationRouteRegistry notificationRouteRegistry;
+    private final NotificationStream notificationStream;
+    private final boolean targeted;
+
+    public NotificationPublisher(StringRedisTemplate stringRedisTemplate,
+                                 ObjectMapper objectMapper,
+                                 NotificationRouteRegistry notificationRouteRegistry,
+                                 NotificationStream notificationStream,
+                                 @Value("${notification.routing.mode:targeted}") String routingMode) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.notificationRouteRegistry = notificationRouteRegistry;
+        this.notificationStream = notificationStream;
+        this.targeted = !"broadcast".equalsIgnoreCase(routingMode);
+    }
+
+    /**
+     * 알림 목록을 수신자가 연결된 서버별로 한 번씩 발행 (한 번의 파이프라인)
+     *
+     * @param notifications 전송할 알림 목록 (저장되지 않은 알림은 ID가 없음)
+     * @throws JsonProcessingException 알림 직렬화 실패
+     */
+    public void publish(List<Notification> notifications) throws JsonProcessingException {
+        if (notifications.isEmpty()) {
+            return;
+        }
+
+        List<ByteRecord> records = notificationStream.toRecords(notificationStream.filterActive(notifications));
+        Map<byte[], byte[]> payloads = new LinkedHashMap<>();
+        if (targeted) {
+            // 수신자가 연결된 서버별로 알림을 나눔
+            Map<Long, List<String>> nodesByUser = notificationRouteRegistry.findNodes(
+                    notifications.stream().map(Notification::getUserId).toList());
+            Map<String, List<Notification>> byNode = new LinkedHashMap<>();
+            for (Notification notification : notifications) {
+                for (String node : nodesByUser.getOrDefault(notification.getUserId(), List.of())) {
+                    byNode.computeIfAbsent(node, key -> new ArrayList<>()).add(notification);
+                }
+            }
+            for (Map.Entry<String, List<Notification>> entry : byNode.entrySet()) {
+                payloads.put((NotificationRouteRegistry.NODE_CHANNEL_PREFIX + entry.getKey()).getBytes(StandardCharsets.UTF_8),
+                        objectMapper.writeValueAsBytes(toMulticasts(entry.getValue())));
+            }
+        } else {
+            payloads.put(BROADCAST_CHANNEL, objectMapper.writeValueAsBytes(toMulticasts(notifications)));
+        }
+        // 스트림에 먼저 추가하여, 발행을 받은 SSE 연결이 스트림에서 알림을 읽을 수 있도록 함
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            notificationStream.append(connection, records);
+            payloads.forEach(connection::publish);
+            return null;
+        });
+    }
+
+    /**
+     * 같은 내용의 알림을 수신자 목록 하나로 묶음
+     *
+     * @param notifications 알림 목록
+     * @return 다중 수신자 알림 목록
+     */
+    private List<NotificationMulticast> toMulticasts(List<Notification> notifications) {
+        Map<List<Object>, Map<Long, Long>> recipientsByContent = new LinkedHashMap<>();
+        Map<List<Object>, Notification> firstByContent = new LinkedHashMap<>();
+        for (Notification notification : notifications) {
+            List<Object> content = List.of(notification.getNotificationType(), notification.getMessage(),
+                    Objects.requireNonNullElse(notification.getRelatedEntityId(), 0L), notification.getCreatedAt());
+            recipientsByContent.computeIfAbsent(content, key -> new LinkedHashMap<>())
+                    .put(notification.getUserId(), notification.getId());
+            firstByContent.putIfAbsent(content, notification);
+        }
+        List<NotificationMulticast> multicasts = new ArrayList<>(recipientsByContent.size());
+        recipientsByContent.forEach((content, recipients) -> {
+            Notification first = firstByContent.get(content);
+            multicasts.add(new NotificationMulticast(first.getNotificationType(), first.getMessage(),
+                    first.getRelatedEntityId(), first.getCreatedAt(), recipients));
+        });
+        return multicasts;
+    }
+}
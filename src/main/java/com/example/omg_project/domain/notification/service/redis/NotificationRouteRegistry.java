@@ -0,0 +1,245 @@
+package com.example.omg_project.domain.notification.service.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 사용자의 알림 STOMP 구독이 어느 서버에 있는지 관리하는 저장소
+ * - 이 서버의 STOMP 세션이 "/topic/notifications/{type}/{userId}"를 구독하거나 SSE로 연결하면 사용자를 이 서버에 등록합니다.
+ * - 사용자마다 Redis ZSET("notification:route:{userId}")에 서버 ID를 만료 시각 점수로 기록하고, 주기적으로 갱신합니다.
+ * - 알림은 수신자가 연결된 서버의 채널("notification:node:{nodeId}")로만 발행됩니다.
+ * - 같은 사용자의 등록(acquire)과 해제(release)는 사용자별 잠금 안에서 연결 수 확인과 Redis 갱신을 함께 처리하여,
+ *   해제가 방금 등록된 경로를 지우지 않도록 합니다.
+ */
+@Slf4j
+@Component
+public class NotificationRouteRegistry {
+
+    public static final String NODE_CHANNEL_PREFIX = "notification:node:";
+
+    private static final String KEY_PREFIX = "notification:route:";
+    private static final Pattern DESTINATION = Pattern.compile("^/topic/notifications/[^/]+/(\\d+)$");
+    private static final int LOCK_STRIPES = 64;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String nodeId;
+    private final long ttlMillis;
+
+    // STOMP 세션별 구독 ID -> 사용자 ID, 사용자별 이 서버의 구독 수
+    private final Map<String, Map<String, Long>> subscriptions = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> localUsers = new ConcurrentHashMap<>();
+
+    // 사용자 ID로 나눈 잠금 (Redis 호출 중에도 가상 스레드가 고정되지 않도록 ReentrantLock 사용)
+    private final Lock[] userLocks = new Lock[LOCK_STRIPES];
+
+    public NotificationRouteRegistry(StringRedisTemplate stringRedisTemplate,
+                                     @Value("${app.node-id:}") String nodeId,
+                                     @Value("${notification.routing.ttl-ms:60000}") long ttlMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.ttlMillis = ttlMillis;
+        for (int i = 0; i < userLocks.length; i++) {
+            userLocks[i] = new ReentrantLock();
+        }
+        log.info("알림 라우팅 서버 ID :: {}", this.nodeId);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public String getNodeChannel() {
+        return NODE_CHANNEL_PREFIX + nodeId;
+    }
+
+    /**
+     * 사용자의 알림을 구독 중인 STOMP 세션이 이 서버에 있는지 확인
+     *
+     * @param userId 사용자 ID
+     * @return 이 서버에 구독이 있으면 true
+     */
+    public boolean isLocal(Long userId) {
+        return localUsers.containsKey(userId);
+    }
+
+    /**
+     * 사용자들의 알림 구독이 있는 서버 ID를 한 번의 파이프라인으로 조회
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID별 서버 ID 목록 (연결된 서버가 없는 사용자는 포함되지 않음)
+     */
+    public Map<Long, List<String>> findNodes(Collection<Long> userIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(userIds));
+        long now = System.currentTimeMillis();
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long userId : ids) {
+                connection.zSetCommands().zRangeByScore(key(userId), now, Double.POSITIVE_INFINITY);
+            }
+            return null;
+        });
+
+        Map<Long, List<String>> nodes = new HashMap<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            @SuppressWarnings("unchecked")
+            Collection<String> members = (Collection<String>) results.get(i);
+            if (members != null && !members.isEmpty()) {
+                nodes.put(ids.get(i), List.copyOf(members));
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * 알림 토픽 구독을 기록하고, 사용자의 첫 구독이면 이 서버를 사용자 경로에 등록
+     */
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (accessor.getDestination() == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        Matcher matcher = DESTINATION.matcher(accessor.getDestination());
+        if (!matcher.matches()) {
+            return;
+        }
+        Long userId = Long.valueOf(matcher.group(1));
+        Long previous = subscriptions.computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), userId);
+        if (previous == null) {
+            acquire(userId);
+        }
+    }
+
+    /**
+     * 알림 토픽 구독 해제를 기록
+     */
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, Long> sessionSubscriptions = subscriptions.get(accessor.getSessionId());
+        if (sessionSubscriptions != null && accessor.getSubscriptionId() != null) {
+            Long userId = sessionSubscriptions.remove(accessor.getSubscriptionId());
+            if (userId != null) {
+                release(userId);
+            }
+        }
+    }
+
+    /**
+     * STOMP 세션 종료 시 세션의 모든 알림 구독을 해제
+     */
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, Long> sessionSubscriptions = subscriptions.remove(event.getSessionId());
+        if (sessionSubscriptions != null) {
+            sessionSubscriptions.values().forEach(this::release);
+        }
+    }
+
+    /**
+     * 이 서버에 구독이 있는 사용자들의 경로 만료 시각을 갱신 (서버가 종료되면 ttl-ms 후 경로가 사라짐)
+     */
+    @Scheduled(fixedDelayString = "${notification.routing.heartbeat-interval-ms:20000}")
+    public void heartbeat() {
+        if (!localUsers.isEmpty()) {
+            register(List.copyOf(localUsers.keySet()));
+        }
+    }
+
+    /**
+     * 사용자의 알림 연결(STOMP 구독, SSE 연결)이 이 서버에 생겼음을 기록하고, 첫 연결이면 이 서버를 사용자 경로에 등록
+     *
+     * @param userId 사용자 ID
+     */
+    public void acquire(Long userId) {
+        Lock lock = lockFor(userId);
+        lock.lock();
+        try {
+            if (localUsers.merge(userId, 1, Integer::sum) == 1) {
+                register(List.of(userId));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 사용자의 알림 연결이 끊겼음을 기록하고, 마지막 연결이면 사용자 경로에서 이 서버를 제거
+     *
+     * @param userId 사용자 ID
+     */
+    public void release(Long userId) {
+        Lock lock = lockFor(userId);
+        lock.lock();
+        try {
+            Integer remaining = localUsers.computeIfPresent(userId, (id, count) -> count > 1 ? count - 1 : null);
+            if (remaining == null) {
+                byte[] node = bytes(nodeId);
+                stringRedisTemplate.execute((RedisCallback<Long>) connection -> connection.zSetCommands().zRem(key(userId), node));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Lock lockFor(Long userId) {
+        return userLocks[Math.floorMod(userId.hashCode(), userLocks.length)];
+    }
+
+    private void register(List<Long> userIds) {
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        byte[] node = bytes(nodeId);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long userId : userIds) {
+                byte[] key = key(userId);
+                connection.zSetCommands().zAdd(key, expiresAt, node);
+                connection.zSetCommands().zRemRangeByScore(key, Double.NEGATIVE_INFINITY, System.currentTimeMillis());
+                connection.keyCommands().pExpire(key, ttlMillis * 2);
+            }
+            return null;
+        });
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private static byte[] key(Long userId) {
+        return bytes(KEY_PREFIX + userId);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.omg_project.domain.notification.service.redis;
+
+import com.example.omg_project.domain.notification.entity.Notification;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자별 실시간 알림 이력을 보관하는 Redis Stream
+ * - 알림을 발행할 때 수신자마다 Redis Stream("notification:stream:{userId}")에 추가하며, 스트림 ID가 SSE 이벤트 ID가 됩니다.
+ * - SSE를 쓰지 않는 사용자의 알림까지 쓰지 않도록, SSE 연결 중이거나 연결이 끊긴 지 resume-window-ms가 지나지 않은 사용자의 알림만 추가합니다.
+ *   이런 사용자는 "notification:stream:active:{userId}" 키로 표시하며, SSE 허브가 연결과 하트비트마다 만료 시간을 갱신합니다.
+ * - 스트림은 사용자마다 최근 max-length개 정도만 유지하고, ttl-seconds 동안 알림이 없으면 만료됩니다.
+ * - SSE 연결은 마지막으로 받은 스트림 ID 이후의 알림을 읽어 전송하므로, 재연결 시 Last-Event-ID로 놓친 알림을 다시 받습니다.
+ */
+@Component
+public class NotificationStream {
+
+    private static final String KEY_PREFIX = "notification:stream:";
+    private static final String ACTIVE_PREFIX = "notification:stream:active:";
+    private static final String TYPE_FIELD = "type";
+    private static final String PAYLOAD_FIELD = "payload";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final long maxLength;
+    private final long ttlSeconds;
+    private final long resumeWindowMillis;
+
+    /**
+     * 스트림에서 읽은 알림
+     *
+     * @param id      스트림 ID (SSE 이벤트 ID)
+     * @param type    알림 유형 (SSE 이벤트 이름)
+     * @param payload 알림 JSON
+     */
+    public record Entry(String id, String type, String payload) {
+    }
+
+    public NotificationStream(StringRedisTemplate stringRedisTemplate,
+                              ObjectMapper objectMapper,
+                              @Value("${notification.stream.max-length:200}") long maxLength,
+                              @Value("${notification.stream.ttl-seconds:86400}") long ttlSeconds,
+                              @Value("${notification.stream.resume-window-ms:300000}") long resumeWindowMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.maxLength = maxLength;
+        this.ttlSeconds = ttlSeconds;
+        this.resumeWindowMillis = resumeWindowMillis;
+    }
+
+    /**
+     * 사용자들이 SSE로 알림을 받고 있음을 표시 (resume-window-ms 뒤에 만료)
+     *
+     * @param userIds SSE로 연결된 사용자 ID 목록
+     */
+    public void markActive(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        byte[] value = bytes("1");
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long userId : userIds) {
+                connection.stringCommands().pSetEx(bytes(ACTIVE_PREFIX + userId), resumeWindowMillis, value);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 알림 중 스트림에 추가해야 하는 알림만 골라냄 (한 번의 MGET)
+     *
+     * @param notifications 알림 목록
+     * @return SSE로 연결 중이거나 최근에 연결이 끊긴 수신자의 알림 목록
+     */
+    public List<Notification> filterActive(List<Notification> notifications) {
+        List<Long> userIds = new ArrayList<>(new LinkedHashSet<>(notifications.stream().map(Notification::getUserId).toList()));
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(userIds.stream().map(userId -> ACTIVE_PREFIX + userId).toList());
+        Set<Long> active = new HashSet<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            if (values != null && values.get(i) != null) {
+                active.add(userIds.get(i));
+            }
+        }
+        return active.isEmpty() ? List.of()
+                : notifications.stream().filter(notification -> active.contains(notification.getUserId())).toList();
+    }
+
+    /**
+     * 알림을 수신자별 스트림 레코드로 변환
+     *
+     * @param notifications 알림 목록
+     * @return 스트림 레코드 목록
+     * @throws JsonProcessingException 알림 직렬화 실패
+     */
+    public List<ByteRecord> toRecords(List<Notification> notifications) throws JsonProcessingException {
+        List<ByteRecord> records = new ArrayList<>(notifications.size());
+        for (Notification notification : notifications) {
+            Map<byte[], byte[]> fields = Map.of(
+                    bytes(TYPE_FIELD), bytes(String.valueOf(notification.getNotificationType())),
+                    bytes(PAYLOAD_FIELD), objectMapper.writeValueAsBytes(notification));
+            records.add(StreamRecords.rawBytes(fields).withStreamKey(bytes(key(notification.getUserId()))));
+        }
+        return records;
+    }
+
+    /**
+     * 레코드를 수신자별 스트림에 추가 (호출한 쪽의 파이프라인 안에서 실행)
+     *
+     * @param connection 파이프라인 연결
+     * @param records    추가할 스트림 레코드 목록
+     */
+    public void append(RedisConnection connection, List<ByteRecord> records) {
+        RedisStreamCommands.XAddOptions options = RedisStreamCommands.XAddOptions.maxlen(maxLength).approximateTrimming(true);
+        for (ByteRecord record : records) {
+            connection.streamCommands().xAdd(record, options);
+            connection.keyCommands().expire(record.getStream(), ttlSeconds);
+        }
+    }
+
+    /**
+     * 사용자 스트림의 마지막 ID를 조회
+     *
+     * @param userId 사용자 ID
+     * @return 마지막 스트림 ID, 스트림이 비어 있으면 "0-0"
+     */
+    public String latestId(Long userId) {
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream()
+                .reverseRange(key(userId), Range.unbounded(), Limit.limit().count(1));
+        return records == null || records.isEmpty() ? "0-0" : records.get(0).getId().getValue();
+    }
+
+    /**
+     * 사용자 스트림에서 주어진 ID 이후의 알림을 조회
+     *
+     * @param userId  사용자 ID
+     * @param afterId 마지막으로 받은 스트림 ID (이 ID는 포함하지 않음)
+     * @param count   최대 조회 수
+     * @return 오래된 순의 알림 목록
+     */
+    public List<Entry> readAfter(Long userId, String afterId, int count) {
+        // 시작 ID를 포함하여 조회하므로 하나 더 읽고 시작 ID는 제외
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream()
+                .range(key(userId), Range.rightUnbounded(Range.Bound.inclusive(afterId)), Limit.limit().count(count + 1));
+        if (records == null) {
+            return List.of();
+        }
+        List<Entry> entries = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            String id = record.getId().getValue();
+            if (!id.equals(afterId) && entries.size() < count) {
+                entries.add(new Entry(id, (String) record.getValue().get(TYPE_FIELD), (String) record.getValue().get(PAYLOAD_FIELD)));
+            }
+        }
+        return entries;
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.omg_project.domain.notification.service.redis;
+
+import com.example.omg_project.domain.notification.repository.NotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별 읽지 않은 알림 수를 관리하는 Redis 카운터
+ * - 사용자마다 Redis 문자열("notification:unread:{userId}")에 읽지 않은 알림 수를 저장하여 O(1)로 조회합니다.
+ * - 카운터가 없으면 DB에서 한 번 계산하여 채우고, 채워진 카운터만 증가/감소시킵니다.
+ * - 동시 갱신으로 생길 수 있는 오차는 주기적으로 DB 값으로 보정합니다.
+ */
+@Slf4j
+@Component
+public class NotificationUnreadCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+
+    // 카운터가 있는 경우에만 증가/감소 (0 미만으로 내려가지 않음)
+    private static final byte[] INCREMENT_IF_EXISTS = bytes(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "local value = redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+            "if value < 0 then redis.call('SET', KEYS[1], 0, 'KEEPTTL') return 0 end return value end return -1");
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final NotificationRepository notificationRepository;
+    private final long ttlSeconds;
+    private final int repairBatchSize;
+
+    public NotificationUnreadCounter(StringRedisTemplate stringRedisTemplate,
+                                     NotificationRepository notificationRepository,
+                                     @Value("${notification.unread.ttl-seconds:604800}") long ttlSeconds,
+                                     @Value("${notification.unread.repair-batch-size:500}") int repairBatchSize) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.notificationRepository = notificationRepository;
+        this.ttlSeconds = ttlSeconds;
+        this.repairBatchSize = repairBatchSize;
+    }
+
+    /**
+     * 사용자의 읽지 않은 알림 수를 조회 (카운터가 없으면 DB에서 계산하여 채움)
+     * 계산하는 동안 다른 요청이 카운터를 만들고 증가시켰을 수 있으므로, 카운터가 없을 때만(SET NX) 채웁니다.
+     *
+     * @param userId 사용자 ID
+     * @return 읽지 않은 알림 수
+     */
+    public long get(Long userId) {
+        String key = key(userId);
+        String value = stringRedisTemplate.opsForValue().get(key);
+        if (value != null) {
+            return Long.parseLong(value);
+        }
+        long count = notificationRepository.countUnreadNotifications(userId);
+        Boolean filled = stringRedisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), ttlSeconds, TimeUnit.SECONDS);
+        if (!Boolean.TRUE.equals(filled)) {
+            // 먼저 채워진 카운터가 있으면 그 값을 사용
+            String current = stringRedisTemplate.opsForValue().get(key);
+            if (current != null) {
+                return Long.parseLong(current);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 여러 사용자의 읽지 않은 알림 수를 한 번의 MGET으로 조회
+     * 카운터가 없는 사용자는 한 번의 GROUP BY 쿼리로 계산하여, 그 사이 다른 요청이 만든 카운터를 덮어쓰지 않도록 SET NX로 채웁니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID별 읽지 않은 알림 수
+     */
+    public Map<Long, Long> getAll(Collection<Long> userIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(userIds));
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(ids.stream().map(NotificationUnreadCounter::key).toList());
+
+        Map<Long, Long> counts = new HashMap<>(ids.size());
+        List<Long> missing = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            String value = values != null ? values.get(i) : null;
+            if (value != null) {
+                counts.put(ids.get(i), Long.parseLong(value));
+            } else {
+                missing.add(ids.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<Long, Long> loaded = countFromDatabase(missing);
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                loaded.forEach((userId, count) -> connection.stringCommands().set(bytes(key(userId)), bytes(String.valueOf(count)),
+                        Expiration.seconds(ttlSeconds), RedisStringCommands.SetOption.SET_IF_ABSENT));
+                return null;
+            });
+            counts.putAll(loaded);
+        }
+        return counts;
+    }
+
+    /**
+     * 여러 사용자의 읽지 않은 알림 수를 한 번의 파이프라인으로 증가
+     *
+     * @param deltas 사용자 ID별 증가량
+     */
+    public void increment(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            deltas.forEach((userId, delta) -> connection.scriptingCommands().eval(INCREMENT_IF_EXISTS, ReturnType.INTEGER, 1,
+                    bytes(key(userId)), bytes(String.valueOf(delta))));
+            return null;
+        });
+    }
+
+    /**
+     * 사용자의 읽지 않은 알림 수를 하나 감소
+     *
+     * @param userId 사용자 ID
+     */
+    public void decrement(Long userId) {
+        stringRedisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands().eval(INCREMENT_IF_EXISTS,
+                ReturnType.INTEGER, 1, bytes(key(userId)), bytes("-1")));
+    }
+
+    /**
+     * 사용자의 읽지 않은 알림 수를 0으로 설정 (모두 읽음 처리 후 호출)
+     *
+     * @param userId 사용자 ID
+     */
+    public void reset(Long userId) {
+        stringRedisTemplate.opsForValue().set(key(userId), "0", ttlSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 카운터가 있는 사용자의 읽지 않은 알림 수를 DB 값으로 보정
+     * 카운터를 repair-batch-size개씩 SCAN하여 배치마다 한 번의 GROUP BY 쿼리로 계산합니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.unread.repair-interval-ms:600000}")
+    public void repairDrift() {
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(repairBatchSize).build();
+        List<Long> batch = new ArrayList<>(repairBatchSize);
+        int repaired = 0;
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(Long.valueOf(cursor.next().substring(KEY_PREFIX.length())));
+                if (batch.size() == repairBatchSize) {
+                    repaired += repair(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            repaired += repair(batch);
+        }
+        if (repaired > 0) {
+            log.info("읽지 않은 알림 수 {}건 보정", repaired);
+        }
+    }
+
+    /**
+     * 사용자들의 카운터를 DB 값과 비교하여 다른 값만 덮어씀 (만료 시간은 유지)
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 보정한 카운터 수
+     */
+    private int repair(List<Long> userIds) {
+        Map<Long, Long> actual = countFromDatabase(userIds);
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(userIds.stream().map(NotificationUnreadCounter::key).toList());
+        Map<Long, Long> drifted = new HashMap<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            String value = values != null ? values.get(i) : null;
+            Long count = actual.get(userIds.get(i));
+            if (value != null && Long.parseLong(value) != count) {
+                drifted.put(userIds.get(i), count);
+            }
+        }
+        if (!drifted.isEmpty()) {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                drifted.forEach((userId, count) -> connection.stringCommands().set(bytes(key(userId)), bytes(String.valueOf(count)),
+                        Expiration.keepTtl(), RedisStringCommands.SetOption.SET_IF_PRESENT));
+                return null;
+            });
+        }
+        return drifted.size();
+    }
+
+    /**
+     * 사용자들의 읽지 않은 알림 수를 한 번의 GROUP BY 쿼리로 계산
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID별 읽지 않은 알림 수 (알림이 없으면 0)
+     */
+    private Map<Long, Long> countFromDatabase(List<Long> userIds) {
+        Map<Long, Long> counts = new HashMap<>(userIds.size());
+        userIds.forEach(userId -> counts.put(userId, 0L));
+        for (NotificationRepository.UnreadCountView view : notificationRepository.countUnreadNotificationsByUserIds(userIds)) {
+            counts.put(view.getUserId(), view.getUnreadCount());
+        }
+        return counts;
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
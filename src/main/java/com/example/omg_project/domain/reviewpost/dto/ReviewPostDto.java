@@ -52,8 +52,8 @@ public class ReviewPostDto {
         private String usernick;
         private ReadTripDTO trip;
 
-        // 엔티티 -> DTO
-        public static Response fromEntity(ReviewPost reviewPost) {
+        // 엔티티 -> DTO (여행 일정은 TripReadService로 조회한 DTO를 사용)
+        public static Response fromEntity(ReviewPost reviewPost, ReadTripDTO trip) {
             return Response.builder()
                     .id(reviewPost.getId())
                     .title(reviewPost.getTitle())
@@ -63,7 +63,7 @@ public class ReviewPostDto {
                     .userId(reviewPost.getUser().getId())
                     .usernick(reviewPost.getUser().getUsernick())
                     .username(reviewPost.getUser().getUsername())
-                    .trip(ReadTripDTO.fromEntity(reviewPost.getTrip()))
+                    .trip(trip)
                     .build();
         }
 
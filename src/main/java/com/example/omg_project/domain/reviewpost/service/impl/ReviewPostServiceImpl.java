@@ -7,10 +7,12 @@ import com.example.omg_project.domain.reviewpost.entity.ReviewPost;
 import com.example.omg_project.domain.reviewpost.repository.PlaceReviewRepository;
 import com.example.omg_project.domain.reviewpost.repository.ReviewPostRepository;
 import com.example.omg_project.domain.reviewpost.service.ReviewPostService;
+import com.example.omg_project.domain.trip.dto.ReadTripDTO;
 import com.example.omg_project.domain.trip.entity.Trip;
 import com.example.omg_project.domain.trip.entity.TripLocation;
 import com.example.omg_project.domain.trip.repository.TripLocationRepository;
 import com.example.omg_project.domain.trip.repository.TripRepository;
+import com.example.omg_project.domain.trip.service.TripReadService;
 import com.example.omg_project.domain.user.entity.User;
 import com.example.omg_project.domain.user.repository.UserRepository;
 import com.example.omg_project.global.exception.CustomException;
@@ -22,6 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,6 +35,7 @@ public class ReviewPostServiceImpl implements ReviewPostService {
     private final TripRepository tripRepository;
     private final TripLocationRepository tripLocationRepository;
     private final PlaceReviewRepository placeReviewRepository;
+    private final TripReadService tripReadService;
 
     /**
      * 게시글 작성
@@ -61,7 +65,7 @@ public class ReviewPostServiceImpl implements ReviewPostService {
         placeReviewRepository.saveAll(placeReviews);
 
         // 4. 저장된 ReviewPost를 DTO로 변환하여 반환
-        return ReviewPostDto.Response.fromEntity(reviewPost);
+        return toResponse(reviewPost);
     }
 
     /**
@@ -69,7 +73,7 @@ public class ReviewPostServiceImpl implements ReviewPostService {
      */
     @Override
     public List<ReviewPostDto.Response> findAllReviewPost() {
-        return reviewPostRepository.findAll().stream().map(ReviewPostDto.Response::fromEntity).collect(Collectors.toList());
+        return toResponses(reviewPostRepository.findAll());
     }
 
     /**
@@ -82,7 +86,7 @@ public class ReviewPostServiceImpl implements ReviewPostService {
         if ("views".equals(sort)) {
             sorting = Sort.by(Sort.Direction.DESC, "views"); // 인기순 정렬
         }
-        return reviewPostRepository.findAll(sorting).stream().map(ReviewPostDto.Response::fromEntity).collect(Collectors.toList());
+        return toResponses(reviewPostRepository.findAll(sorting));
     }
 
     /**
@@ -92,7 +96,7 @@ public class ReviewPostServiceImpl implements ReviewPostService {
     @Transactional(readOnly = true)
     public List<ReviewPostDto.Response> findReviewPostsByUserId(Long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND_EXCEPTION));
-        return reviewPostRepository.findReviewPostByUserId(user.getId()).stream().map(ReviewPostDto.Response::fromEntity).collect(Collectors.toList());
+        return toResponses(reviewPostRepository.findReviewPostByUserId(user.getId()));
     }
 
     /**
@@ -104,7 +108,7 @@ public class ReviewPostServiceImpl implements ReviewPostService {
         if ("views".equals(sort)) {
             sorting = Sort.by(Sort.Direction.DESC, "views"); // 인기순 정렬
         }
-        return reviewPostRepository.findByTrip_CityId(cityId, sorting).stream().map(ReviewPostDto.Response::fromEntity).collect(Collectors.toList());
+        return toResponses(reviewPostRepository.findByTrip_CityId(cityId, sorting));
     }
 
     /**
@@ -129,7 +133,7 @@ public class ReviewPostServiceImpl implements ReviewPostService {
                 throw new CustomException(ErrorCode.INVALID_SEARCH_OPTION_EXCEPTION);
         }
 
-        return results.stream().map(ReviewPostDto.Response::fromEntity).collect(Collectors.toList());
+        return toResponses(results);
     }
 
     /**
@@ -139,7 +143,7 @@ public class ReviewPostServiceImpl implements ReviewPostService {
     @Transactional(readOnly = true)
     public ReviewPostDto.Response findReviewPostById(Long id) {
         ReviewPost reviewPost = reviewPostRepository.findWithReviewsById(id).orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND_EXCEPTION));
-        return ReviewPostDto.Response.fromEntity(reviewPost);
+        return toResponse(reviewPost);
     }
 
     /**
@@ -170,7 +174,7 @@ public class ReviewPostServiceImpl implements ReviewPostService {
         placeReviewRepository.saveAll(placeReviews);
 
         // 5. 업데이트된 게시글을 DTO로 변환하여 반환
-        return ReviewPostDto.Response.fromEntity(originPost);
+        return toResponse(originPost);
     }
 
     /**
@@ -191,4 +195,21 @@ public class ReviewPostServiceImpl implements ReviewPostService {
         ReviewPost reviewPost = reviewPostRepository.findById(id).orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND_EXCEPTION));
         reviewPost.incrementViews();
     }
+
+    /**
+     * 게시글을 응답 DTO로 변환
+     */
+    private ReviewPostDto.Response toResponse(ReviewPost reviewPost) {
+        return ReviewPostDto.Response.fromEntity(reviewPost, tripReadService.getTrip(reviewPost.getTrip().getId()));
+    }
+
+    /**
+     * 게시글 목록을 응답 DTO로 변환 (여행 일정은 한 번에 조회)
+     */
+    private List<ReviewPostDto.Response> toResponses(List<ReviewPost> reviewPosts) {
+        Map<Long, ReadTripDTO> trips = tripReadService.getTripsById(reviewPosts.stream().map(reviewPost -> reviewPost.getTrip().getId()).toList());
+        return reviewPosts.stream()
+                .map(reviewPost -> ReviewPostDto.Response.fromEntity(reviewPost, trips.get(reviewPost.getTrip().getId())))
+                .collect(Collectors.toList());
+    }
 }
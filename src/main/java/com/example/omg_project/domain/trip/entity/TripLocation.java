@@ -15,8 +15,11 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 public class TripLocation {
+    // 여행 일정 저장 시 ID를 미리 할당하여 INSERT를 배치로 실행 (id_generators 테이블, pooled-lo)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "trip_locations_id")
+    @TableGenerator(name = "trip_locations_id", table = "id_generators", pkColumnName = "name", valueColumnName = "next_val",
+            pkColumnValue = "trip_locations", allocationSize = 50)
     private Long id;
 
     @ManyToOne
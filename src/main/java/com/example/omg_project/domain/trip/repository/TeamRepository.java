@@ -2,6 +2,8 @@ package com.example.omg_project.domain.trip.repository;
 
 import com.example.omg_project.domain.trip.entity.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -19,4 +21,24 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
     Optional<Team> findByChatRoomId(Long chatRoomId);
 
     boolean existsByIdAndUsersId(Long teamId, Long userId);
+
+    // 사용자가 채팅방에 연결된 팀의 멤버인지 확인
+    boolean existsByChatRoomIdAndUsersId(Long chatRoomId, Long userId);
+
+    // 채팅방에 연결된 팀의 멤버 ID만 조회
+    @Query("SELECT u.id FROM Team t JOIN t.users u WHERE t.chatRoom.id = :chatRoomId")
+    List<Long> findMemberIdsByChatRoomId(@Param("chatRoomId") Long chatRoomId);
+
+    // 채팅방이 속한 여행 이름 조회
+    @Query("SELECT t.trip.tripName FROM Team t WHERE t.chatRoom.id = :chatRoomId")
+    Optional<String> findTripNameByChatRoomId(@Param("chatRoomId") Long chatRoomId);
+
+    // 사용자가 속한 팀의 채팅방 ID와 여행 이름 조회
+    @Query("SELECT t.chatRoom.id AS chatRoomId, t.trip.tripName AS tripName FROM Team t JOIN t.users u WHERE u.id = :userId")
+    List<ChatRoomView> findChatRoomsByUserId(@Param("userId") Long userId);
+
+    interface ChatRoomView {
+        Long getChatRoomId();
+        String getTripName();
+    }
 }
@@ -0,0 +1,206 @@
+package com.example.omg_project.domain.trip.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 여행 일정에 딸린 데이터를 테이블마다 한 번의 DELETE로 삭제하는 저장소
+ * - 장소 리뷰, 위치, 날짜, 팀 멤버, 팀, 채팅방과 채팅 메시지/읽음 위치를 trip_id로 조인하여 삭제합니다.
+ * - 동행 모집/후기 게시글과 그 댓글, 대댓글, 좋아요, 위시리스트, 그리고 여행 일정도 같은 방식으로 삭제합니다.
+ * - 채팅 메시지는 chunk-size건씩 별도 트랜잭션으로 나누어 삭제하여, 삭제 트랜잭션이 많은 행의 잠금과 undo 로그를 끝까지 잡고 있지 않도록 합니다.
+ * - 영속성 컨텍스트를 거치지 않으므로, 호출한 쪽은 삭제된 엔티티를 다시 사용하지 않아야 합니다.
+ */
+@Repository
+public class TripBulkDeleteRepository {
+
+    private static final String FIND_CHAT_ROOMS_SQL =
+            "SELECT t.chat_room_id, tu.user_id FROM teams t LEFT JOIN team_user tu ON tu.team_id = t.id WHERE t.trip_id IN (:tripIds)";
+
+    private static final String DELETE_PLACE_REVIEWS_SQL =
+            "DELETE pr FROM place_review pr " +
+            "JOIN trip_locations l ON pr.trip_location_id = l.id " +
+            "JOIN trip_dates d ON l.trip_date_id = d.id " +
+            "WHERE d.trip_id IN (:tripIds)";
+
+    private static final String DELETE_LOCATIONS_SQL =
+            "DELETE l FROM trip_locations l JOIN trip_dates d ON l.trip_date_id = d.id WHERE d.trip_id IN (:tripIds)";
+
+    private static final String DELETE_DATES_SQL =
+            "DELETE FROM trip_dates WHERE trip_id IN (:tripIds)";
+
+    private static final String DELETE_CHAT_MESSAGE_CHUNK_SQL =
+            "DELETE FROM chat_messages WHERE chat_room_id IN (:chatRoomIds) LIMIT :limit";
+
+    private static final String DELETE_CHAT_MESSAGES_SQL =
+            "DELETE FROM chat_messages WHERE chat_room_id IN (:chatRoomIds)";
+
+    private static final String DELETE_READ_CURSORS_SQL =
+            "DELETE FROM chat_read_cursors WHERE chat_room_id IN (:chatRoomIds)";
+
+    private static final String DELETE_TEAM_USERS_SQL =
+            "DELETE tu FROM team_user tu JOIN teams t ON tu.team_id = t.id WHERE t.trip_id IN (:tripIds)";
+
+    private static final String DELETE_TEAMS_SQL =
+            "DELETE FROM teams WHERE trip_id IN (:tripIds)";
+
+    private static final String DELETE_CHAT_ROOMS_SQL =
+            "DELETE FROM chat_rooms WHERE id IN (:chatRoomIds)";
+
+    private static final String DELETE_JOIN_POST_REPLIES_SQL =
+            "DELETE r FROM join_post_replies r " +
+            "JOIN join_post_comments c ON r.join_post_comment_id = c.id " +
+            "JOIN join_posts p ON c.join_post_id = p.id " +
+            "WHERE p.trip_id IN (:tripIds)";
+
+    private static final String DELETE_JOIN_POST_COMMENTS_SQL =
+            "DELETE c FROM join_post_comments c JOIN join_posts p ON c.join_post_id = p.id WHERE p.trip_id IN (:tripIds)";
+
+    private static final String DELETE_JOIN_POST_LIKES_SQL =
+            "DELETE l FROM join_post_likes l JOIN join_posts p ON l.join_post_id = p.id WHERE p.trip_id IN (:tripIds)";
+
+    private static final String DELETE_JOIN_POSTS_SQL =
+            "DELETE FROM join_posts WHERE trip_id IN (:tripIds)";
+
+    private static final String DELETE_REVIEW_POST_REPLIES_SQL =
+            "DELETE r FROM review_posts_replies r " +
+            "JOIN review_posts_comments c ON r.review_post_comment_id = c.id " +
+            "JOIN review_posts p ON c.review_post_id = p.id " +
+            "WHERE p.trip_id IN (:tripIds)";
+
+    private static final String DELETE_REVIEW_POST_COMMENTS_SQL =
+            "DELETE c FROM review_posts_comments c JOIN review_posts p ON c.review_post_id = p.id WHERE p.trip_id IN (:tripIds)";
+
+    private static final String DELETE_REVIEW_POST_LIKES_SQL =
+            "DELETE l FROM review_posts_likes l JOIN review_posts p ON l.review_post_id = p.id WHERE p.trip_id IN (:tripIds)";
+
+    private static final String DELETE_WISHLISTS_SQL =
+            "DELETE w FROM wishlists w JOIN review_posts p ON w.review_post_id = p.id WHERE p.trip_id IN (:tripIds)";
+
+    private static final String DELETE_REVIEW_POST_PLACE_REVIEWS_SQL =
+            "DELETE pr FROM place_review pr JOIN review_posts p ON pr.review_post_id = p.id WHERE p.trip_id IN (:tripIds)";
+
+    private static final String DELETE_REVIEW_POSTS_SQL =
+            "DELETE FROM review_posts WHERE trip_id IN (:tripIds)";
+
+    private static final String DELETE_TRIPS_SQL =
+            "DELETE FROM trips WHERE id IN (:tripIds)";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate requiresNew;
+
+    public TripBulkDeleteRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 여행 일정들의 채팅방 ID별 멤버 ID를 조회 (삭제 후 Redis 캐시 정리에 사용)
+     *
+     * @param tripIds 여행 일정 ID 목록
+     * @return 채팅방 ID별 멤버 ID 목록
+     */
+    public Map<Long, Set<Long>> findChatRoomMembers(Collection<Long> tripIds) {
+        Map<Long, Set<Long>> members = new HashMap<>();
+        namedParameterJdbcTemplate.query(FIND_CHAT_ROOMS_SQL, new MapSqlParameterSource("tripIds", tripIds), rs -> {
+            Set<Long> roomMembers = members.computeIfAbsent(rs.getLong("chat_room_id"), id -> new HashSet<>());
+            long userId = rs.getLong("user_id");
+            if (!rs.wasNull()) {
+                roomMembers.add(userId);
+            }
+        });
+        return members;
+    }
+
+    /**
+     * 여행 일정들의 동행 모집/후기 게시글을 댓글, 대댓글, 좋아요, 위시리스트, 장소 리뷰와 함께 삭제
+     *
+     * @param tripIds 여행 일정 ID 목록
+     */
+    public void deletePosts(Collection<Long> tripIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource("tripIds", tripIds);
+        namedParameterJdbcTemplate.update(DELETE_JOIN_POST_REPLIES_SQL, params);
+        namedParameterJdbcTemplate.update(DELETE_JOIN_POST_COMMENTS_SQL, params);
+        namedParameterJdbcTemplate.update(DELETE_JOIN_POST_LIKES_SQL, params);
+        namedParameterJdbcTemplate.update(DELETE_JOIN_POSTS_SQL, params);
+
+        namedParameterJdbcTemplate.update(DELETE_REVIEW_POST_REPLIES_SQL, params);
+        namedParameterJdbcTemplate.update(DELETE_REVIEW_POST_COMMENTS_SQL, params);
+        namedParameterJdbcTemplate.update(DELETE_REVIEW_POST_LIKES_SQL, params);
+        namedParameterJdbcTemplate.update(DELETE_WISHLISTS_SQL, params);
+        namedParameterJdbcTemplate.update(DELETE_REVIEW_POST_PLACE_REVIEWS_SQL, params);
+        namedParameterJdbcTemplate.update(DELETE_REVIEW_POSTS_SQL, params);
+    }
+
+    /**
+     * 여행 일정을 삭제 (딸린 데이터를 모두 삭제한 뒤에 호출)
+     *
+     * @param tripIds 여행 일정 ID 목록
+     */
+    public void deleteTrips(Collection<Long> tripIds) {
+        namedParameterJdbcTemplate.update(DELETE_TRIPS_SQL, new MapSqlParameterSource("tripIds", tripIds));
+    }
+
+    /**
+     * 여행 일정들의 장소 리뷰, 위치, 날짜를 삭제
+     *
+     * @param tripIds 여행 일정 ID 목록
+     */
+    public void deleteItineraries(Collection<Long> tripIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource("tripIds", tripIds);
+        namedParameterJdbcTemplate.update(DELETE_PLACE_REVIEWS_SQL, params);
+        namedParameterJdbcTemplate.update(DELETE_LOCATIONS_SQL, params);
+        namedParameterJdbcTemplate.update(DELETE_DATES_SQL, params);
+    }
+
+    /**
+     * 채팅방들의 채팅 메시지를 chunk-size건씩 각각 별도 트랜잭션으로 삭제 (호출한 쪽의 트랜잭션과 관계없이 바로 커밋)
+     * 호출한 쪽의 트랜잭션이 롤백되어도 삭제된 메시지는 되돌아가지 않습니다.
+     *
+     * @param chatRoomIds 채팅방 ID 목록
+     * @param chunkSize   한 트랜잭션에서 삭제할 최대 채팅 메시지 수
+     */
+    public void purgeChatMessages(Collection<Long> chatRoomIds, int chunkSize) {
+        if (chatRoomIds.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource rooms = new MapSqlParameterSource("chatRoomIds", chatRoomIds).addValue("limit", chunkSize);
+        Integer deleted;
+        do {
+            deleted = requiresNew.execute(status -> namedParameterJdbcTemplate.update(DELETE_CHAT_MESSAGE_CHUNK_SQL, rooms));
+        } while (deleted != null && deleted == chunkSize);
+    }
+
+    /**
+     * 여행 일정들의 팀과 팀 멤버, 채팅방과 채팅 메시지/읽음 위치를 삭제
+     * 채팅 메시지는 purgeChatMessages로 미리 삭제하고, 그 뒤에 들어온 메시지만 여기서 삭제합니다.
+     *
+     * @param tripIds     여행 일정 ID 목록
+     * @param chatRoomIds 여행 일정들의 채팅방 ID 목록
+     */
+    public void deleteTeams(Collection<Long> tripIds, Collection<Long> chatRoomIds) {
+        if (!chatRoomIds.isEmpty()) {
+            MapSqlParameterSource rooms = new MapSqlParameterSource("chatRoomIds", chatRoomIds);
+            namedParameterJdbcTemplate.update(DELETE_CHAT_MESSAGES_SQL, rooms);
+            namedParameterJdbcTemplate.update(DELETE_READ_CURSORS_SQL, rooms);
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource("tripIds", tripIds);
+        namedParameterJdbcTemplate.update(DELETE_TEAM_USERS_SQL, params);
+        namedParameterJdbcTemplate.update(DELETE_TEAMS_SQL, params);
+
+        if (!chatRoomIds.isEmpty()) {
+            namedParameterJdbcTemplate.update(DELETE_CHAT_ROOMS_SQL, new MapSqlParameterSource("chatRoomIds", chatRoomIds));
+        }
+    }
+}
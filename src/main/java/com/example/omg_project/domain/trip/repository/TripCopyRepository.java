@@ -0,0 +1,143 @@
+package com.example.omg_project.domain.trip.repository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 여행 일정의 날짜와 위치를 INSERT ... SELECT로 한 번에 복사하는 저장소
+ * - 원본 일정의 날짜/위치 수를 세고, id_generators에서 그만큼의 ID 구간을 예약합니다 (TripDate, TripLocation의 테이블 ID 생성기와 공유).
+ * - 원본 행에 ROW_NUMBER()로 순번을 매겨 예약한 구간의 ID로 옮기며, 위치는 같은 순번으로 새 날짜 ID에 연결합니다.
+ * - 일정 크기와 관계없이 항상 같은 수의 SQL로 복사합니다.
+ * - 서버가 시작할 때 ID 생성기를 테이블의 가장 큰 ID 다음 값 이상으로 맞춥니다.
+ *   테이블은 ddl-auto로 만들어지므로, 기존 데이터가 있는 DB에서 생성기가 1부터 시작해 ID가 겹치지 않도록 합니다.
+ */
+@Slf4j
+@Repository
+@DependsOn("entityManagerFactory")
+public class TripCopyRepository {
+
+    // TripDate, TripLocation이 ID를 할당받는 생성기 이름 (테이블 이름과 같음)
+    private static final List<String> GENERATOR_NAMES = List.of("trip_dates", "trip_locations");
+
+    private static final String COUNT_SQL =
+            "SELECT COUNT(DISTINCT d.id) AS date_count, COUNT(l.id) AS location_count " +
+            "FROM trip_dates d LEFT JOIN trip_locations l ON l.trip_date_id = d.id " +
+            "WHERE d.trip_id = ? FOR SHARE";
+
+    // 예약한 ID 구간의 다음 값을 LAST_INSERT_ID()로 돌려받음 (같은 연결에서 조회)
+    private static final String RESERVE_SQL =
+            "UPDATE id_generators SET next_val = LAST_INSERT_ID(next_val + ?) WHERE name = ?";
+
+    private static final String FIND_GENERATOR_SQL =
+            "SELECT next_val FROM id_generators WHERE name = ?";
+
+    private static final String INSERT_GENERATOR_SQL =
+            "INSERT INTO id_generators (name, next_val) VALUES (?, ?)";
+
+    private static final String RAISE_GENERATOR_SQL =
+            "UPDATE id_generators SET next_val = ? WHERE name = ? AND next_val < ?";
+
+    private static final String COPY_DATES_SQL =
+            "INSERT INTO trip_dates (id, trip_id, trip_date, day) " +
+            "SELECT ? + s.rn - 1, ?, s.trip_date, s.day " +
+            "FROM (SELECT trip_date, day, ROW_NUMBER() OVER (ORDER BY id) AS rn FROM trip_dates WHERE trip_id = ?) s";
+
+    private static final String COPY_LOCATIONS_SQL =
+            "INSERT INTO trip_locations (id, trip_date_id, place_name, latitude, longitude) " +
+            "SELECT ? + ROW_NUMBER() OVER (ORDER BY l.id) - 1, ? + d.rn - 1, l.place_name, l.latitude, l.longitude " +
+            "FROM trip_locations l " +
+            "JOIN (SELECT id, ROW_NUMBER() OVER (ORDER BY id) AS rn FROM trip_dates WHERE trip_id = ?) d ON l.trip_date_id = d.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+
+    public TripCopyRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 서버 시작 시 ID 생성기를 테이블의 가장 큰 ID 다음 값 이상으로 맞춤
+     * 생성기가 없으면 만들고, 이미 더 큰 값이면 그대로 둡니다.
+     */
+    @PostConstruct
+    void seedIdGenerators() {
+        for (String name : GENERATOR_NAMES) {
+            try {
+                raiseToMaxId(name);
+            } catch (Exception e) {
+                log.warn("ID 생성기 초기화 실패 :: {}", name, e);
+            }
+        }
+    }
+
+    /**
+     * 원본 일정의 날짜와 위치를 새 일정으로 복사 (호출한 쪽의 트랜잭션 안에서 실행)
+     *
+     * @param sourceTripId 원본 여행 일정 ID
+     * @param targetTripId 새 여행 일정 ID
+     */
+    public void copyDatesAndLocations(Long sourceTripId, Long targetTripId) {
+        // 원본 행을 공유 잠금하여 복사하는 동안 날짜/위치 수가 바뀌지 않도록 함
+        long[] counts = jdbcTemplate.queryForObject(COUNT_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong("date_count"), rs.getLong("location_count")}, sourceTripId);
+        if (counts == null || counts[0] == 0) {
+            return;
+        }
+
+        long firstDateId = reserveIds("trip_dates", counts[0]);
+        jdbcTemplate.update(COPY_DATES_SQL, firstDateId, targetTripId, sourceTripId);
+
+        if (counts[1] > 0) {
+            long firstLocationId = reserveIds("trip_locations", counts[1]);
+            jdbcTemplate.update(COPY_LOCATIONS_SQL, firstLocationId, firstDateId, sourceTripId);
+        }
+    }
+
+    /**
+     * ID 생성기에서 count개의 연속된 ID를 별도 트랜잭션으로 예약 (복사 트랜잭션이 끝날 때까지 행 잠금을 잡지 않음)
+     *
+     * @param name  ID 생성기 이름 (테이블 이름)
+     * @param count 예약할 ID 수
+     * @return 예약한 구간의 첫 ID
+     */
+    private long reserveIds(String name, long count) {
+        Long next = requiresNew.execute(status -> {
+            if (jdbcTemplate.update(RESERVE_SQL, count, name) == 0) {
+                // 생성기가 아직 없으면 가장 큰 ID 다음 값으로 만든 뒤 다시 예약
+                raiseToMaxId(name);
+                jdbcTemplate.update(RESERVE_SQL, count, name);
+            }
+            return jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+        });
+        return next - count;
+    }
+
+    /**
+     * ID 생성기의 다음 값을 테이블의 가장 큰 ID + 1 이상으로 올림 (생성기가 없으면 추가)
+     *
+     * @param name ID 생성기 이름 (테이블 이름)
+     */
+    private void raiseToMaxId(String name) {
+        Long seed = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM " + name, Long.class);
+        if (jdbcTemplate.queryForList(FIND_GENERATOR_SQL, Long.class, name).isEmpty()) {
+            try {
+                jdbcTemplate.update(INSERT_GENERATOR_SQL, name, seed);
+                return;
+            } catch (DuplicateKeyException e) {
+                // 다른 서버가 먼저 추가함
+            }
+        }
+        jdbcTemplate.update(RAISE_GENERATOR_SQL, seed, name, seed);
+    }
+}
@@ -6,6 +6,4 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TripLocationRepository extends JpaRepository<TripLocation, Long> {
-
-    void deleteAllByTripDateId(Long tripDateId);
 }
@@ -0,0 +1,91 @@
+package com.example.omg_project.domain.trip.repository;
+
+import com.example.omg_project.domain.trip.dto.ReadTripDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 여행 일정 조회용 DTO를 고정된 수의 쿼리로 만드는 저장소
+ * - 일정과 도시, 날짜, 위치를 각각 한 번의 IN 쿼리로 조회하여 메모리에서 ReadTripDTO로 조립합니다.
+ * - 엔티티를 불러오지 않으므로, 일정 수나 크기와 관계없이 항상 3번의 쿼리로 조회합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TripReadRepository {
+
+    private static final String FIND_TRIPS_SQL =
+            "SELECT t.id, t.trip_name, t.start_date, t.end_date, c.id AS city_id, c.name AS city_name " +
+            "FROM trips t JOIN cities c ON t.city_id = c.id WHERE t.id IN (:tripIds)";
+
+    private static final String FIND_DATES_SQL =
+            "SELECT id, trip_id, trip_date FROM trip_dates WHERE trip_id IN (:tripIds) ORDER BY id";
+
+    private static final String FIND_LOCATIONS_SQL =
+            "SELECT l.id, l.trip_date_id, l.place_name, l.latitude, l.longitude " +
+            "FROM trip_locations l JOIN trip_dates d ON l.trip_date_id = d.id WHERE d.trip_id IN (:tripIds) ORDER BY l.id";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 여행 일정들을 날짜와 위치까지 포함하여 조회
+     *
+     * @param tripIds 여행 일정 ID 목록
+     * @return 여행 일정 ID별 조회 DTO (없는 일정은 포함되지 않음)
+     */
+    public Map<Long, ReadTripDTO> findByIds(Collection<Long> tripIds) {
+        if (tripIds.isEmpty()) {
+            return Map.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("tripIds", tripIds);
+
+        Map<Long, ReadTripDTO> trips = new LinkedHashMap<>();
+        namedParameterJdbcTemplate.query(FIND_TRIPS_SQL, params, rs -> {
+            ReadTripDTO.CityDTO city = new ReadTripDTO.CityDTO();
+            city.setId(rs.getLong("city_id"));
+            city.setName(rs.getString("city_name"));
+
+            ReadTripDTO trip = new ReadTripDTO();
+            trip.setId(rs.getLong("id"));
+            trip.setTripName(rs.getString("trip_name"));
+            trip.setStartDate(rs.getDate("start_date").toLocalDate());
+            trip.setEndDate(rs.getDate("end_date").toLocalDate());
+            trip.setCity(city);
+            trip.setTripDates(new ArrayList<>());
+            trips.put(trip.getId(), trip);
+        });
+        if (trips.isEmpty()) {
+            return trips;
+        }
+
+        Map<Long, ReadTripDTO.TripDateDTO> dates = new HashMap<>();
+        namedParameterJdbcTemplate.query(FIND_DATES_SQL, params, rs -> {
+            ReadTripDTO.TripDateDTO date = new ReadTripDTO.TripDateDTO();
+            date.setId(rs.getLong("id"));
+            date.setTripDate(rs.getDate("trip_date").toLocalDate());
+            date.setTripLocations(new ArrayList<>());
+            dates.put(date.getId(), date);
+            trips.get(rs.getLong("trip_id")).getTripDates().add(date);
+        });
+        if (dates.isEmpty()) {
+            return trips;
+        }
+
+        namedParameterJdbcTemplate.query(FIND_LOCATIONS_SQL, params, rs -> {
+            ReadTripDTO.TripLocationDTO location = new ReadTripDTO.TripLocationDTO();
+            location.setId(rs.getLong("id"));
+            location.setPlaceName(rs.getString("place_name"));
+            location.setLatitude(rs.getBigDecimal("latitude").doubleValue());
+            location.setLongitude(rs.getBigDecimal("longitude").doubleValue());
+            dates.get(rs.getLong("trip_date_id")).getTripLocations().add(location);
+        });
+        return trips;
+    }
+}
@@ -13,5 +13,7 @@ import java.util.Optional;
 public interface TripRepository extends JpaRepository<Trip, Long> {
     @Query("SELECT t FROM Trip t JOIN Team team ON t.id = team.trip.id JOIN team.users u WHERE u.id = :userId")
     List<Trip> findByUserId(@Param("userId") Long userId);
+    @Query("SELECT t.id FROM Trip t JOIN Team team ON t.id = team.trip.id JOIN team.users u WHERE u.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
     Optional<Trip> findById(Long id);
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.example.omg_project.domain.trip.service;
+
+import com.example.omg_project.domain.trip.dto.ReadTripDTO;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface TripReadService {
+    ReadTripDTO getTrip(Long tripId);
+    List<ReadTripDTO> getTrips(List<Long> tripIds);
+    Map<Long, ReadTripDTO> getTripsById(Collection<Long> tripIds);
+}
@@ -12,6 +12,7 @@ public interface TripService {
     ReadTripDTO getTripById(Long id);
     List<ReadTripDTO> getTripsByUserId(Long userId);
     void deleteTrip(Long tripId);
+    void deleteTrips(List<Long> tripIds);
     UpdateTripDTO updateTrip(Long id, UpdateTripDTO updateTripDTO);
     Trip copyTripToUser(Long tripId, String jwtToken);
 }
\ No newline at end of file
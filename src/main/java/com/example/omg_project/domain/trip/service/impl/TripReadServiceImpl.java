@@ -0,0 +1,66 @@
+package com.example.omg_project.domain.trip.service.impl;
+
+import com.example.omg_project.domain.trip.dto.ReadTripDTO;
+import com.example.omg_project.domain.trip.repository.TripReadRepository;
+import com.example.omg_project.domain.trip.service.TripReadService;
+import com.example.omg_project.domain.trip.service.redis.TripItineraryCache;
+import com.example.omg_project.global.exception.CustomException;
+import com.example.omg_project.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * ReadTripDTO를 만드는 조회 전용 서비스
+ * 일정 목록의 날짜와 위치를 지연 로딩으로 하나씩 불러오지 않고, TripReadRepository로 한 번에 조회합니다.
+ * 조회한 일정은 TripItineraryCache(L1 메모리, L2 Redis)에 캐시됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TripReadServiceImpl implements TripReadService {
+    private final TripReadRepository tripReadRepository;
+    private final TripItineraryCache tripItineraryCache;
+
+    /**
+     * 여행 일정 하나를 조회하는 메서드
+     *
+     * @param tripId 조회할 여행 일정의 ID
+     * @return 여행 일정 조회 DTO
+     */
+    @Override
+    public ReadTripDTO getTrip(Long tripId) {
+        ReadTripDTO trip = getTripsById(List.of(tripId)).get(tripId);
+        if (trip == null) {
+            throw new CustomException(ErrorCode.TRIP_NOT_FOUND_EXCEPTION);
+        }
+        return trip;
+    }
+
+    /**
+     * 여러 여행 일정을 주어진 순서대로 조회하는 메서드 (없는 일정은 제외)
+     *
+     * @param tripIds 조회할 여행 일정 ID 목록
+     * @return 여행 일정 조회 DTO 목록
+     */
+    @Override
+    public List<ReadTripDTO> getTrips(List<Long> tripIds) {
+        Map<Long, ReadTripDTO> trips = getTripsById(tripIds);
+        return new LinkedHashSet<>(tripIds).stream().map(trips::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * 여러 여행 일정을 한 번에 조회하는 메서드 (게시글 목록처럼 같은 일정이 여러 번 나오는 경우에 사용)
+     *
+     * @param tripIds 조회할 여행 일정 ID 목록
+     * @return 여행 일정 ID별 조회 DTO
+     */
+    @Override
+    public Map<Long, ReadTripDTO> getTripsById(Collection<Long> tripIds) {
+        return tripItineraryCache.getAll(tripIds, tripReadRepository::findByIds);
+    }
+}
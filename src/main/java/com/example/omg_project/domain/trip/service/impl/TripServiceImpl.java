@@ -2,12 +2,16 @@ package com.example.omg_project.domain.trip.service.impl;
 
 import com.example.omg_project.domain.chat.entity.ChatRoom;
 import com.example.omg_project.domain.chat.repository.ChatRoomRepository;
+import com.example.omg_project.domain.chat.service.redis.ChatRecentMessageCache;
+import com.example.omg_project.domain.chat.service.redis.ChatUnreadCounter;
 import com.example.omg_project.domain.trip.dto.CreateTripDTO;
 import com.example.omg_project.domain.trip.dto.ReadTripDTO;
 import com.example.omg_project.domain.trip.dto.UpdateTripDTO;
 import com.example.omg_project.domain.trip.entity.*;
 import com.example.omg_project.domain.trip.repository.*;
+import com.example.omg_project.domain.trip.service.TripReadService;
 import com.example.omg_project.domain.trip.service.TripService;
+import com.example.omg_project.domain.trip.service.redis.TripItineraryCache;
 import com.example.omg_project.domain.user.entity.User;
 import com.example.omg_project.domain.user.repository.UserRepository;
 import com.example.omg_project.global.exception.CustomException;
@@ -17,12 +21,14 @@ import io.jsonwebtoken.Claims;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.security.SecureRandom;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -32,10 +38,19 @@ public class TripServiceImpl implements TripService {
     private final CityRepository cityRepository;
     private final TripDateRepository tripDateRepository;
     private final TripLocationRepository tripLocationRepository;
+    private final TripCopyRepository tripCopyRepository;
+    private final TripBulkDeleteRepository tripBulkDeleteRepository;
+    private final TripReadService tripReadService;
+    private final TripItineraryCache tripItineraryCache;
     private final ChatRoomRepository chatRoomRepository;
     private final TeamRepository teamRepository;
     private final UserRepository userRepository;
     private final JwtTokenizer jwtTokenizer;
+    private final ChatRecentMessageCache chatRecentMessageCache;
+    private final ChatUnreadCounter chatUnreadCounter;
+
+    @Value("${trip.delete.chat-message-chunk-size:5000}")
+    private int chatMessageDeleteChunkSize;
 
     /**
      * 여행 일정을 생성하는 메서드
@@ -68,7 +83,9 @@ public class TripServiceImpl implements TripService {
 
         createTripDTO.setTripId(savedTrip.getId());
 
-        // 날짜 정보 저장
+        // 날짜 및 위치 정보를 모아서 저장 (ID를 미리 할당하므로 커밋 시 배치 INSERT로 실행)
+        List<TripDate> tripDates = new ArrayList<>();
+        List<TripLocation> tripLocations = new ArrayList<>();
         for (CreateTripDTO.TripDateDTO tripDateDTO : createTripDTO.getTripDates()) {
             TripDate tripDate = new TripDate();
             tripDate.setTripDate(tripDateDTO.getTripDate());
@@ -77,20 +94,19 @@ public class TripServiceImpl implements TripService {
             // 며칠 차인지 계산
             int day = (int) ChronoUnit.DAYS.between(createTripDTO.getStartDate(), tripDateDTO.getTripDate()) + 1;
             tripDate.setDay(day);
+            tripDates.add(tripDate);
 
-            TripDate savedTripDate = tripDateRepository.save(tripDate);
-
-            // 위치 정보 저장
             for (CreateTripDTO.TripLocationDTO tripLocationDTO : tripDateDTO.getTripLocations()) {
                 TripLocation tripLocation = new TripLocation();
                 tripLocation.setPlaceName(tripLocationDTO.getPlaceName());
                 tripLocation.setLatitude(tripLocationDTO.getLatitude());
                 tripLocation.setLongitude(tripLocationDTO.getLongitude());
-                tripLocation.setTripDate(savedTripDate);
-
-                tripLocationRepository.save(tripLocation);
+                tripLocation.setTripDate(tripDate);
+                tripLocations.add(tripLocation);
             }
         }
+        tripDateRepository.saveAll(tripDates);
+        tripLocationRepository.saveAll(tripLocations);
 
         // 채팅룸 생성
         ChatRoom chatRoom = new ChatRoom();
@@ -133,36 +149,58 @@ public class TripServiceImpl implements TripService {
     @Override
     @Transactional
     public void deleteTrip(Long tripId) {
-        log.info("Deleting trip with ID: {}", tripId);
-
-        // 관련된 Team 삭제
-        List<Team> teams = teamRepository.findAllByTripId(tripId);
-        log.info("Found {} teams associated with trip ID: {}", teams.size(), tripId);
-        for (Team team : teams) {
-            // ManyToMany 관계 정리
-            for (User user : team.getUsers()) {
-                user.getTeams().remove(team);
-            }
-            team.getUsers().clear(); // ManyToMany 관계 정리
-            Long chatRoomId = team.getChatRoom().getId();
-            log.info("Deleting chat room with ID: {}", chatRoomId);
-            teamRepository.delete(team);
-        }
+        deleteTrips(List.of(tripId));
+    }
 
-        // 관련된 TripDates 및 TripLocations 삭제
-        List<TripDate> tripDates = tripDateRepository.findByTripId(tripId);
-        log.info("Found {} trip dates associated with trip ID: {}", tripDates.size(), tripId);
-        for (TripDate tripDate : tripDates) {
-            log.info("Deleting trip locations for trip date ID: {}", tripDate.getId());
-            tripLocationRepository.deleteAllByTripDateId(tripDate.getId());
-            log.info("Deleting trip date with ID: {}", tripDate.getId());
-            tripDateRepository.delete(tripDate);
+    /**
+     * 여러 여행 일정을 한 번에 삭제하는 메서드
+     * 일정과 딸린 데이터(게시글 포함)를 테이블마다 한 번의 DELETE로 삭제합니다.
+     * 채팅 메시지는 먼저 chunk-size건씩 별도 트랜잭션으로 삭제하므로, 이 트랜잭션이 롤백되어도 삭제된 메시지는 되돌아가지 않습니다.
+     * 엔티티를 불러오지 않으므로, 이미 삭제된 날짜 등을 cascade로 다시 삭제하려다 실패하는 일이 없습니다.
+     * 커밋 후 삭제된 채팅방의 최근 메시지 캐시와 멤버들의 안 읽은 메시지 수를 정리합니다.
+     *
+     * @param tripIds 삭제할 여행 일정 ID 목록
+     */
+    @Override
+    @Transactional
+    public void deleteTrips(List<Long> tripIds) {
+        if (tripIds.isEmpty()) {
+            return;
         }
+        Map<Long, Set<Long>> chatRoomMembers = tripBulkDeleteRepository.findChatRoomMembers(tripIds);
+        // 이 트랜잭션이 행 잠금을 잡기 전에 채팅 메시지를 나누어 삭제
+        tripBulkDeleteRepository.purgeChatMessages(chatRoomMembers.keySet(), chatMessageDeleteChunkSize);
+
+        tripBulkDeleteRepository.deletePosts(tripIds);
+        tripBulkDeleteRepository.deleteItineraries(tripIds);
+        tripBulkDeleteRepository.deleteTeams(tripIds, chatRoomMembers.keySet());
+        tripBulkDeleteRepository.deleteTrips(tripIds);
+        tripItineraryCache.invalidateAfterCommit(tripIds);
+        log.info("Deleted {} trips with {} chat rooms", tripIds.size(), chatRoomMembers.size());
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictChatRooms(chatRoomMembers);
+            }
+        });
+    }
 
-        // Trip 삭제
-        log.info("Deleting trip with ID: {}", tripId);
-        tripRepository.deleteById(tripId);
-        log.info("Successfully deleted trip with ID: {}", tripId);
+    /**
+     * 삭제된 채팅방의 Redis 캐시를 정리 (실패해도 캐시 만료로 정리됨)
+     *
+     * @param chatRoomMembers 채팅방 ID별 멤버 ID 목록
+     */
+    private void evictChatRooms(Map<Long, Set<Long>> chatRoomMembers) {
+        try {
+            chatRoomMembers.keySet().forEach(chatRecentMessageCache::evict);
+            Map<Long, Set<Long>> roomsByMember = new HashMap<>();
+            chatRoomMembers.forEach((roomId, memberIds) -> memberIds.forEach(memberId ->
+                    roomsByMember.computeIfAbsent(memberId, id -> new HashSet<>()).add(roomId)));
+            chatUnreadCounter.remove(roomsByMember);
+        } catch (Exception e) {
+            log.warn("삭제된 채팅방 캐시 정리 실패 :: {}", chatRoomMembers.keySet(), e);
+        }
     }
 
     /**
@@ -173,9 +211,7 @@ public class TripServiceImpl implements TripService {
     @Override
     @Transactional
     public ReadTripDTO getTripById(Long id) {
-        Trip trip = tripRepository.findById(id)
-                .orElseThrow(() -> new CustomException(ErrorCode.TRIP_NOT_FOUND_EXCEPTION));
-        return ReadTripDTO.fromEntity(trip);
+        return tripReadService.getTrip(id);
     }
 
     /**
@@ -185,8 +221,7 @@ public class TripServiceImpl implements TripService {
      */
     @Override
     public List<ReadTripDTO> getTripsByUserId(Long userId) {
-        List<Trip> trips = tripRepository.findByUserId(userId);
-        return trips.stream().map(ReadTripDTO::fromEntity).collect(Collectors.toList());
+        return tripReadService.getTrips(tripRepository.findIdsByUserId(userId));
     }
 
     /**
@@ -274,6 +309,7 @@ public class TripServiceImpl implements TripService {
             }
 
             tripRepository.save(trip);
+            tripItineraryCache.invalidateAfterCommit(List.of(id));
             log.info("Trip saved successfully: {}", trip);
             return updateTripDTO;
         } else {
@@ -335,28 +371,9 @@ public class TripServiceImpl implements TripService {
         Trip savedTrip = tripRepository.save(trip);
         log.info("Saved Trip entity: {}", savedTrip);
 
-        // 날짜 정보 저장
-        for (TripDate originalTripDate : originalTrip.getTripDates()) {
-            TripDate tripDate = new TripDate();
-            tripDate.setTripDate(originalTripDate.getTripDate());
-            tripDate.setTrip(savedTrip);
-            tripDate.setDay(originalTripDate.getDay());
-
-            TripDate savedTripDate = tripDateRepository.save(tripDate);
-            log.info("Saved TripDate entity: {}", savedTripDate);
-
-            // 위치 정보 저장
-            for (TripLocation originalTripLocation : originalTripDate.getTripLocations()) {
-                TripLocation tripLocation = new TripLocation();
-                tripLocation.setPlaceName(originalTripLocation.getPlaceName());
-                tripLocation.setLatitude(originalTripLocation.getLatitude());
-                tripLocation.setLongitude(originalTripLocation.getLongitude());
-                tripLocation.setTripDate(savedTripDate);
-
-                tripLocationRepository.save(tripLocation);
-                log.info("Saved TripLocation entity: {}", tripLocation);
-            }
-        }
+        // 날짜 및 위치 정보를 INSERT ... SELECT로 복사 (원본 엔티티를 불러오지 않고 일정 크기와 관계없이 같은 수의 SQL로 실행)
+        tripCopyRepository.copyDatesAndLocations(originalTrip.getId(), savedTrip.getId());
+        log.info("Copied trip dates and locations from trip {} to trip {}", originalTrip.getId(), savedTrip.getId());
 
         ChatRoom chatRoom = new ChatRoom();
         ChatRoom savedChatRoom = chatRoomRepository.save(chatRoom);
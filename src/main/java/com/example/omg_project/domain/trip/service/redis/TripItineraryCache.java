@@ -0,0 +1,279 @@
+package com.example.omg_project.domain.trip.service.redis;
+
+import com.example.omg_project.domain.trip.dto.ReadTripDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 조립된 여행 일정(ReadTripDTO)의 2단계 캐시
+ * - L1: 서버 메모리의 Caffeine 캐시 (최대 l1.max-size개, l1.ttl-seconds 후 만료)
+ * - L2: Redis 문자열("trip:itinerary:{tripId}:{version}")에 저장한 JSON, 버전은 "trip:itinerary:version:{tripId}"에 보관
+ * - 일정이 수정/삭제되면 커밋 후 버전을 올려 L2의 이전 값을 더 이상 읽지 않도록 하고,
+ *   "trip:itinerary:invalidate" 채널로 일정 ID를 발행하여 모든 서버의 L1에서 제거합니다.
+ * - 캐시된 DTO는 여러 요청이 공유하므로 수정하지 않아야 합니다.
+ */
+@Slf4j
+@Component
+public class TripItineraryCache implements MessageListener {
+
+    public static final String INVALIDATE_CHANNEL = "trip:itinerary:invalidate";
+
+    private static final String KEY_PREFIX = "trip:itinerary:";
+    private static final String VERSION_KEY_PREFIX = "trip:itinerary:version:";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private static final ObjectWriter ENTRY_WRITER = OBJECT_MAPPER.writerFor(ReadTripDTO.class);
+    private static final ObjectReader ENTRY_READER = OBJECT_MAPPER.readerFor(ReadTripDTO.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Cache<Long, ReadTripDTO> l1;
+    private final long l2TtlSeconds;
+
+    // 무효화가 일어날 때마다 증가 (조회 중에 무효화된 일정을 L1에 다시 넣지 않도록 함)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+
+    public TripItineraryCache(StringRedisTemplate stringRedisTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${trip.itinerary.cache.l1.max-size:10000}") long l1MaxSize,
+                              @Value("${trip.itinerary.cache.l1.ttl-seconds:300}") long l1TtlSeconds,
+                              @Value("${trip.itinerary.cache.l2.ttl-seconds:3600}") long l2TtlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.l2TtlSeconds = l2TtlSeconds;
+        this.l1 = Caffeine.newBuilder()
+                .maximumSize(l1MaxSize)
+                .expireAfterWrite(Duration.ofSeconds(l1TtlSeconds))
+                .recordStats()
+                .build();
+
+        // L1 적중/누락/제거 수와 크기 (cache.gets, cache.evictions, cache.size 등)
+        CaffeineCacheMetrics.monitor(meterRegistry, l1, "trip.itinerary.l1");
+        this.l2Hits = Counter.builder("trip.itinerary.l2").tag("result", "hit")
+                .description("여행 일정 L2 캐시 조회 결과").register(meterRegistry);
+        this.l2Misses = Counter.builder("trip.itinerary.l2").tag("result", "miss")
+                .description("여행 일정 L2 캐시 조회 결과").register(meterRegistry);
+    }
+
+    /**
+     * 여행 일정들을 L1, L2, DB 순서로 조회 (read-through)
+     * L1에 없는 일정은 한 번의 MGET으로 버전을, 한 번의 MGET으로 L2 값을 조회하고, 남은 일정만 loader로 한 번에 불러옵니다.
+     *
+     * @param tripIds 여행 일정 ID 목록
+     * @param loader  캐시에 없는 일정을 DB에서 불러오는 함수
+     * @return 여행 일정 ID별 조회 DTO (없는 일정은 포함되지 않음)
+     */
+    public Map<Long, ReadTripDTO> getAll(Collection<Long> tripIds, Function<Collection<Long>, Map<Long, ReadTripDTO>> loader) {
+        Map<Long, ReadTripDTO> trips = new HashMap<>(l1.getAllPresent(tripIds));
+        List<Long> missing = new ArrayList<>();
+        for (Long tripId : new LinkedHashSet<>(tripIds)) {
+            if (!trips.containsKey(tripId)) {
+                missing.add(tripId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return trips;
+        }
+        long epoch = invalidations.get();
+
+        List<String> versions;
+        List<String> values;
+        List<String> keys;
+        try {
+            versions = stringRedisTemplate.opsForValue().multiGet(missing.stream().map(TripItineraryCache::versionKey).toList());
+            keys = new ArrayList<>(missing.size());
+            for (int i = 0; i < missing.size(); i++) {
+                String version = versions != null && versions.get(i) != null ? versions.get(i) : "0";
+                keys.add(KEY_PREFIX + missing.get(i) + ":" + version);
+            }
+            values = stringRedisTemplate.opsForValue().multiGet(keys);
+        } catch (Exception e) {
+            // Redis를 사용할 수 없으면 DB에서 조회
+            log.warn("여행 일정 L2 캐시 조회 실패", e);
+            trips.putAll(loader.apply(missing));
+            return trips;
+        }
+
+        Map<Long, String> keyByTrip = new HashMap<>(missing.size());
+        List<Long> unloaded = new ArrayList<>();
+        for (int i = 0; i < missing.size(); i++) {
+            Long tripId = missing.get(i);
+            ReadTripDTO trip = read(values != null ? values.get(i) : null);
+            if (trip != null) {
+                l2Hits.increment();
+                trips.put(tripId, trip);
+                putL1(tripId, trip, epoch);
+            } else {
+                l2Misses.increment();
+                keyByTrip.put(tripId, keys.get(i));
+                unloaded.add(tripId);
+            }
+        }
+        if (unloaded.isEmpty()) {
+            return trips;
+        }
+
+        // 조회 전에 읽은 버전의 키로 저장하므로, 그 사이에 수정된 일정은 새 버전에서 다시 불러옴
+        Map<Long, ReadTripDTO> loaded = loader.apply(unloaded);
+        Map<String, String> entries = new HashMap<>(loaded.size());
+        loaded.forEach((tripId, trip) -> {
+            trips.put(tripId, trip);
+            putL1(tripId, trip, epoch);
+            String value = write(trip);
+            if (value != null) {
+                entries.put(keyByTrip.get(tripId), value);
+            }
+        });
+        writeL2(entries);
+        return trips;
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤 여행 일정들의 캐시를 무효화 (트랜잭션 밖이면 바로 무효화)
+     *
+     * @param tripIds 수정되거나 삭제된 여행 일정 ID 목록
+     */
+    public void invalidateAfterCommit(Collection<Long> tripIds) {
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(tripIds));
+        if (ids.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(ids);
+                }
+            });
+        } else {
+            invalidate(ids);
+        }
+    }
+
+    /**
+     * 버전을 올리고 모든 서버에 L1 무효화를 발행 (한 번의 파이프라인)
+     *
+     * @param tripIds 여행 일정 ID 목록
+     */
+    private void invalidate(List<Long> tripIds) {
+        evictLocal(tripIds);
+        try {
+            byte[] message = bytes(String.join(",", tripIds.stream().map(String::valueOf).toList()));
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                // 버전 키는 만료시키지 않음 (버전이 처음으로 돌아가면 이전에 저장한 L2 값을 다시 읽을 수 있음)
+                for (Long tripId : tripIds) {
+                    connection.stringCommands().incr(bytes(versionKey(tripId)));
+                }
+                connection.publish(bytes(INVALIDATE_CHANNEL), message);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("여행 일정 캐시 무효화 실패 :: {}", tripIds, e);
+        }
+    }
+
+    /**
+     * 다른 서버에서 발행한 무효화 메시지를 받아 이 서버의 L1에서 제거
+     *
+     * @param message Redis에서 수신한 메시지 (쉼표로 구분한 일정 ID)
+     * @param pattern 구독 패턴 (사용되지 않음)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            List<Long> tripIds = new ArrayList<>();
+            for (String tripId : body.split(",")) {
+                tripIds.add(Long.valueOf(tripId));
+            }
+            evictLocal(tripIds);
+        } catch (Exception e) {
+            log.warn("여행 일정 캐시 무효화 메시지 처리 실패", e);
+        }
+    }
+
+    private void evictLocal(List<Long> tripIds) {
+        invalidations.incrementAndGet();
+        l1.invalidateAll(tripIds);
+    }
+
+    private void putL1(Long tripId, ReadTripDTO trip, long epoch) {
+        if (invalidations.get() == epoch) {
+            l1.put(tripId, trip);
+        }
+    }
+
+    private void writeL2(Map<String, String> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                entries.forEach((key, value) -> connection.stringCommands().setEx(bytes(key), l2TtlSeconds, bytes(value)));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("여행 일정 L2 캐시 저장 실패", e);
+        }
+    }
+
+    private static ReadTripDTO read(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return ENTRY_READER.readValue(value);
+        } catch (Exception e) {
+            log.warn("여행 일정 캐시 변환 실패", e);
+            return null;
+        }
+    }
+
+    private static String write(ReadTripDTO trip) {
+        try {
+            return ENTRY_WRITER.writeValueAsString(trip);
+        } catch (Exception e) {
+            log.warn("여행 일정 캐시 변환 실패 :: {}", trip.getId(), e);
+            return null;
+        }
+    }
+
+    private static String versionKey(Long tripId) {
+        return VERSION_KEY_PREFIX + tripId;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -4,6 +4,8 @@ import com.example.omg_project.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,4 +18,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUsernick(String usernick);
 
     User findByUsernick(String usernick);
+
+    List<NicknameView> findByIdIn(Collection<Long> ids); // ID 목록으로 닉네임 일괄 조회 (역할 EAGER 로딩 없이)
+
+    interface NicknameView {
+        Long getId();
+        String getUsernick();
+    }
 }
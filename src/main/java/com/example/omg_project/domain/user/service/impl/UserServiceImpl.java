@@ -114,9 +114,7 @@ public class UserServiceImpl implements UserService {
             user.setUsernick(newUserNick);
 
             List<Trip> trips = tripRepository.findByUserId(userId);
-            for (Trip trip : trips) {
-                tripServiceImpl.deleteTrip(trip.getId());
-            }
+            tripServiceImpl.deleteTrips(trips.stream().map(Trip::getId).toList());
 
             // 작성한 댓글과 대댓글 삭제
             joinPostCommentService.deleteByUserId(user.getId());
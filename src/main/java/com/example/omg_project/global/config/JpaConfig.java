@@ -0,0 +1,31 @@
+package com.example.omg_project.global.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 배치 쓰기 설정
+ * - 같은 엔티티의 INSERT/UPDATE를 모아 JDBC 배치로 실행합니다 (IDENTITY가 아닌 ID 생성 전략의 엔티티에 적용).
+ * - 테이블 ID 생성기는 pooled-lo로 동작하여, 한 번의 조회로 allocationSize개의 ID를 할당합니다.
+ * - MySQL에서 배치를 한 번의 다중 행 INSERT로 보내려면 JDBC URL에 rewriteBatchedStatements=true를 추가합니다.
+ */
+@Configuration
+public class JpaConfig {
+
+    @Value("${jpa.batch-size:50}")
+    private int batchSize;
+
+    @Bean
+    public HibernatePropertiesCustomizer batchWriteCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            properties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, true);
+            properties.putIfAbsent(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo");
+        };
+    }
+}
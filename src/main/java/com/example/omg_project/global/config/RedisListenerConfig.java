@@ -1,26 +1,56 @@
 package com.example.omg_project.global.config;
 
-import com.example.omg_project.domain.notification.service.redis.NotificationSubscriber;
+import com.example.omg_project.domain.chat.service.redis.ChatPresenceRegistry;
+import com.example.omg_project.domain.notification.service.redis.NotificationMulticastSubscriber;
+import com.example.omg_project.domain.notification.service.redis.NotificationRouteRegistry;
+import com.example.omg_project.domain.trip.service.redis.TripItineraryCache;
+import com.example.omg_project.global.websocket.RedisBrokerRelay;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.listener.PatternTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.Topic;
-import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Configuration
 public class RedisListenerConfig {
 
+    // 수신한 pub/sub 메시지를 받은 순서대로 리스너에 전달하는 단일 스레드
+    // 기본 실행기는 메시지마다 새 스레드를 만들어, 같은 채팅방의 메시지가 순서가 바뀐 채 전달될 수 있음
+    // 리스너는 송신 큐에 넣거나 로컬 캐시를 갱신하는 정도의 짧은 작업만 해야 함
+    private static final ExecutorService LISTENER_EXECUTOR = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("redis-listener").daemon().factory());
+
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
-                                                                       NotificationSubscriber notificationSubscriber) {
+                                                                       NotificationMulticastSubscriber notificationMulticastSubscriber,
+                                                                       NotificationRouteRegistry notificationRouteRegistry,
+                                                                       ChatPresenceRegistry chatPresenceRegistry,
+                                                                       TripItineraryCache tripItineraryCache,
+                                                                       ObjectProvider<RedisBrokerRelay> redisBrokerRelay) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
+        // 채팅방별 메시지 순서를 유지하도록 한 스레드에서 순서대로 전달
+        container.setTaskExecutor(LISTENER_EXECUTOR);
+
+        // Subscribe to this node's notification channel (only notifications for users connected to this node)
+        container.addMessageListener(notificationMulticastSubscriber, new ChannelTopic(notificationRouteRegistry.getNodeChannel()));
+
+        // Subscribe to the broadcast channel (used when notification.routing.mode=broadcast)
+        container.addMessageListener(notificationMulticastSubscriber, new ChannelTopic(NotificationMulticastSubscriber.CHANNEL));
+
+        // Subscribe to chat presence changes (invalidates each node's local presence cache)
+        container.addMessageListener(chatPresenceRegistry, new ChannelTopic(ChatPresenceRegistry.EVENT_CHANNEL));
+
+        // Subscribe to trip itinerary invalidations (evicts each node's in-process cache)
+        container.addMessageListener(tripItineraryCache, new ChannelTopic(TripItineraryCache.INVALIDATE_CHANNEL));
 
-        // Subscribe to the "notification" channel
-        container.addMessageListener(new MessageListenerAdapter(notificationSubscriber, "onMessage"), new PatternTopic("notification"));
+        // Subscribe to relayed STOMP messages (only when stomp.broker.mode=redis)
+        redisBrokerRelay.ifAvailable(relay -> container.addMessageListener(relay, new ChannelTopic(RedisBrokerRelay.CHANNEL)));
 
         return container;
     }
@@ -59,7 +59,8 @@ public class SecurityConfig {
     // 관리자 페이지
     String[] adminAllowPage = new String[] {
             "/admin",
-            "/admin/**"
+            "/admin/**",
+            "/api/notification/counts"  // 여러 사용자의 읽지 않은 알림 수
     };
 
     @Bean
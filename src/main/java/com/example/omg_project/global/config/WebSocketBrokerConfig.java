@@ -0,0 +1,150 @@
+package com.example.omg_project.global.config;
+
+import com.example.omg_project.global.websocket.RedisBrokerRelay;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+/**
+ * STOMP 메시지 브로커 설정
+ * 채팅용 WebSocket 핸들러 설정(WebSocketConfig)과 분리하여, SimpMessagingTemplate이 채팅 핸들러 빈에 의존하지 않도록 합니다.
+ *
+ * 브로커는 stomp.broker.mode로 선택합니다.
+ * - simple : 서버마다 메모리 브로커 사용 (기본값, 단일 서버)
+ * - relay  : 외부 STOMP 브로커(RabbitMQ, ActiveMQ 등)로 중계하여 모든 서버가 같은 구독을 공유
+ * - redis  : 메모리 브로커를 사용하되, 메시지를 Redis pub/sub으로 모든 서버에 전달 (RedisBrokerRelay)
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketBrokerConfig implements WebSocketMessageBrokerConfigurer {
+
+    @Value("${stomp.broker.mode:simple}")
+    private String brokerMode;
+
+    // STOMP 하트비트 간격 (서버 -> 클라이언트, 클라이언트 -> 서버)
+    @Value("${stomp.broker.heartbeat-send-ms:10000}")
+    private long heartbeatSendMillis;
+    @Value("${stomp.broker.heartbeat-receive-ms:10000}")
+    private long heartbeatReceiveMillis;
+
+    // 외부 브로커 연결 설정 (relay 모드)
+    @Value("${stomp.broker.relay.host:localhost}")
+    private String relayHost;
+    @Value("${stomp.broker.relay.port:61613}")
+    private int relayPort;
+    @Value("${stomp.broker.relay.client-login:guest}")
+    private String clientLogin;
+    @Value("${stomp.broker.relay.client-passcode:guest}")
+    private String clientPasscode;
+    @Value("${stomp.broker.relay.system-login:guest}")
+    private String systemLogin;
+    @Value("${stomp.broker.relay.system-passcode:guest}")
+    private String systemPasscode;
+    @Value("${stomp.broker.relay.virtual-host:}")
+    private String virtualHost;
+
+    // 클라이언트 수신/송신 채널 스레드 풀
+    @Value("${stomp.channel.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+    @Value("${stomp.channel.inbound.max-pool-size:16}")
+    private int inboundMaxPoolSize;
+    @Value("${stomp.channel.inbound.queue-capacity:10000}")
+    private int inboundQueueCapacity;
+    @Value("${stomp.channel.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+    @Value("${stomp.channel.outbound.max-pool-size:16}")
+    private int outboundMaxPoolSize;
+    @Value("${stomp.channel.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    // 느린 클라이언트로 보내는 시간과 버퍼 한도 (넘으면 세션을 닫아 메모리가 쌓이지 않도록 함)
+    @Value("${stomp.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimitMillis;
+    @Value("${stomp.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+    @Value("${stomp.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    private final ObjectProvider<RedisBrokerRelay> redisBrokerRelay;
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    public WebSocketBrokerConfig(ObjectProvider<RedisBrokerRelay> redisBrokerRelay) {
+        this.redisBrokerRelay = redisBrokerRelay;
+    }
+
+    /**
+     * 메모리 브로커의 하트비트 전송에 사용할 스케줄러 (브로커 설정이 만드는 스케줄러를 지연 주입)
+     */
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler taskScheduler) {
+        this.messageBrokerTaskScheduler = taskScheduler;
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry config) {
+        // 메시지 브로커 설정
+        long[] heartbeat = {heartbeatSendMillis, heartbeatReceiveMillis};
+        if ("relay".equals(brokerMode)) {
+            config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(clientLogin)
+                    .setClientPasscode(clientPasscode)
+                    .setSystemLogin(systemLogin)
+                    .setSystemPasscode(systemPasscode)
+                    .setVirtualHost(virtualHost.isBlank() ? null : virtualHost)
+                    .setSystemHeartbeatSendInterval(heartbeatSendMillis)
+                    .setSystemHeartbeatReceiveInterval(heartbeatReceiveMillis);
+        } else {
+            config.enableSimpleBroker("/topic", "/queue")
+                    .setHeartbeatValue(heartbeat)
+                    .setTaskScheduler(messageBrokerTaskScheduler);
+        }
+        if ("redis".equals(brokerMode)) {
+            // 브로커 채널로 들어온 메시지를 메모리 브로커로 전달하면서 Redis로 발행하고, 다른 서버가 발행한 메시지도 메모리 브로커로 전달
+            config.configureBrokerChannel().interceptors(redisBrokerRelay.getObject());
+        }
+        config.setApplicationDestinationPrefixes("/app");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(inboundCorePoolSize)
+                .maxPoolSize(inboundMaxPoolSize)
+                .queueCapacity(inboundQueueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMillis)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit);
+    }
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        // STOMP 엔드포인트 설정
+        registry.addEndpoint("/ws")
+                .setAllowedOrigins("http://localhost:8080") // CORS 설정
+                .withSockJS();
+    }
+}
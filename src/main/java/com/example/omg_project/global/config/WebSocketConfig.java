@@ -5,14 +5,12 @@ import com.example.omg_project.domain.chat.websocket.WebSocketHandler;
 import com.example.omg_project.domain.notification.websocket.NotificationWebSocketHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.*;
 
 @Configuration
 @EnableWebSocket
-@EnableWebSocketMessageBroker
 @RequiredArgsConstructor
-public class WebSocketConfig implements WebSocketConfigurer, WebSocketMessageBrokerConfigurer {
+public class WebSocketConfig implements WebSocketConfigurer {
 
     private final CustomHandshakeInterceptor customHandshakeInterceptor;
     private final WebSocketHandler myWebSocketHandler;
@@ -29,19 +27,4 @@ public class WebSocketConfig implements WebSocketConfigurer, WebSocketMessageBro
                 .setAllowedOrigins("*") // CORS 설정
                 .addInterceptors(customHandshakeInterceptor);
     }
-
-    @Override
-    public void configureMessageBroker(MessageBrokerRegistry config) {
-        // 메시지 브로커 설정
-        config.enableSimpleBroker("/topic", "/queue");
-        config.setApplicationDestinationPrefixes("/app");
-    }
-
-    @Override
-    public void registerStompEndpoints(StompEndpointRegistry registry) {
-        // STOMP 엔드포인트 설정
-        registry.addEndpoint("/ws")
-                .setAllowedOrigins("http://localhost:8080") // CORS 설정
-                .withSockJS();
-    }
 }
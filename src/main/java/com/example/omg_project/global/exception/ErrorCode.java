@@ -37,6 +37,8 @@ public enum ErrorCode {
     INVALID_MESSAGE_FORMAT("CHAT_004", "올바른 메시지 형식이 아닙니다.", HttpStatus.BAD_REQUEST),
     TEAM_NOT_FOUND("CHAT_005", "채팅방에 해당하는 팀이 없습니다.", HttpStatus.NOT_FOUND),
     TRIP_NOT_FOUND("CHAT_006", "여행 정보를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    INVALID_HISTORY_CURSOR("CHAT_007", "before와 after는 함께 사용할 수 없습니다.", HttpStatus.BAD_REQUEST),
+    MESSAGE_TOO_LONG("CHAT_008", "메시지가 너무 깁니다.", HttpStatus.BAD_REQUEST),
 
     // Notification Errors
     JSON_PROCESSING_ERROR("NOTIF_001", "JSON 처리 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
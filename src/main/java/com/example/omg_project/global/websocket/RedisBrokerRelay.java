@@ -0,0 +1,114 @@
+package com.example.omg_project.global.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Redis pub/sub으로 STOMP 메시지를 모든 서버의 SimpleBroker에 전달하는 릴레이 (stomp.broker.mode=redis)
+ * - 브로커 채널로 들어온 메시지를 로컬 브로커로 전달하면서, 보낸 서버의 ID를 붙여 Redis 채널("stomp:broker:relay")로 발행합니다.
+ *   (preSend에서 null을 반환하면 SimpMessagingTemplate이 전송 실패로 보고 예외를 던지므로, 로컬 전달은 막지 않습니다.)
+ * - 다른 서버는 Redis에서 받은 메시지를 자신의 브로커 채널로 다시 보내 자신에게 연결된 구독자에게 전달하고,
+ *   보낸 서버는 이미 전달했으므로 자신이 발행한 메시지를 건너뜁니다.
+ * - 이미 수신자가 이 서버에 있다고 알려진 메시지는 NODE_LOCAL 헤더를 붙여 보내면 Redis를 거치지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "stomp.broker.mode", havingValue = "redis")
+public class RedisBrokerRelay implements ChannelInterceptor, MessageListener {
+
+    public static final String CHANNEL = "stomp:broker:relay";
+
+    // 이 서버의 구독자에게만 보내는 메시지임을 표시하는 헤더 (SimpMessagingTemplate.convertAndSend의 headers로 전달)
+    public static final String NODE_LOCAL_HEADER = "x-node-local";
+    public static final Map<String, Object> NODE_LOCAL = Map.of(NODE_LOCAL_HEADER, "true");
+
+    // Redis에서 받아 다시 보내는 메시지임을 표시하는 헤더 (다시 발행하지 않도록 함)
+    private static final String RELAYED_HEADER = "relayed";
+
+    private static final byte[] CHANNEL_BYTES = CHANNEL.getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MessageChannel brokerChannel;
+
+    // 자신이 발행한 메시지를 구분하기 위한 서버 ID
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private record RelayedMessage(String origin, String destination, String contentType, byte[] payload) {
+    }
+
+    public RedisBrokerRelay(StringRedisTemplate stringRedisTemplate,
+                            ObjectMapper objectMapper,
+                            @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.brokerChannel = brokerChannel;
+    }
+
+    /**
+     * 브로커 채널로 들어온 메시지를 Redis로 발행 (로컬 브로커로는 그대로 전달)
+     */
+    @Override
+    public org.springframework.messaging.Message<?> preSend(org.springframework.messaging.Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, SimpMessageHeaderAccessor.class);
+        if (accessor == null || accessor.getMessageType() != SimpMessageType.MESSAGE
+                || accessor.getHeader(RELAYED_HEADER) != null || accessor.getFirstNativeHeader(NODE_LOCAL_HEADER) != null
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+        try {
+            MimeType contentType = accessor.getContentType();
+            byte[] body = objectMapper.writeValueAsBytes(new RelayedMessage(nodeId, accessor.getDestination(),
+                    contentType != null ? contentType.toString() : null, payload));
+            stringRedisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(CHANNEL_BYTES, body));
+        } catch (Exception e) {
+            // Redis로 보내지 못해도 이 서버의 구독자에게는 전달
+            log.warn("STOMP 메시지 릴레이 실패 :: {}", accessor.getDestination(), e);
+        }
+        return message;
+    }
+
+    /**
+     * 다른 서버가 발행한 메시지를 이 서버의 브로커 채널로 전달
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        RelayedMessage relayed;
+        try {
+            relayed = objectMapper.readValue(message.getBody(), RelayedMessage.class);
+        } catch (IOException e) {
+            log.warn("STOMP 릴레이 메시지 변환 실패", e);
+            return;
+        }
+        if (nodeId.equals(relayed.origin())) {
+            return;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(relayed.destination());
+        if (relayed.contentType() != null) {
+            accessor.setContentType(MimeType.valueOf(relayed.contentType()));
+        }
+        accessor.setHeader(RELAYED_HEADER, Boolean.TRUE);
+        brokerChannel.send(MessageBuilder.createMessage(relayed.payload(), accessor.getMessageHeaders()));
+    }
+}
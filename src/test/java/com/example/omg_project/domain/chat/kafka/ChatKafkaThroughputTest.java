@@ -0,0 +1,133 @@
+package com.example.omg_project.domain.chat.kafka;
+
+import com.example.omg_project.domain.chat.config.KafkaConsumerConfig;
+import com.example.omg_project.domain.chat.config.KafkaProducerConfig;
+import com.example.omg_project.domain.chat.config.KafkaTopicConfig;
+import com.example.omg_project.domain.chat.dto.ChatEnvelope;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채팅 Kafka 리스너 처리량 테스트
+ * 리스너 컨테이너의 컨슈머 수를 늘려가며, 파티션 할당이 끝난 뒤 ChatMessageProducer로 보낸 메시지를 모두 처리한 초당 메시지 수를 출력합니다.
+ * 레코드마다 저장 비용을 흉내 낸 지연을 두어, 파티션별 병렬 처리로 처리량이 늘어나는지와 채팅방별 순서가 유지되는지 확인합니다.
+ */
+@SpringJUnitConfig({KafkaProducerConfig.class, KafkaConsumerConfig.class})
+@EmbeddedKafka(topics = KafkaTopicConfig.CHAT_TOPIC, partitions = ChatKafkaThroughputTest.PARTITIONS, bootstrapServersProperty = "spring.kafka.bootstrap-servers")
+class ChatKafkaThroughputTest {
+
+    static final int PARTITIONS = 4;
+    private static final int ROOMS = 400;
+    private static final int MESSAGES = 2000;
+    private static final long WORK_MILLIS_PER_RECORD = 2;
+
+    @Autowired
+    private KafkaTemplate<String, ChatEnvelope> kafkaTemplate;
+
+    @Autowired
+    private ConcurrentKafkaListenerContainerFactory<String, ChatEnvelope> kafkaListenerContainerFactory;
+
+    @Test
+    void throughputRisesWithConsumers() throws Exception {
+        Map<Integer, Double> throughput = new ConcurrentHashMap<>();
+        System.out.printf("%10s %14s%n", "consumers", "messages/sec");
+        for (int consumers : new int[]{1, 2, 4}) {
+            double messagesPerSecond = run(consumers);
+            throughput.put(consumers, messagesPerSecond);
+            System.out.printf("%10d %14.1f%n", consumers, messagesPerSecond);
+        }
+
+        assertThat(throughput.get(2)).isGreaterThan(throughput.get(1) * 1.3);
+        assertThat(throughput.get(4)).isGreaterThan(throughput.get(1) * 2);
+    }
+
+    /**
+     * 새 컨슈머 그룹의 파티션 할당이 끝나면 컨테이너를 멈추고 메시지를 모두 보낸 뒤, 다시 시작해서 모두 처리할 때까지 걸린 시간으로 처리량을 계산
+     * 메시지 내용에 컨슈머 수를 붙여, 이전 실행에서 보낸 메시지는 지연 없이 건너뜁니다.
+     */
+    private double run(int consumers) throws Exception {
+        String runTag = consumers + ":";
+        CountDownLatch received = new CountDownLatch(MESSAGES);
+        Map<Long, Integer> lastSequenceByRoom = new ConcurrentHashMap<>();
+        AtomicInteger outOfOrder = new AtomicInteger();
+
+        ConcurrentMessageListenerContainer<String, ChatEnvelope> container =
+                kafkaListenerContainerFactory.createContainer(KafkaTopicConfig.CHAT_TOPIC);
+        container.setConcurrency(consumers);
+        container.getContainerProperties().setGroupId("chat-throughput-" + consumers);
+        container.getContainerProperties().getKafkaConsumerProperties().setProperty(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        container.getContainerProperties().setMessageListener((BatchMessageListener<String, ChatEnvelope>) records -> {
+            for (ConsumerRecord<String, ChatEnvelope> record : records) {
+                String body = record.value().body();
+                if (!body.startsWith(runTag)) {
+                    continue;
+                }
+                // 같은 채팅방의 메시지는 보낸 순서대로 와야 함
+                int sequence = Integer.parseInt(body.substring(runTag.length()));
+                Integer previous = lastSequenceByRoom.put(record.value().roomId(), sequence);
+                if (previous != null && previous > sequence) {
+                    outOfOrder.incrementAndGet();
+                }
+                sleep(WORK_MILLIS_PER_RECORD);
+                received.countDown();
+            }
+        });
+
+        long started;
+        container.start();
+        try {
+            ContainerTestUtils.waitForAssignment(container, PARTITIONS);
+            container.pause();
+            awaitPaused(container);
+
+            ChatMessageProducer producer = new ChatMessageProducer(kafkaTemplate);
+            for (int i = 0; i < MESSAGES; i++) {
+                producer.sendMessage(ChatEnvelope.of((long) (i % ROOMS), 1L, "tester", ChatEnvelope.MessageType.TEXT, runTag + i, null));
+            }
+            kafkaTemplate.flush();
+
+            started = System.nanoTime();
+            container.resume();
+            assertThat(received.await(60, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            container.stop();
+        }
+        double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        assertThat(outOfOrder.get()).isZero();
+        return MESSAGES / elapsedSeconds;
+    }
+
+    private static void awaitPaused(ConcurrentMessageListenerContainer<?, ?> container) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!container.isContainerPaused()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            sleep(10);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.example.omg_project.domain.chat.kafka;
+
+import com.example.omg_project.domain.chat.dto.ChatEnvelope;
+import com.example.omg_project.domain.chat.entity.ChatRoom;
+import com.example.omg_project.domain.chat.repository.ChatMessageBatchRepository;
+import com.example.omg_project.domain.chat.repository.ChatRoomRepository;
+import com.example.omg_project.domain.chat.service.BadWordService;
+import com.example.omg_project.domain.chat.service.redis.ChatPresenceRegistry;
+import com.example.omg_project.domain.chat.service.redis.ChatRecentMessageCache;
+import com.example.omg_project.domain.chat.service.redis.ChatRoomBroadcaster;
+import com.example.omg_project.domain.chat.service.redis.ChatUnreadCounter;
+import com.example.omg_project.domain.chat.websocket.ChatSessionRegistry;
+import com.example.omg_project.domain.notification.service.NotificationCoalescer;
+import com.example.omg_project.domain.notification.service.redis.NotificationPublisher;
+import com.example.omg_project.domain.notification.service.redis.NotificationRouteRegistry;
+import com.example.omg_project.domain.notification.service.redis.NotificationStream;
+import com.example.omg_project.domain.trip.entity.City;
+import com.example.omg_project.domain.trip.entity.Team;
+import com.example.omg_project.domain.trip.entity.Trip;
+import com.example.omg_project.domain.trip.repository.TeamRepository;
+import com.example.omg_project.domain.user.entity.User;
+import com.example.omg_project.domain.user.repository.UserRepository;
+import com.example.omg_project.support.EmbeddedRedis;
+import com.example.omg_project.support.RedisRoundTripCounter;
+import com.example.omg_project.support.StatementCounter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 채팅 메시지 하나의 fan-out 비용 벤치마크
+ * 팀 인원을 늘려가며 ChatMessageListener가 메시지 하나를 저장하고, 멤버와 접속자를 조회해
+ * 안 읽은 메시지 수를 늘리고 알림을 보내기까지 실행한 SQL 수, Redis 요청 왕복 수, 걸린 시간을 출력합니다.
+ * DB는 MySQL 호환 모드의 H2, Redis는 내장 서버를 사용하며, 팀 인원과 관계없이 SQL 수와 Redis 왕복 수가 같아야 합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:chat-fan-out;MODE=MySQL;NON_KEYWORDS=DAY",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ChatMessageBatchRepository.class, StatementCounter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChatMessageFanOutBenchmarkTest {
+
+    private static final int[] TEAM_SIZES = {2, 5, 10, 30, 100};
+
+    @Autowired
+    private ChatMessageBatchRepository chatMessageBatchRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final RedisRoundTripCounter redisRoundTrips = new RedisRoundTripCounter();
+    private EmbeddedRedis redis;
+    private ChatMessageListener listener;
+    private TransactionTemplate transactionTemplate;
+    private City city;
+    private int userSequence;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = EmbeddedRedis.start();
+        StringRedisTemplate stringRedisTemplate = new StringRedisTemplate(redisRoundTrips.wrap(redis.connectionFactory()));
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        BadWordService badWordService = mock(BadWordService.class);
+        when(badWordService.filterMessage(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        NotificationRouteRegistry notificationRouteRegistry = new NotificationRouteRegistry(stringRedisTemplate, "bench", 60_000);
+        NotificationPublisher notificationPublisher = new NotificationPublisher(stringRedisTemplate, objectMapper, notificationRouteRegistry,
+                new NotificationStream(stringRedisTemplate, objectMapper, 200, 86_400, 300_000), "targeted");
+
+        listener = new ChatMessageListener(chatMessageBatchRepository, chatRoomRepository, userRepository, badWordService,
+                new NotificationCoalescer(notificationPublisher, meterRegistry, 3000), teamRepository,
+                new ChatRoomBroadcaster(stringRedisTemplate, mock(RedisMessageListenerContainer.class), mock(ChatSessionRegistry.class)),
+                new ChatRecentMessageCache(stringRedisTemplate, meterRegistry, 100, 1000, 86_400),
+                new ChatPresenceRegistry(stringRedisTemplate, mock(ChatSessionRegistry.class), mock(SimpMessagingTemplate.class), 30_000),
+                new ChatUnreadCounter(stringRedisTemplate, 604_800));
+
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        city = transactionTemplate.execute(status -> {
+            City saved = new City();
+            saved.setName("제주");
+            entityManager.persist(saved);
+            return saved;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        redis.close();
+    }
+
+    @Test
+    void fanOutCostStaysFlatAsTeamGrows() {
+        // 첫 실행의 준비 비용이 결과에 섞이지 않도록 한 번 처리
+        fanOut(createTeam(2));
+
+        Long statementBaseline = null;
+        Long roundTripBaseline = null;
+        System.out.printf("%6s %11s %11s %12s %12s%n", "team", "recipients", "statements", "redis-trips", "latency(ms)");
+        for (int teamSize : TEAM_SIZES) {
+            List<Long> members = createTeam(teamSize);
+
+            StatementCounter.reset();
+            redisRoundTrips.reset();
+            long started = System.nanoTime();
+            fanOut(members);
+            double elapsedMillis = (System.nanoTime() - started) / 1_000_000.0;
+
+            long statements = StatementCounter.count();
+            long roundTrips = redisRoundTrips.count();
+            System.out.printf("%6d %11d %11d %12d %12.2f%n", teamSize, teamSize - 1, statements, roundTrips, elapsedMillis);
+
+            if (statementBaseline == null) {
+                statementBaseline = statements;
+                roundTripBaseline = roundTrips;
+            }
+            assertThat(statements).isEqualTo(statementBaseline);
+            assertThat(roundTrips).isEqualTo(roundTripBaseline);
+        }
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_messages", Long.class)).isEqualTo(1 + TEAM_SIZES.length);
+    }
+
+    /**
+     * 팀의 첫 멤버가 보낸 메시지 하나를 Kafka 배치로 받은 것처럼 처리
+     *
+     * @param members 채팅방 ID와 멤버 ID (첫 값이 채팅방 ID)
+     */
+    private void fanOut(List<Long> members) {
+        Long roomId = members.get(0);
+        Long senderId = members.get(1);
+        listener.listen(List.of(ChatEnvelope.of(roomId, senderId, "user" + senderId, ChatEnvelope.MessageType.TEXT, "안녕하세요", null)));
+    }
+
+    /**
+     * 채팅방과 여행, 멤버 수만큼의 사용자로 팀을 만듦
+     *
+     * @return 채팅방 ID와 멤버 ID 목록 (첫 값이 채팅방 ID)
+     */
+    private List<Long> createTeam(int size) {
+        return transactionTemplate.execute(status -> {
+            List<User> users = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                int n = ++userSequence;
+                User user = User.builder()
+                        .username("user" + n + "@example.com").password("password").name("사용자" + n).usernick("user" + n)
+                        .phoneNumber("010-0000-0000").registrationDate(LocalDateTime.now()).birthdate(LocalDate.of(2000, 1, 1))
+                        .gender("F").status("ACTIVE").build();
+                entityManager.persist(user);
+                users.add(user);
+            }
+
+            ChatRoom chatRoom = new ChatRoom();
+            Trip trip = new Trip();
+            trip.setCity(city);
+            trip.setTripName(size + "명 여행");
+            trip.setStartDate(LocalDate.of(2024, 9, 1));
+            trip.setEndDate(LocalDate.of(2024, 9, 3));
+            entityManager.persist(trip);
+
+            Team team = new Team();
+            team.setChatRoom(chatRoom);
+            team.setTrip(trip);
+            team.setInviteCode("invite-" + userSequence);
+            team.setLeader(users.get(0));
+            entityManager.persist(team);
+            entityManager.flush();
+
+            List<Long> ids = new ArrayList<>();
+            ids.add(chatRoom.getId());
+            for (User user : users) {
+                jdbcTemplate.update("INSERT INTO team_user (user_id, team_id) VALUES (?, ?)", user.getId(), team.getId());
+                ids.add(user.getId());
+            }
+            return ids;
+        });
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.omg_project.domain.chat.repository;
+
+import com.example.omg_project.domain.chat.entity.ChatMessage;
+import com.example.omg_project.domain.chat.entity.ChatRoom;
+import com.example.omg_project.domain.user.entity.User;
+import com.example.omg_project.support.StatementCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 안 읽은 메시지 수 조회 쿼리 테스트
+ * 여러 채팅방의 안 읽은 메시지 수를 한 번의 쿼리로 조회한 결과가 채팅방마다 조회한 결과와 같은지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:chat-unread;MODE=MySQL;NON_KEYWORDS=DAY",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(StatementCounter.class)
+class ChatMessageRepositoryTest {
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private ChatReadCursorRepository chatReadCursorRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void countsUnreadOfAllRoomsInOneQuery() {
+        User reader = persistUser(1);
+        User writer = persistUser(2);
+        ChatRoom readRoom = persistRoom();
+        ChatRoom unreadRoom = persistRoom();
+        ChatRoom caughtUpRoom = persistRoom();
+
+        // 읽음 위치 이후 다른 사용자의 메시지 2개와 자신의 메시지 1개
+        long cursor = persistMessage(readRoom, writer);
+        persistMessage(readRoom, writer);
+        persistMessage(readRoom, reader);
+        long lastInReadRoom = persistMessage(readRoom, writer);
+        chatReadCursorRepository.advance(reader.getId(), readRoom.getId(), cursor);
+        // 읽음 위치가 없으면 모든 메시지가 안 읽은 메시지
+        persistMessage(unreadRoom, writer);
+        long lastInUnreadRoom = persistMessage(unreadRoom, writer);
+        // 마지막 메시지까지 읽은 채팅방은 결과에서 빠짐
+        long lastInCaughtUpRoom = persistMessage(caughtUpRoom, writer);
+        chatReadCursorRepository.advance(reader.getId(), caughtUpRoom.getId(), lastInCaughtUpRoom);
+        entityManager.flush();
+        entityManager.clear();
+
+        StatementCounter.reset();
+        Map<Long, ChatMessageRepository.UnreadCountView> views = new HashMap<>();
+        for (ChatMessageRepository.UnreadCountView view : chatMessageRepository.countUnreadByRoomIds(reader.getId(),
+                List.of(readRoom.getId(), unreadRoom.getId(), caughtUpRoom.getId()))) {
+            views.put(view.getChatRoomId(), view);
+        }
+        assertThat(StatementCounter.count()).isEqualTo(1);
+
+        assertThat(views).containsOnlyKeys(readRoom.getId(), unreadRoom.getId());
+        assertThat(views.get(readRoom.getId()).getUnreadCount()).isEqualTo(2);
+        assertThat(views.get(readRoom.getId()).getLastMessageId()).isEqualTo(lastInReadRoom);
+        assertThat(views.get(unreadRoom.getId()).getUnreadCount()).isEqualTo(2);
+        assertThat(views.get(unreadRoom.getId()).getLastMessageId()).isEqualTo(lastInUnreadRoom);
+
+        ChatMessageRepository.UnreadCountView single = chatMessageRepository.countUnread(readRoom.getId(), cursor, reader.getId()).orElseThrow();
+        assertThat(single.getUnreadCount()).isEqualTo(2);
+        assertThat(single.getLastMessageId()).isEqualTo(lastInReadRoom);
+        assertThat(chatMessageRepository.countUnread(caughtUpRoom.getId(), lastInCaughtUpRoom, reader.getId())).isEmpty();
+    }
+
+    private User persistUser(int n) {
+        User user = User.builder()
+                .username("user" + n + "@example.com").password("password").name("사용자" + n).usernick("user" + n)
+                .phoneNumber("010-0000-0000").registrationDate(LocalDateTime.now()).birthdate(LocalDate.of(2000, 1, 1))
+                .gender("F").status("ACTIVE").build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    private ChatRoom persistRoom() {
+        ChatRoom chatRoom = new ChatRoom();
+        entityManager.persist(chatRoom);
+        return chatRoom;
+    }
+
+    private long persistMessage(ChatRoom chatRoom, User user) {
+        ChatMessage chatMessage = new ChatMessage();
+        chatMessage.setChatRoom(chatRoom);
+        chatMessage.setUser(user);
+        chatMessage.setUserNickname(user.getUsernick());
+        chatMessage.setMessage("안녕하세요");
+        entityManager.persist(chatMessage);
+        return chatMessage.getId();
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.omg_project.domain.chat.service.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BadWordMatcher 벤치마크
+ * 1k, 10k, 50k 단어 사전마다 매처 생성 시간과 메시지 하나를 가리는 데 걸린 시간을 출력하고,
+ * 비교용으로 이전 방식(단어마다 contains 후 replaceAll)의 시간도 함께 출력합니다.
+ * 매처는 메시지를 한 번만 순회하므로, 사전이 커져도 메시지당 시간이 거의 늘어나지 않아야 합니다.
+ */
+class BadWordMatcherBenchmarkTest {
+
+    private static final int[] DICTIONARY_SIZES = {1_000, 10_000, 50_000};
+    private static final int MESSAGES = 2_000;
+    private static final int MATCHER_ROUNDS = 10;
+    // 이전 방식은 느리므로 한 번만 워밍업하고 측정
+    private static final int REPLACE_ALL_ROUNDS = 1;
+    private static final String MASK = "***";
+
+    @Test
+    void maskCostStaysFlatAsDictionaryGrows() {
+        Random random = new Random(42);
+        Map<Integer, Double> matcherNanos = new HashMap<>();
+        Map<Integer, Double> replaceAllNanos = new HashMap<>();
+
+        System.out.printf("%10s %12s %16s %19s%n", "words", "build(ms)", "matcher(ns/msg)", "replaceAll(ns/msg)");
+        for (int size : DICTIONARY_SIZES) {
+            List<String> words = dictionary(random, size);
+            List<String> messages = messages(random, words);
+
+            long started = System.nanoTime();
+            BadWordMatcher matcher = BadWordMatcher.of(words);
+            double buildMillis = (System.nanoTime() - started) / 1_000_000.0;
+            assertThat(matcher.size()).isEqualTo(size);
+
+            matcherNanos.put(size, nanosPerMessage(messages, message -> matcher.mask(message, MASK), MATCHER_ROUNDS));
+            replaceAllNanos.put(size, nanosPerMessage(messages, message -> replaceAll(words, message), REPLACE_ALL_ROUNDS));
+            System.out.printf("%10d %12.1f %16.0f %19.0f%n", size, buildMillis, matcherNanos.get(size), replaceAllNanos.get(size));
+        }
+
+        // 사전이 50배 커져도 메시지당 시간은 몇 배 이내여야 함 (이전 방식은 단어 수에 비례)
+        assertThat(matcherNanos.get(50_000)).isLessThan(matcherNanos.get(1_000) * 5);
+        assertThat(matcherNanos.get(50_000)).isLessThan(replaceAllNanos.get(50_000));
+    }
+
+    /**
+     * 메시지 전체를 rounds번 처리하여 JIT 워밍업한 뒤, 다시 rounds번 처리한 시간으로 메시지당 평균 시간을 계산
+     */
+    private static double nanosPerMessage(List<String> messages, UnaryOperator<String> filter, int rounds) {
+        long sink = 0;
+        for (int round = 0; round < rounds; round++) {
+            for (String message : messages) {
+                sink += filter.apply(message).length();
+            }
+        }
+        long started = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            for (String message : messages) {
+                sink += filter.apply(message).length();
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+        assertThat(sink).isPositive();
+        return (double) elapsed / ((long) rounds * messages.size());
+    }
+
+    /**
+     * 이전 BadWordServiceImpl.filterMessage와 같은 방식 (단어마다 contains 후 정규식 replaceAll)
+     */
+    private static String replaceAll(List<String> words, String message) {
+        for (String word : words) {
+            if (message.contains(word)) {
+                message = message.replaceAll(word, MASK);
+            }
+        }
+        return message;
+    }
+
+    // 한글 음절 2~4자로 된 서로 다른 단어
+    private static List<String> dictionary(Random random, int size) {
+        Set<String> words = new LinkedHashSet<>();
+        while (words.size() < size) {
+            words.add(hangul(random, 2 + random.nextInt(3)));
+        }
+        return new ArrayList<>(words);
+    }
+
+    // 30~80자 메시지, 절반은 사전 단어를 하나 포함
+    private static List<String> messages(Random random, List<String> words) {
+        List<String> messages = new ArrayList<>(MESSAGES);
+        for (int i = 0; i < MESSAGES; i++) {
+            String text = hangul(random, 30 + random.nextInt(51));
+            if (i % 2 == 0) {
+                int at = random.nextInt(text.length());
+                text = text.substring(0, at) + words.get(random.nextInt(words.size())) + text.substring(at);
+            }
+            messages.add(text);
+        }
+        return messages;
+    }
+
+    private static String hangul(Random random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('가' + random.nextInt(11172));
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.omg_project.domain.chat.service.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BadWordMatcher 정확성 테스트
+ * 고정된 예시와 함께, 무작위 사전과 메시지에 대해 단어마다 indexOf로 찾는 단순 구현과 결과가 같은지 확인합니다.
+ */
+class BadWordMatcherTest {
+
+    private static final String MASK = "***";
+
+    @Test
+    void masksEveryOccurrence() {
+        BadWordMatcher matcher = BadWordMatcher.of(List.of("바보", "멍청이"));
+
+        assertThat(matcher.mask("바보야 너 멍청이니? 바보바보", MASK)).isEqualTo("***야 너 ***니? ******");
+    }
+
+    @Test
+    void leavesCleanMessageUntouched() {
+        BadWordMatcher matcher = BadWordMatcher.of(List.of("바보"));
+        String message = "안녕하세요, 여행 일정 공유합니다";
+
+        assertThat(matcher.mask(message, MASK)).isSameAs(message);
+    }
+
+    @Test
+    void followsFailureLinks() {
+        BadWordMatcher matcher = BadWordMatcher.of(List.of("he", "she", "his", "hers"));
+
+        assertThat(matcher.mask("ushers", MASK)).isEqualTo("u***");
+        assertThat(matcher.mask("ahishe", MASK)).isEqualTo("a***");
+    }
+
+    @Test
+    void mergesOverlappingAndNestedMatches() {
+        BadWordMatcher matcher = BadWordMatcher.of(List.of("abc", "bcd", "c"));
+
+        assertThat(matcher.mask("xabcdx", MASK)).isEqualTo("x***x");
+        assertThat(matcher.mask("xcx", MASK)).isEqualTo("x***x");
+        // 맞닿은 구간은 합치지 않음
+        assertThat(matcher.mask("abcabc", MASK)).isEqualTo("******");
+    }
+
+    @Test
+    void treatsWordsAsLiteralsNotRegex() {
+        BadWordMatcher matcher = BadWordMatcher.of(List.of(".*", "a+b", "(x)"));
+
+        assertThat(matcher.mask("hello", MASK)).isEqualTo("hello");
+        assertThat(matcher.mask("aab a+b .* (x) x", MASK)).isEqualTo("aab *** *** *** x");
+    }
+
+    @Test
+    void ignoresEmptyNullAndDuplicateWords() {
+        List<String> words = new ArrayList<>(List.of("", "욕", "욕"));
+        words.add(null);
+        BadWordMatcher matcher = BadWordMatcher.of(words);
+
+        assertThat(matcher.size()).isEqualTo(1);
+        assertThat(matcher.mask("욕 금지", MASK)).isEqualTo("*** 금지");
+    }
+
+    @Test
+    void emptyDictionaryReturnsInput() {
+        assertThat(BadWordMatcher.EMPTY.size()).isZero();
+        assertThat(BadWordMatcher.EMPTY.mask("아무 말", MASK)).isEqualTo("아무 말");
+        assertThat(BadWordMatcher.of(List.of("a")).mask(null, MASK)).isNull();
+    }
+
+    @Test
+    void matchesNaiveImplementationOnRandomInput() {
+        Random random = new Random(42);
+        for (int round = 0; round < 500; round++) {
+            List<String> words = new ArrayList<>();
+            int wordCount = 1 + random.nextInt(20);
+            for (int i = 0; i < wordCount; i++) {
+                words.add(randomString(random, 1 + random.nextInt(4)));
+            }
+            String text = randomString(random, random.nextInt(60));
+
+            assertThat(BadWordMatcher.of(words).mask(text, MASK))
+                    .as("words=%s, text=%s", words, text)
+                    .isEqualTo(naiveMask(words, text));
+        }
+    }
+
+    // 작은 알파벳으로 만들어 겹치는 단어가 자주 나오도록 함
+    private static String randomString(Random random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = "abc가".charAt(random.nextInt(4));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 단어마다 모든 위치를 찾아 구간을 모은 뒤, 겹치는 구간을 합쳐서 가리는 단순 구현
+     */
+    private static String naiveMask(List<String> words, String text) {
+        List<int[]> ranges = new ArrayList<>();
+        Set<String> uniqueWords = new HashSet<>(words);
+        for (String word : uniqueWords) {
+            for (int from = text.indexOf(word); from >= 0; from = text.indexOf(word, from + 1)) {
+                ranges.add(new int[]{from, from + word.length()});
+            }
+        }
+        if (ranges.isEmpty()) {
+            return text;
+        }
+        ranges.sort((a, b) -> a[0] != b[0] ? Integer.compare(a[0], b[0]) : Integer.compare(a[1], b[1]));
+
+        List<int[]> merged = new ArrayList<>();
+        for (int[] range : ranges) {
+            int[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && range[0] < last[1]) {
+                last[1] = Math.max(last[1], range[1]);
+            } else {
+                merged.add(Arrays.copyOf(range, 2));
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+        int last = 0;
+        for (int[] range : merged) {
+            sb.append(text, last, range[0]).append(MASK);
+            last = range[1];
+        }
+        return sb.append(text, last, text.length()).toString();
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.omg_project.domain.chat.service.redis;
+
+import com.example.omg_project.domain.chat.websocket.ChatSessionRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * ChatPresenceRegistry의 접속 상태 변경 이벤트 처리 테스트
+ * 이 서버에 채팅방 세션이 없으면 Redis를 다시 조회하거나 접속자 목록을 전송하지 않고 캐시만 무효화하는지 확인합니다.
+ */
+class ChatPresenceRegistryTest {
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final ChatSessionRegistry chatSessionRegistry = mock(ChatSessionRegistry.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+    private final ChatPresenceRegistry registry = new ChatPresenceRegistry(stringRedisTemplate, chatSessionRegistry, messagingTemplate, 30_000);
+
+    @Test
+    void eventForRoomWithoutLocalSessionsOnlyInvalidatesCache() {
+        when(chatSessionRegistry.hasSessions("1")).thenReturn(false);
+
+        registry.onMessage(event("1"), null);
+
+        verifyNoInteractions(stringRedisTemplate, messagingTemplate);
+    }
+
+    @Test
+    void eventForRoomWithLocalSessionsSendsReloadedPresence() {
+        when(chatSessionRegistry.hasSessions("1")).thenReturn(true);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.rangeByScore(eq("chat:presence:1"), anyDouble(), anyDouble())).thenReturn(Set.of("7:session-1"));
+
+        registry.onMessage(event("1"), null);
+
+        verify(messagingTemplate).convertAndSend(eq("/topic/chat/1/presence"), eq((Object) Set.of(7L)), anyMap());
+    }
+
+    @Test
+    void skippedEventStillInvalidatesCache() {
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.rangeByScore(eq("chat:presence:1"), anyDouble(), anyDouble()))
+                .thenReturn(Set.of("7:session-1"), Set.of("7:session-1", "8:session-2"));
+        assertThat(registry.getOnlineUserIds(1L)).containsExactly(7L);
+
+        registry.onMessage(event("1"), null);
+
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class), any(Map.class));
+        assertThat(registry.getOnlineUserIds(1L)).containsExactlyInAnyOrder(7L, 8L);
+    }
+
+    private static DefaultMessage event(String roomId) {
+        return new DefaultMessage(ChatPresenceRegistry.EVENT_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                roomId.getBytes(StandardCharsets.UTF_8));
+    }
+}
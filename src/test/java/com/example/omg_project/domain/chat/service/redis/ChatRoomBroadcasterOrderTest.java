@@ -0,0 +1,121 @@
+package com.example.omg_project.domain.chat.service.redis;
+
+import com.example.omg_project.domain.chat.websocket.ChatOutboundMetrics;
+import com.example.omg_project.domain.chat.websocket.ChatSessionRegistry;
+import com.example.omg_project.domain.chat.websocket.ChatSessionSender;
+import com.example.omg_project.domain.notification.service.redis.NotificationMulticastSubscriber;
+import com.example.omg_project.domain.notification.service.redis.NotificationRouteRegistry;
+import com.example.omg_project.domain.trip.service.redis.TripItineraryCache;
+import com.example.omg_project.global.config.RedisListenerConfig;
+import com.example.omg_project.global.websocket.RedisBrokerRelay;
+import com.example.omg_project.support.EmbeddedRedis;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 채팅방 메시지 전달 순서 테스트
+ * 내장 Redis와 RedisListenerConfig가 만든 리스너 컨테이너로 한 채팅방에 메시지를 연달아 발행하고,
+ * 세션에 모든 메시지가 발행한 순서대로 도착하는지 확인합니다.
+ * 송신자는 이미 보낸 ID 이하의 메시지를 건너뛰므로, 순서가 바뀌면 메시지가 빠져서 실패합니다.
+ */
+class ChatRoomBroadcasterOrderTest {
+
+    private static final String ROOM_ID = "1";
+    private static final int MESSAGES = 2000;
+    private static final String PROBE = "probe";
+
+    private EmbeddedRedis redis;
+    private RedisMessageListenerContainer container;
+    private StringRedisTemplate stringRedisTemplate;
+
+    private final List<Long> received = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = EmbeddedRedis.start();
+        RedisConnectionFactory connectionFactory = redis.connectionFactory();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+
+        NotificationRouteRegistry notificationRouteRegistry = mock(NotificationRouteRegistry.class);
+        when(notificationRouteRegistry.getNodeChannel()).thenReturn("notification:node:test");
+        container = new RedisListenerConfig().redisMessageListenerContainer(connectionFactory,
+                mock(NotificationMulticastSubscriber.class), notificationRouteRegistry, mock(ChatPresenceRegistry.class),
+                mock(TripItineraryCache.class), new StaticListableBeanFactory().getBeanProvider(RedisBrokerRelay.class));
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        container.destroy();
+        redis.close();
+    }
+
+    @Test
+    void messagesOfOneRoomArriveInPublishOrder() throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("session-1");
+        when(session.isOpen()).thenReturn(true);
+        doAnswer(invocation -> {
+            String payload = ((TextMessage) invocation.getArgument(0)).getPayload();
+            if (payload.equals(PROBE)) {
+                return null;
+            }
+            received.add(Long.valueOf(payload.substring("{\"id\":".length(), payload.indexOf(','))));
+            return null;
+        }).when(session).sendMessage(any());
+
+        ChatSessionRegistry registry = new ChatSessionRegistry(new ChatOutboundMetrics(new SimpleMeterRegistry()),
+                MESSAGES * 2, 10_000, ChatSessionSender.OverflowPolicy.DROP_NEWEST);
+        ChatRoomBroadcaster broadcaster = new ChatRoomBroadcaster(stringRedisTemplate, container, registry);
+        broadcaster.join(ROOM_ID, registry.newSender(session, null));
+        awaitSubscribed("chat:room:" + ROOM_ID);
+
+        for (long id = 1; id <= MESSAGES; id++) {
+            broadcaster.publish(ROOM_ID, ("{\"id\":" + id + ",\"message\":\"m" + id + "\"}").getBytes(StandardCharsets.UTF_8));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (received.size() < MESSAGES && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        // 마지막 메시지가 도착한 뒤에도 빠진 메시지가 없어야 함
+        Thread.sleep(200);
+        assertThat(received).containsExactlyElementsOf(LongStream.rangeClosed(1, MESSAGES).boxed().toList());
+    }
+
+    /**
+     * 채널 구독은 비동기로 이루어지므로, 확인용 메시지를 받는 구독자가 생길 때까지 기다림
+     */
+    private void awaitSubscribed(String channel) throws InterruptedException {
+        byte[] channelBytes = channel.getBytes(StandardCharsets.UTF_8);
+        byte[] probe = PROBE.getBytes(StandardCharsets.UTF_8);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (stringRedisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channelBytes, probe)) == 0) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.omg_project.domain.chat.service.redis;
+
+import com.example.omg_project.support.EmbeddedRedis;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ChatUnreadCounter의 읽음 처리와 새 메시지 반영이 겹치는 경우 테스트
+ * 읽음 처리에서 다시 계산한 값과 리스너의 증가가 어떤 순서로 도착해도 같은 메시지를 두 번 세거나 빠뜨리지 않는지 확인합니다.
+ */
+class ChatUnreadCounterTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long ROOM_ID = 10L;
+
+    private EmbeddedRedis redis;
+    private ChatUnreadCounter counter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = EmbeddedRedis.start();
+        counter = new ChatUnreadCounter(new StringRedisTemplate(redis.connectionFactory()), 604_800);
+        // 100번까지 읽었고 101, 102번을 안 읽은 상태
+        counter.load(USER_ID, Map.of(ROOM_ID, 2L), Map.of(ROOM_ID, 102L));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        redis.close();
+    }
+
+    @Test
+    void incrementAfterRecountDoesNotCountMessageTwice() {
+        // 다시 계산할 때 이미 저장된 103번이 포함되었고, 그 뒤에 103번의 증가가 도착
+        assertThat(counter.set(USER_ID, ROOM_ID, 1L, 103L)).isTrue();
+        counter.increment(Map.of(USER_ID, Map.of(ROOM_ID, List.of(103L))));
+
+        assertThat(counter.get(USER_ID)).containsExactlyEntriesOf(Map.of(ROOM_ID, 1L));
+    }
+
+    @Test
+    void recountOlderThanAppliedIncrementIsRejected() {
+        // 다시 계산한 뒤 저장된 103번의 증가가 계산 결과보다 먼저 도착
+        counter.increment(Map.of(USER_ID, Map.of(ROOM_ID, List.of(103L))));
+        assertThat(counter.set(USER_ID, ROOM_ID, 0L, 102L)).isFalse();
+        assertThat(counter.get(USER_ID)).containsExactlyEntriesOf(Map.of(ROOM_ID, 3L));
+
+        // 103번을 포함해 다시 계산하면 반영됨
+        assertThat(counter.set(USER_ID, ROOM_ID, 1L, 103L)).isTrue();
+        assertThat(counter.get(USER_ID)).containsExactlyEntriesOf(Map.of(ROOM_ID, 1L));
+    }
+
+    @Test
+    void incrementCountsOnlyNewMessages() {
+        counter.increment(Map.of(USER_ID, Map.of(ROOM_ID, List.of(101L, 102L, 103L, 104L))));
+        counter.increment(Map.of(USER_ID, Map.of(20L, List.of(5L))));
+
+        assertThat(counter.get(USER_ID)).containsExactlyInAnyOrderEntriesOf(Map.of(ROOM_ID, 4L, 20L, 1L));
+    }
+
+    @Test
+    void removedRoomStartsOverFromNextMessage() {
+        counter.remove(Map.of(USER_ID, List.of(ROOM_ID)));
+        counter.increment(Map.of(USER_ID, Map.of(ROOM_ID, List.of(1L))));
+
+        assertThat(counter.get(USER_ID)).containsExactlyEntriesOf(Map.of(ROOM_ID, 1L));
+    }
+
+    @Test
+    void notLoadedCounterIgnoresUpdates() {
+        counter.evict(USER_ID);
+        counter.increment(Map.of(USER_ID, Map.of(ROOM_ID, List.of(103L))));
+
+        assertThat(counter.set(USER_ID, ROOM_ID, 1L, 103L)).isTrue();
+        assertThat(counter.get(USER_ID)).isNull();
+    }
+}
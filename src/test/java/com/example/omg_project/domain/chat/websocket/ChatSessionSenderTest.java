@@ -0,0 +1,117 @@
+package com.example.omg_project.domain.chat.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ChatSessionSender의 송신 큐 테스트
+ * 세션 종료와 동시에 들어온 메시지가 큐에 남지 않고, 대기 메시지 수가 0으로 돌아오는지 확인합니다.
+ * 재접속 세션에서 중복 메시지만 건너뛰고, 늦게 도착한 더 작은 ID의 메시지는 보내는지 확인합니다.
+ */
+class ChatSessionSenderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ChatOutboundMetrics metrics = new ChatOutboundMetrics(meterRegistry);
+    private final ChatSessionSender.OutboundFrame frame = new ChatSessionSender.OutboundFrame(0L, new TextMessage("{}"));
+
+    @Test
+    void offerThatRacesWithCloseIsDiscarded() throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("session-1");
+
+        // offer가 종료 여부를 확인한 뒤 큐에 넣기 직전에 멈추도록 함
+        CountDownLatch offerChecked = new CountDownLatch(1);
+        CountDownLatch closeDone = new CountDownLatch(1);
+        ChatSessionSender sender = new ChatSessionSender(session, null, 16, 10_000,
+                ChatSessionSender.OverflowPolicy.DROP_OLDEST, metrics) {
+            @Override
+            public boolean checkSendTimeLimit() {
+                offerChecked.countDown();
+                try {
+                    closeDone.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.checkSendTimeLimit();
+            }
+        };
+
+        CompletableFuture<Boolean> offered = CompletableFuture.supplyAsync(() -> sender.offer(frame));
+        assertThat(offerChecked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 종료 처리와 송신 스레드의 마지막 정리가 끝난 뒤에 큐에 들어가도록 함
+        sender.close();
+        Thread.sleep(200);
+        closeDone.countDown();
+
+        assertThat(offered.get(5, TimeUnit.SECONDS)).isFalse();
+        assertThat(queueDepth()).isZero();
+        assertThat(meterRegistry.get("chat.outbound.dropped").tag("reason", "closed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void offerAfterCloseIsDropped() {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("session-2");
+        ChatSessionSender sender = new ChatSessionSender(session, 0L, 16, 10_000,
+                ChatSessionSender.OverflowPolicy.DROP_OLDEST, metrics);
+
+        assertThat(sender.offer(frame)).isTrue();
+        sender.close();
+
+        assertThat(sender.offer(frame)).isFalse();
+        assertThat(queueDepth()).isZero();
+    }
+
+    @Test
+    void skipsOnlyDuplicatesAndKeepsLateFrames() throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("session-3");
+        when(session.isOpen()).thenReturn(true);
+        List<Long> sent = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            sent.add(Long.valueOf(((TextMessage) invocation.getArgument(0)).getPayload()));
+            return null;
+        }).when(session).sendMessage(any());
+
+        // 클라이언트는 10번까지 받았고, 놓친 메시지는 11, 12번
+        ChatSessionSender sender = new ChatSessionSender(session, 10L, 16, 10_000,
+                ChatSessionSender.OverflowPolicy.DROP_OLDEST, metrics);
+        for (long id : new long[]{12, 14, 13, 14, 9, 15}) {
+            sender.offer(chatFrame(id));
+        }
+        sender.resume(List.of(chatFrame(11), chatFrame(12)));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (sent.size() < 5 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(100);
+        // 12는 놓친 메시지로 보냈고, 두 번째 14는 중복, 9는 클라이언트가 이미 받은 메시지
+        assertThat(sent).containsExactly(11L, 12L, 14L, 13L, 15L);
+        assertThat(sender.getLastSentId()).isEqualTo(15L);
+        sender.close();
+    }
+
+    private static ChatSessionSender.OutboundFrame chatFrame(long id) {
+        return new ChatSessionSender.OutboundFrame(id, new TextMessage(String.valueOf(id)));
+    }
+
+    private double queueDepth() {
+        return meterRegistry.get("chat.outbound.queue.depth").gauge().value();
+    }
+}
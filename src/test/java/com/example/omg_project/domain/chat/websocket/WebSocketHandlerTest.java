@@ -0,0 +1,75 @@
+package com.example.omg_project.domain.chat.websocket;
+
+import com.example.omg_project.domain.chat.dto.ChatEnvelope;
+import com.example.omg_project.domain.chat.kafka.ChatMessageProducer;
+import com.example.omg_project.domain.chat.service.ChatService;
+import com.example.omg_project.domain.chat.service.redis.ChatPresenceRegistry;
+import com.example.omg_project.domain.chat.service.redis.ChatRoomBroadcaster;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * WebSocketHandler의 클라이언트 메시지 처리 테스트
+ * 너무 긴 메시지는 Kafka로 보내지 않고, 세션을 닫지 않은 채 보낸 사람에게 오류 프레임만 보내는지 확인합니다.
+ */
+class WebSocketHandlerTest {
+
+    private final ChatMessageProducer chatMessageProducer = mock(ChatMessageProducer.class);
+    private final ChatSessionSender sender = mock(ChatSessionSender.class);
+    private final WebSocketSession session = mock(WebSocketSession.class);
+
+    private WebSocketHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new WebSocketHandler(chatMessageProducer, mock(ChatRoomBroadcaster.class), mock(ChatSessionRegistry.class),
+                mock(ChatService.class), mock(ChatPresenceRegistry.class));
+        ReflectionTestUtils.setField(handler, "maxMessageLength", 10);
+
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("userId", 7L);
+        attributes.put("nickname", "tester");
+        attributes.put("roomId", "3");
+        attributes.put("sender", sender);
+        when(session.getAttributes()).thenReturn(attributes);
+    }
+
+    @Test
+    void oversizedMessageGetsErrorFrameAndKeepsSessionOpen() throws Exception {
+        handler.handleTextMessage(session, new TextMessage("{\"message\":\"" + "가".repeat(11) + "\"}"));
+
+        ArgumentCaptor<ChatSessionSender.OutboundFrame> frame = ArgumentCaptor.forClass(ChatSessionSender.OutboundFrame.class);
+        verify(sender).offer(frame.capture());
+        assertThat(frame.getValue().messageId()).isZero();
+        assertThat(frame.getValue().message().getPayload()).contains("\"type\":\"ERROR\"").contains("CHAT_008");
+        verify(chatMessageProducer, never()).sendMessage(any());
+        verify(session, never()).close();
+        verify(session, never()).close(any(CloseStatus.class));
+    }
+
+    @Test
+    void messageWithinLimitIsProduced() throws Exception {
+        handler.handleTextMessage(session, new TextMessage("{\"message\":\"" + "가".repeat(10) + "\"}"));
+
+        ArgumentCaptor<ChatEnvelope> envelope = ArgumentCaptor.forClass(ChatEnvelope.class);
+        verify(chatMessageProducer).sendMessage(envelope.capture());
+        assertThat(envelope.getValue().roomId()).isEqualTo(3L);
+        assertThat(envelope.getValue().body()).isEqualTo("가".repeat(10));
+        verify(sender, never()).offer(any());
+    }
+}
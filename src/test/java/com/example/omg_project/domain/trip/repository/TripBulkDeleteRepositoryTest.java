@@ -0,0 +1,82 @@
+package com.example.omg_project.domain.trip.repository;
+
+import com.example.omg_project.domain.chat.entity.ChatMessage;
+import com.example.omg_project.domain.chat.entity.ChatRoom;
+import com.example.omg_project.domain.user.entity.User;
+import com.example.omg_project.support.StatementCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채팅 메시지 분할 삭제 테스트
+ * 채팅 메시지를 chunk-size건씩 나누어 삭제하고, 각 삭제가 호출한 쪽의 트랜잭션과 별도로 커밋되는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:trip-bulk-delete;MODE=MySQL;NON_KEYWORDS=DAY",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TripBulkDeleteRepository.class, StatementCounter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TripBulkDeleteRepositoryTest {
+
+    @Autowired
+    private TripBulkDeleteRepository tripBulkDeleteRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void chatMessageChunksCommitIndependentlyOfCaller() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Long roomId = transactionTemplate.execute(status -> {
+            User user = User.builder()
+                    .username("user@example.com").password("password").name("사용자").usernick("user")
+                    .phoneNumber("010-0000-0000").registrationDate(LocalDateTime.now()).birthdate(LocalDate.of(2000, 1, 1))
+                    .gender("F").status("ACTIVE").build();
+            entityManager.persist(user);
+            ChatRoom chatRoom = new ChatRoom();
+            entityManager.persist(chatRoom);
+            for (int i = 0; i < 5; i++) {
+                ChatMessage chatMessage = new ChatMessage();
+                chatMessage.setChatRoom(chatRoom);
+                chatMessage.setUser(user);
+                chatMessage.setUserNickname(user.getUsernick());
+                chatMessage.setMessage("메시지 " + i);
+                entityManager.persist(chatMessage);
+            }
+            return chatRoom.getId();
+        });
+
+        // 호출한 쪽의 트랜잭션이 롤백되어도 나누어 삭제한 메시지는 커밋된 상태
+        StatementCounter.reset();
+        transactionTemplate.executeWithoutResult(status -> {
+            tripBulkDeleteRepository.purgeChatMessages(List.of(roomId), 2);
+            status.setRollbackOnly();
+        });
+
+        assertThat(StatementCounter.count()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_messages", Long.class)).isZero();
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.omg_project.domain.trip.repository;
+
+import com.example.omg_project.domain.trip.entity.City;
+import com.example.omg_project.domain.trip.entity.Trip;
+import com.example.omg_project.domain.trip.entity.TripDate;
+import com.example.omg_project.domain.trip.entity.TripLocation;
+import com.example.omg_project.global.config.JpaConfig;
+import com.example.omg_project.support.StatementCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여행 일정(일정-날짜-위치) 저장 벤치마크
+ * createTrip과 같은 순서로 일정 크기를 늘려가며 저장하고, 실행된 SQL 수와 걸린 시간을 출력합니다.
+ * 날짜와 위치는 ID를 미리 할당받아 배치로 INSERT되므로, SQL 수가 엔티티 수만큼 늘어나지 않아야 합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:trip-graph;MODE=MySQL;NON_KEYWORDS=DAY",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, StatementCounter.class})
+class TripGraphPersistenceBenchmarkTest {
+
+    private static final int LOCATIONS_PER_DAY = 8;
+    private static final int[] DAYS = {1, 5, 10, 30, 60};
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TripRepository tripRepository;
+
+    @Autowired
+    private TripDateRepository tripDateRepository;
+
+    @Autowired
+    private TripLocationRepository tripLocationRepository;
+
+    @Test
+    void statementCountStaysFlatAsTripGrows() {
+        City city = new City();
+        city.setName("서울");
+        entityManager.persist(city);
+        entityManager.flush();
+
+        // 첫 실행의 준비 비용(ID 생성기 행 생성 등)이 결과에 섞이지 않도록 한 번 저장
+        saveTrip(city, 1);
+
+        System.out.printf("%6s %10s %11s %12s%n", "days", "entities", "statements", "latency(ms)");
+        for (int days : DAYS) {
+            StatementCounter.reset();
+            long started = System.nanoTime();
+            saveTrip(city, days);
+            double elapsedMillis = (System.nanoTime() - started) / 1_000_000.0;
+
+            long entities = 1 + days + (long) days * LOCATIONS_PER_DAY;
+            long statements = StatementCounter.count();
+            System.out.printf("%6d %10d %11d %12.2f%n", days, entities, statements, elapsedMillis);
+
+            // 일정 INSERT 1번 + 날짜/위치 배치마다 INSERT 1번과 ID 생성기 조회/갱신 2번
+            long batches = batches(days) + batches((long) days * LOCATIONS_PER_DAY);
+            assertThat(statements).isLessThanOrEqualTo(1 + 3 * batches);
+        }
+    }
+
+    /**
+     * createTrip과 같은 방식으로 일정과 날짜, 위치를 저장하고 DB에 반영
+     */
+    private void saveTrip(City city, int days) {
+        LocalDate startDate = LocalDate.of(2024, 8, 1);
+        Trip trip = new Trip();
+        trip.setTripName("벤치마크 " + days + "일");
+        trip.setStartDate(startDate);
+        trip.setEndDate(startDate.plusDays(days - 1));
+        trip.setCity(city);
+        Trip savedTrip = tripRepository.save(trip);
+
+        List<TripDate> tripDates = new ArrayList<>();
+        List<TripLocation> tripLocations = new ArrayList<>();
+        for (int day = 1; day <= days; day++) {
+            TripDate tripDate = new TripDate();
+            tripDate.setTrip(savedTrip);
+            tripDate.setTripDate(startDate.plusDays(day - 1));
+            tripDate.setDay(day);
+            tripDates.add(tripDate);
+
+            for (int stop = 0; stop < LOCATIONS_PER_DAY; stop++) {
+                TripLocation tripLocation = new TripLocation();
+                tripLocation.setTripDate(tripDate);
+                tripLocation.setPlaceName("장소 " + day + "-" + stop);
+                tripLocation.setLatitude(new BigDecimal("37.566500"));
+                tripLocation.setLongitude(new BigDecimal("126.978000"));
+                tripLocations.add(tripLocation);
+            }
+        }
+        tripDateRepository.saveAll(tripDates);
+        tripLocationRepository.saveAll(tripLocations);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static long batches(long rows) {
+        return (rows + 49) / 50;
+    }
+}
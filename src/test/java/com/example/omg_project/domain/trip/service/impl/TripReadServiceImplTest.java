@@ -0,0 +1,166 @@
+package com.example.omg_project.domain.trip.service.impl;
+
+import com.example.omg_project.domain.trip.dto.ReadTripDTO;
+import com.example.omg_project.domain.trip.entity.City;
+import com.example.omg_project.domain.trip.entity.Trip;
+import com.example.omg_project.domain.trip.entity.TripDate;
+import com.example.omg_project.domain.trip.entity.TripLocation;
+import com.example.omg_project.domain.trip.repository.TripReadRepository;
+import com.example.omg_project.domain.trip.service.redis.TripItineraryCache;
+import com.example.omg_project.global.exception.CustomException;
+import com.example.omg_project.support.StatementCounter;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+/**
+ * TripReadService의 조회 쿼리 수 테스트
+ * 일정 크기나 개수와 관계없이 고정된 수의 쿼리로 ReadTripDTO를 만드는지 확인합니다.
+ * 캐시는 항상 비어 있는 것처럼 동작하도록 하여 DB 조회 경로만 검사합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:trip-read;MODE=MySQL;NON_KEYWORDS=DAY",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TripReadServiceImpl.class, TripReadRepository.class, StatementCounter.class})
+class TripReadServiceImplTest {
+
+    // 일정, 날짜, 위치를 각각 한 번씩 조회
+    private static final long READ_QUERIES = 3;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TripReadServiceImpl tripReadService;
+
+    @MockBean
+    private TripItineraryCache tripItineraryCache;
+
+    private Statistics statistics;
+    private City city;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(tripItineraryCache.getAll(anyCollection(), any())).thenAnswer(invocation -> {
+            Function<Collection<Long>, Map<Long, ReadTripDTO>> loader = invocation.getArgument(1);
+            return loader.apply(invocation.getArgument(0));
+        });
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        city = new City();
+        city.setName("부산");
+        entityManager.persist(city);
+    }
+
+    @Test
+    void getTripUsesFixedQueryCountRegardlessOfTripSize() {
+        for (int days : new int[]{1, 5, 20}) {
+            Long tripId = saveTrip(days, 6);
+
+            resetCounters();
+            ReadTripDTO trip = tripReadService.getTrip(tripId);
+
+            assertThat(StatementCounter.count()).isEqualTo(READ_QUERIES);
+            assertThat(statistics.getPrepareStatementCount()).isZero();
+            assertThat(statistics.getEntityLoadCount()).isZero();
+
+            assertThat(trip.getCity().getName()).isEqualTo("부산");
+            assertThat(trip.getTripDates()).hasSize(days);
+            assertThat(trip.getTripDates()).allSatisfy(date -> assertThat(date.getTripLocations()).hasSize(6));
+            assertThat(trip.getTripDates().get(0).getTripDate()).isEqualTo(trip.getStartDate());
+        }
+    }
+
+    @Test
+    void getTripsUsesFixedQueryCountForAPage() {
+        List<Long> tripIds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tripIds.add(saveTrip(5, 4));
+        }
+
+        resetCounters();
+        List<ReadTripDTO> trips = tripReadService.getTrips(tripIds);
+
+        assertThat(StatementCounter.count()).isEqualTo(READ_QUERIES);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(trips).extracting(ReadTripDTO::getId).containsExactlyElementsOf(tripIds);
+    }
+
+    @Test
+    void lazyEntityTraversalGrowsWithTripSize() {
+        // 비교용: 엔티티를 지연 로딩으로 따라가면 날짜 수만큼 쿼리가 늘어남
+        Long tripId = saveTrip(10, 3);
+
+        resetCounters();
+        Trip trip = entityManager.find(Trip.class, tripId);
+        trip.getTripDates().forEach(date -> date.getTripLocations().size());
+
+        assertThat(statistics.getPrepareStatementCount()).isGreaterThan(10);
+    }
+
+    @Test
+    void getTripThrowsWhenTripDoesNotExist() {
+        assertThatThrownBy(() -> tripReadService.getTrip(Long.MAX_VALUE))
+                .isInstanceOf(CustomException.class);
+    }
+
+    private void resetCounters() {
+        statistics.clear();
+        StatementCounter.reset();
+    }
+
+    private Long saveTrip(int days, int locationsPerDay) {
+        LocalDate startDate = LocalDate.of(2024, 9, 1);
+        Trip trip = new Trip();
+        trip.setTripName(days + "일 일정");
+        trip.setStartDate(startDate);
+        trip.setEndDate(startDate.plusDays(days - 1));
+        trip.setCity(city);
+        entityManager.persist(trip);
+
+        for (int day = 1; day <= days; day++) {
+            TripDate tripDate = new TripDate();
+            tripDate.setTrip(trip);
+            tripDate.setTripDate(startDate.plusDays(day - 1));
+            tripDate.setDay(day);
+            entityManager.persist(tripDate);
+
+            for (int stop = 0; stop < locationsPerDay; stop++) {
+                TripLocation tripLocation = new TripLocation();
+                tripLocation.setTripDate(tripDate);
+                tripLocation.setPlaceName("장소 " + day + "-" + stop);
+                tripLocation.setLatitude(new BigDecimal("35.179500"));
+                tripLocation.setLongitude(new BigDecimal("129.075600"));
+                entityManager.persist(tripLocation);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return trip.getId();
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.omg_project.global.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * STOMP 브로커 소크 테스트
+ * 10,000개 세션이 채팅방 토픽을 구독하고 메시지를 받은 뒤 연결을 끊는 과정을 여러 번 반복하면서,
+ * 구독이 모두 정리되는지와 반복해도 힙 사용량이 늘어나지 않는지 확인합니다.
+ * 실제 WebSocket 연결 대신 클라이언트 수신 채널로 STOMP 프레임을 보내고, 송신 채널에서 전달된 메시지 수를 셉니다.
+ */
+@SpringJUnitWebConfig(WebSocketBrokerConfig.class)
+@TestPropertySource(properties = "stomp.broker.mode=simple")
+class WebSocketBrokerSoakTest {
+
+    private static final int SUBSCRIBERS = 10_000;
+    private static final int ROOMS = 100;
+    private static final int MESSAGES_PER_ROOM = 10;
+    private static final int ROUNDS = 5;
+    private static final long MAX_HEAP_GROWTH_BYTES = 32L * 1024 * 1024;
+
+    @Autowired
+    @Qualifier("clientInboundChannel")
+    private MessageChannel clientInboundChannel;
+
+    @Autowired
+    @Qualifier("clientOutboundChannel")
+    private ExecutorSubscribableChannel clientOutboundChannel;
+
+    @Autowired
+    private SimpMessagingTemplate brokerMessagingTemplate;
+
+    @Autowired
+    private SimpleBrokerMessageHandler simpleBrokerMessageHandler;
+
+    @Test
+    void memoryStaysStableAcrossSubscribeDisconnectRounds() throws Exception {
+        AtomicLong delivered = new AtomicLong();
+        clientOutboundChannel.addInterceptor(new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+                    delivered.incrementAndGet();
+                }
+                return message;
+            }
+        });
+
+        long baselineHeap = 0;
+        System.out.printf("%6s %12s %12s %14s%n", "round", "subscribers", "delivered", "heap-after(MB)");
+        for (int round = 1; round <= ROUNDS; round++) {
+            for (int session = 0; session < SUBSCRIBERS; session++) {
+                String sessionId = round + "-" + session;
+                send(SimpMessageType.CONNECT, sessionId, null, null);
+                send(SimpMessageType.SUBSCRIBE, sessionId, "sub-0", destination(session % ROOMS));
+            }
+            awaitValue(this::subscriptionCount, SUBSCRIBERS);
+
+            delivered.set(0);
+            for (int room = 0; room < ROOMS; room++) {
+                for (int i = 0; i < MESSAGES_PER_ROOM; i++) {
+                    brokerMessagingTemplate.convertAndSend(destination(room), "message " + i);
+                }
+            }
+            awaitValue(delivered::get, (long) SUBSCRIBERS * MESSAGES_PER_ROOM);
+
+            for (int session = 0; session < SUBSCRIBERS; session++) {
+                send(SimpMessageType.DISCONNECT, round + "-" + session, null, null);
+            }
+            awaitValue(this::subscriptionCount, 0);
+
+            long heap = usedHeapAfterGc();
+            if (round == 1) {
+                baselineHeap = heap;
+            }
+            System.out.printf("%6d %12d %12d %14.1f%n", round, SUBSCRIBERS, delivered.get(), heap / 1024.0 / 1024.0);
+        }
+
+        assertThat(usedHeapAfterGc() - baselineHeap).isLessThan(MAX_HEAP_GROWTH_BYTES);
+    }
+
+    private void send(SimpMessageType type, String sessionId, String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        accessor.setLeaveMutable(true);
+        clientInboundChannel.send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+
+    private long subscriptionCount() {
+        long count = 0;
+        for (int room = 0; room < ROOMS; room++) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination(destination(room));
+            Message<byte[]> probe = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+            count += simpleBrokerMessageHandler.getSubscriptionRegistry().findSubscriptions(probe).values().stream()
+                    .mapToLong(subscriptions -> subscriptions.size()).sum();
+        }
+        return count;
+    }
+
+    private static String destination(int room) {
+        return "/topic/chat/" + room;
+    }
+
+    private static void awaitValue(LongSupplier actual, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (actual.getAsLong() != expected) {
+            assertThat(System.nanoTime()).as("expected %d but was %d", expected, actual.getAsLong()).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
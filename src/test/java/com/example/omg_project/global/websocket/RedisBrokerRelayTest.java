@@ -0,0 +1,179 @@
+package com.example.omg_project.global.websocket;
+
+import com.example.omg_project.domain.chat.service.redis.ChatPresenceRegistry;
+import com.example.omg_project.domain.notification.service.redis.NotificationMulticastSubscriber;
+import com.example.omg_project.domain.notification.service.redis.NotificationRouteRegistry;
+import com.example.omg_project.domain.trip.service.redis.TripItineraryCache;
+import com.example.omg_project.global.config.RedisListenerConfig;
+import com.example.omg_project.global.config.WebSocketBrokerConfig;
+import com.example.omg_project.support.EmbeddedRedis;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigUtils;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.context.support.GenericWebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Redis 브로커 모드(stomp.broker.mode=redis) 테스트
+ * 내장 Redis 하나에 연결된 서버 두 대의 브로커 설정을 띄우고, 한 서버에서 보낸 메시지가
+ * 두 서버의 구독자에게 한 번씩만 전달되는지와 NODE_LOCAL 헤더를 붙인 메시지는 Redis를 거치지 않는지 확인합니다.
+ */
+class RedisBrokerRelayTest {
+
+    private static final String DESTINATION = "/topic/chat/1";
+
+    private EmbeddedRedis redis;
+    private Node nodeA;
+    private Node nodeB;
+
+    /**
+     * 서버 한 대의 브로커 설정과, 구독자에게 전달된 메시지("세션ID:내용")
+     */
+    private record Node(GenericWebApplicationContext context, List<String> delivered) {
+
+        void send(SimpMessageType type, String sessionId, String destination) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+            accessor.setSessionId(sessionId);
+            accessor.setSubscriptionId(destination != null ? "sub-0" : null);
+            accessor.setDestination(destination);
+            accessor.setLeaveMutable(true);
+            context.getBean("clientInboundChannel", MessageChannel.class)
+                    .send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+        }
+
+        void subscribe(String sessionId) {
+            send(SimpMessageType.CONNECT, sessionId, null);
+            send(SimpMessageType.SUBSCRIBE, sessionId, DESTINATION);
+        }
+
+        SimpMessagingTemplate messagingTemplate() {
+            return context.getBean("brokerMessagingTemplate", SimpMessagingTemplate.class);
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = EmbeddedRedis.start();
+        nodeA = startNode("a");
+        nodeB = startNode("b");
+        nodeA.subscribe("a-1");
+        nodeB.subscribe("b-1");
+        nodeB.subscribe("b-2");
+        awaitRelaySubscribers(2);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        nodeA.context().close();
+        nodeB.context().close();
+        redis.close();
+    }
+
+    @Test
+    void messageIsDeliveredOncePerSubscriberOnEveryNode() throws Exception {
+        nodeA.messagingTemplate().convertAndSend(DESTINATION, "from-a");
+        nodeB.messagingTemplate().convertAndSend(DESTINATION, "from-b");
+
+        awaitDelivered(nodeA, 2);
+        awaitDelivered(nodeB, 4);
+        // 늦게 도착하는 중복 메시지가 없어야 함
+        Thread.sleep(300);
+        assertThat(nodeA.delivered()).containsExactlyInAnyOrder("a-1:from-a", "a-1:from-b");
+        assertThat(nodeB.delivered()).containsExactlyInAnyOrder("b-1:from-a", "b-2:from-a", "b-1:from-b", "b-2:from-b");
+    }
+
+    @Test
+    void nodeLocalMessageSkipsRelay() throws Exception {
+        nodeA.messagingTemplate().convertAndSend(DESTINATION, "local", RedisBrokerRelay.NODE_LOCAL);
+        // 릴레이 메시지는 발행 순서대로 처리되므로, 뒤에 보낸 메시지가 B에 도착했으면 앞의 메시지가 릴레이되었을 경우 이미 도착한 상태
+        nodeA.messagingTemplate().convertAndSend(DESTINATION, "marker");
+
+        awaitDelivered(nodeA, 2);
+        awaitDelivered(nodeB, 2);
+        Thread.sleep(300);
+        assertThat(nodeA.delivered()).containsExactlyInAnyOrder("a-1:local", "a-1:marker");
+        assertThat(nodeB.delivered()).containsExactlyInAnyOrder("b-1:marker", "b-2:marker");
+    }
+
+    /**
+     * 내장 Redis에 연결한 Redis 브로커 모드의 서버 한 대를 띄움
+     */
+    private Node startNode(String name) {
+        RedisConnectionFactory connectionFactory = redis.connectionFactory();
+        NotificationRouteRegistry notificationRouteRegistry = mock(NotificationRouteRegistry.class);
+        when(notificationRouteRegistry.getNodeChannel()).thenReturn("notification:node:" + name);
+
+        GenericWebApplicationContext context = new GenericWebApplicationContext(new MockServletContext());
+        AnnotationConfigUtils.registerAnnotationConfigProcessors(context);
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", Map.of("stomp.broker.mode", "redis")));
+        context.registerBean(WebSocketBrokerConfig.class);
+        context.registerBean(RedisBrokerRelay.class);
+        context.registerBean(StringRedisTemplate.class, () -> new StringRedisTemplate(connectionFactory));
+        context.registerBean(ObjectMapper.class, () -> new ObjectMapper());
+        context.registerBean(RedisMessageListenerContainer.class, () -> new RedisListenerConfig().redisMessageListenerContainer(
+                connectionFactory, mock(NotificationMulticastSubscriber.class), notificationRouteRegistry,
+                mock(ChatPresenceRegistry.class), mock(TripItineraryCache.class), context.getBeanProvider(RedisBrokerRelay.class)));
+        context.refresh();
+
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        context.getBean("clientOutboundChannel", ExecutorSubscribableChannel.class).addInterceptor(new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+                if (accessor.getMessageType() == SimpMessageType.MESSAGE) {
+                    delivered.add(accessor.getSessionId() + ":" + new String((byte[]) message.getPayload(), StandardCharsets.UTF_8));
+                }
+                return message;
+            }
+        });
+        return new Node(context, delivered);
+    }
+
+    /**
+     * 채널 구독은 비동기로 이루어지므로, 두 서버가 모두 릴레이 채널을 구독할 때까지 기다림
+     * (구독자가 없는 목적지로 가는 메시지를 발행하여 받은 서버 수를 확인)
+     */
+    private void awaitRelaySubscribers(long expected) throws InterruptedException {
+        StringRedisTemplate stringRedisTemplate = nodeA.context().getBean(StringRedisTemplate.class);
+        byte[] channel = RedisBrokerRelay.CHANNEL.getBytes(StandardCharsets.UTF_8);
+        byte[] probe = "{\"destination\":\"/topic/probe\",\"contentType\":null,\"payload\":\"\"}".getBytes(StandardCharsets.UTF_8);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (stringRedisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channel, probe)) < expected) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private static void awaitDelivered(Node node, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (node.delivered().size() < expected) {
+            assertThat(System.nanoTime()).as("delivered %s", node.delivered()).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+}
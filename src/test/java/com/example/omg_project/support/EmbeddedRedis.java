@@ -0,0 +1,61 @@
+package com.example.omg_project.support;
+
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 테스트용 내장 Redis 서버
+ * 비어 있는 포트에서 실제 Redis 서버를 띄우고, 그 서버에 연결하는 연결 팩토리를 만듭니다.
+ * close하면 만든 연결 팩토리를 모두 닫고 서버를 종료합니다.
+ */
+public final class EmbeddedRedis implements AutoCloseable {
+
+    private final RedisServer server;
+    private final int port;
+    private final List<LettuceConnectionFactory> connectionFactories = new ArrayList<>();
+
+    private EmbeddedRedis(RedisServer server, int port) {
+        this.server = server;
+        this.port = port;
+    }
+
+    /**
+     * 비어 있는 포트에서 Redis 서버를 시작
+     */
+    public static EmbeddedRedis start() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        RedisServer server = new RedisServer(port);
+        server.start();
+        return new EmbeddedRedis(server, port);
+    }
+
+    /**
+     * 이 서버에 연결하는 새 연결 팩토리 (서버 하나를 여러 노드가 공유하는 상황은 팩토리를 여러 개 만들어 흉내 냄)
+     */
+    public LettuceConnectionFactory connectionFactory() {
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        connectionFactories.add(connectionFactory);
+        return connectionFactory;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    @Override
+    public void close() throws IOException {
+        connectionFactories.forEach(LettuceConnectionFactory::destroy);
+        server.stop();
+    }
+}
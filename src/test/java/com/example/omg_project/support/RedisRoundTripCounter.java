@@ -0,0 +1,73 @@
+package com.example.omg_project.support;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테스트에서 Redis로 보낸 요청 왕복 횟수를 세는 연결 팩토리 래퍼
+ * 파이프라인 밖의 명령은 명령마다 한 번, 파이프라인은 명령 수와 관계없이 closePipeline 한 번으로 셉니다.
+ * RedisConnection의 메서드와 stringCommands() 같은 하위 명령 객체의 메서드를 모두 셉니다.
+ */
+public final class RedisRoundTripCounter {
+
+    // 명령이 아닌 연결 관리 메서드
+    private static final Set<String> NON_COMMANDS = Set.of("close", "isClosed", "getNativeConnection", "isQueueing",
+            "isPipelined", "openPipeline", "getSentinelConnection", "getSubscription", "isSubscribed",
+            "toString", "hashCode", "equals");
+
+    private final AtomicLong roundTrips = new AtomicLong();
+
+    public void reset() {
+        roundTrips.set(0);
+    }
+
+    public long count() {
+        return roundTrips.get();
+    }
+
+    /**
+     * 연결 팩토리를 감싸서, 만드는 연결의 요청 왕복 횟수를 셈
+     */
+    public RedisConnectionFactory wrap(RedisConnectionFactory connectionFactory) {
+        return (RedisConnectionFactory) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{RedisConnectionFactory.class}, (proxy, method, args) -> {
+                    Object result = invoke(connectionFactory, method, args);
+                    return result instanceof RedisConnection connection && method.getName().equals("getConnection")
+                            ? proxy(RedisConnection.class, connection, new boolean[1]) : result;
+                });
+    }
+
+    private Object proxy(Class<?> type, Object target, boolean[] pipelined) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.equals("openPipeline")) {
+                pipelined[0] = true;
+            } else if (name.equals("closePipeline")) {
+                pipelined[0] = false;
+                roundTrips.incrementAndGet();
+            } else if (method.getReturnType().isInterface() && method.getReturnType().getSimpleName().endsWith("Commands")) {
+                // 하위 명령 객체는 그 메서드를 셈
+                return proxy(method.getReturnType(), invoke(target, method, args), pipelined);
+            } else if (!NON_COMMANDS.contains(name) && !pipelined[0]) {
+                roundTrips.incrementAndGet();
+            }
+            return invoke(target, method, args);
+        };
+        return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
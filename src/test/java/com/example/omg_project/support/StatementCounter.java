@@ -0,0 +1,75 @@
+package com.example.omg_project.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테스트에서 DB로 보낸 SQL 실행 횟수를 세는 설정
+ * DataSource를 감싸서 Statement의 execute* 호출(배치는 executeBatch 한 번)을 셉니다.
+ * JPA와 JdbcTemplate으로 실행한 SQL, Hibernate ID 생성기가 별도 연결로 실행한 SQL을 모두 포함합니다.
+ */
+@TestConfiguration
+public class StatementCounter {
+
+    private static final AtomicLong EXECUTIONS = new AtomicLong();
+
+    /**
+     * 지금까지 센 실행 횟수를 0으로 되돌림
+     */
+    public static void reset() {
+        EXECUTIONS.set(0);
+    }
+
+    /**
+     * 마지막으로 되돌린 뒤 실행된 SQL 수
+     */
+    public static long count() {
+        return EXECUTIONS.get();
+    }
+
+    @Bean
+    static BeanPostProcessor statementCountingDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? wrap(DataSource.class, dataSource) : bean;
+            }
+        };
+    }
+
+    private static <T> T wrap(Class<T> type, T target) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (target instanceof Statement && method.getName().startsWith("execute")) {
+                EXECUTIONS.incrementAndGet();
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (result instanceof Connection connection && !(target instanceof Connection)) {
+                return wrap(Connection.class, connection);
+            }
+            if (result instanceof Statement statement && target instanceof Connection) {
+                return wrap(statementType(method.getReturnType()), statement);
+            }
+            return result;
+        };
+        return type.cast(Proxy.newProxyInstance(StatementCounter.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<Statement> statementType(Class<?> returnType) {
+        return (Class<Statement>) returnType;
+    }
+}